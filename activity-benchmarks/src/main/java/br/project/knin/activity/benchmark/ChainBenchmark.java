@@ -0,0 +1,81 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityCursor;
+import br.project.knin.activity.ActivityDefinition;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Chains of {@code steps} actions. Every action increments the value, starting at 1, so all values stay inside the
+ * Integer cache and the only allocations measured are the ones made by the library.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = integer -> integer + 1;
+
+    @Param({"1", "5", "20", "100"})
+    private int steps;
+
+    private final Integer entry = 1;
+
+    private ActivityPlan<Integer, Integer> plan;
+
+    private ActivityCursor<Integer, Integer> cursor;
+
+    @Setup
+    public void setup() {
+
+        ActivityDefinition<Integer, Integer, Integer> definition = Activity.contract(0).define();
+
+        for (int i = 0; i < steps; i++) definition = definition.action(INCREMENT);
+
+        plan = definition.exit(Function.identity());
+
+        cursor = plan.cursor();
+
+    }
+
+    @Benchmark
+    public Integer activity() {
+
+        Activity<Integer, Integer, Integer> activity = Activity.contract(0).entry(entry);
+
+        for (int i = 0; i < steps; i++) activity = activity.action(INCREMENT);
+
+        return activity.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer plan() {
+        return plan.apply(entry);
+    }
+
+    @Benchmark
+    public Integer cursor() {
+        return cursor.apply(entry);
+    }
+
+}
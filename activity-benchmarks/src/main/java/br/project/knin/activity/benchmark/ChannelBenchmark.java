@@ -0,0 +1,88 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityCursor;
+import br.project.knin.activity.ActivityDefinition;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Channel fan-out: the same value committed to {@code channels} sinks, alternating plain and mapped channels.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelBenchmark {
+
+    private static final BiFunction<Integer, Integer, Integer> ENTRY = (entry, value) -> entry;
+
+    @Param({"1", "4", "16"})
+    private int channels;
+
+    private final Integer entry = 1;
+
+    private Sink[] sinks;
+
+    private ActivityPlan<Integer, Integer> plan;
+
+    private ActivityCursor<Integer, Integer> cursor;
+
+    @Setup
+    public void setup() {
+
+        sinks = new Sink[channels];
+
+        ActivityDefinition<Integer, Integer, Integer> definition = Activity.contract(0).define();
+
+        for (int i = 0; i < channels; i++) {
+            sinks[i] = new Sink();
+            definition = i % 2 == 0 ? definition.channel(sinks[i]) : definition.channel(ENTRY, sinks[i]);
+        }
+
+        plan = definition.exit(Function.identity());
+
+        cursor = plan.cursor();
+
+    }
+
+    @Benchmark
+    public Integer activity() {
+
+        Activity<Integer, Integer, Integer> activity = Activity.contract(0).entry(entry);
+
+        for (int i = 0; i < channels; i++) activity = i % 2 == 0 ? activity.channel(sinks[i]) : activity.channel(ENTRY, sinks[i]);
+
+        return activity.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer plan() {
+        return plan.apply(entry);
+    }
+
+    @Benchmark
+    public Integer cursor() {
+        return cursor.apply(entry);
+    }
+
+}
@@ -0,0 +1,114 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Four plans of six steps with distinct functions, executed in turn so that the shared call sites of the interpreted
+ * plans see every function. {@code interpreted} runs the plans as compiled by exit, {@code compiled} runs the plans
+ * returned by {@link ActivityPlan#compile()}. Each operation is one plan execution.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledBenchmark {
+
+    private static final int PLANS = 4;
+
+    private final ActivityPlan<Integer, Integer>[] interpreted = plans();
+
+    private final ActivityPlan<Integer, Integer>[] compiled = plans();
+
+    private int entry;
+
+    @SuppressWarnings("unchecked")
+    private static ActivityPlan<Integer, Integer>[] plans() {
+        return (ActivityPlan<Integer, Integer>[]) new ActivityPlan<?, ?>[PLANS];
+    }
+
+    @Setup
+    public void setup() {
+
+        interpreted[0] = Activity
+                .contract(0)
+                .<Integer>define()
+                .decision(integer -> integer >= 0)
+                .action(integer -> integer + 1)
+                .action(integer -> integer * 3)
+                .decision(integer -> integer % 7 != 0)
+                .action((entry, integer) -> entry ^ integer)
+                .action(integer -> integer >>> 1)
+                .exit(Function.identity());
+
+        interpreted[1] = Activity
+                .contract(0)
+                .<Integer>define()
+                .decision(integer -> integer != 13)
+                .action(integer -> integer - 5)
+                .action(integer -> integer << 2)
+                .decision(integer -> (integer & 3) == 0)
+                .action((entry, integer) -> entry + integer)
+                .action(integer -> integer % 1000)
+                .exit(Function.identity());
+
+        interpreted[2] = Activity
+                .contract(0)
+                .<Integer>define()
+                .decision(integer -> integer < 100_000)
+                .action(integer -> integer * integer)
+                .action(Math::abs)
+                .decision(integer -> integer > 3)
+                .action((entry, integer) -> integer - entry)
+                .action(integer -> integer / 3)
+                .exit(Function.identity());
+
+        interpreted[3] = Activity
+                .contract(0)
+                .<Integer>define()
+                .decision(integer -> (integer & 1) == 0 || integer > 5)
+                .action(Integer::reverse)
+                .action(integer -> integer & 0xFFFF)
+                .decision(integer -> integer != 0)
+                .action((entry, integer) -> Math.max(entry, integer))
+                .action(integer -> integer + 11)
+                .exit(Function.identity());
+
+        for (int i = 0; i < PLANS; i++) compiled[i] = interpreted[i].compile();
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLANS)
+    public void interpreted(final Blackhole blackhole) {
+        final int e = entry++ & 1023;
+        for (final ActivityPlan<Integer, Integer> plan : interpreted) blackhole.consume(plan.apply(e));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLANS)
+    public void compiled(final Blackhole blackhole) {
+        final int e = entry++ & 1023;
+        for (final ActivityPlan<Integer, Integer> plan : compiled) blackhole.consume(plan.apply(e));
+    }
+
+}
@@ -0,0 +1,117 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityCursor;
+import br.project.knin.activity.ActivityDefinition;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Decision heavy flows, where twenty decisions pass, and early exit flows, where the first decision fails and the
+ * remaining actions are skipped.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionBenchmark {
+
+    private static final int STEPS = 20;
+
+    private static final Predicate<Integer> POSITIVE = integer -> integer > 0;
+
+    private static final Predicate<Integer> NEGATIVE = integer -> integer < 0;
+
+    private static final Function<Integer, Integer> INCREMENT = integer -> integer + 1;
+
+    private final Integer entry = 1;
+
+    private ActivityPlan<Integer, Integer> decisions;
+
+    private ActivityCursor<Integer, Integer> decisionsCursor;
+
+    private ActivityPlan<Integer, Integer> earlyExit;
+
+    private ActivityCursor<Integer, Integer> earlyExitCursor;
+
+    @Setup
+    public void setup() {
+
+        ActivityDefinition<Integer, Integer, Integer> definition = Activity.contract(0).define();
+
+        for (int i = 0; i < STEPS; i++) definition = definition.decision(POSITIVE);
+
+        decisions = definition.exit(Function.identity());
+
+        decisionsCursor = decisions.cursor();
+
+        definition = Activity.<Integer>contract(0).<Integer>define().decision(NEGATIVE);
+
+        for (int i = 1; i < STEPS; i++) definition = definition.action(INCREMENT);
+
+        earlyExit = definition.exit(Function.identity());
+
+        earlyExitCursor = earlyExit.cursor();
+
+    }
+
+    @Benchmark
+    public Integer decisionsActivity() {
+
+        Activity<Integer, Integer, Integer> activity = Activity.contract(0).entry(entry);
+
+        for (int i = 0; i < STEPS; i++) activity = activity.decision(POSITIVE);
+
+        return activity.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer decisionsPlan() {
+        return decisions.apply(entry);
+    }
+
+    @Benchmark
+    public Integer decisionsCursor() {
+        return decisionsCursor.apply(entry);
+    }
+
+    @Benchmark
+    public Integer earlyExitActivity() {
+
+        Activity<Integer, Integer, Integer> activity = Activity.contract(0).entry(entry).decision(NEGATIVE);
+
+        for (int i = 1; i < STEPS; i++) activity = activity.action(INCREMENT);
+
+        return activity.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer earlyExitPlan() {
+        return earlyExit.apply(entry);
+    }
+
+    @Benchmark
+    public Integer earlyExitCursor() {
+        return earlyExitCursor.apply(entry);
+    }
+
+}
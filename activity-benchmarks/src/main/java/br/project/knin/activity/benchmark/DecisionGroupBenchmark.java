@@ -0,0 +1,69 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Pre-filter written in the worst order: an expensive predicate that almost always passes, then a cheap one that
+ * rejects 90% of the entries. {@code written} evaluates the decisions as written, {@code adaptive} registers them as
+ * a decision group.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionGroupBenchmark {
+
+    private static final Predicate<Integer> EXPENSIVE = integer -> {
+        Blackhole.consumeCPU(200);
+        return integer >= 0;
+    };
+
+    private static final Predicate<Integer> SELECTIVE = integer -> integer % 10 == 0;
+
+    private ActivityPlan<Integer, Integer> written;
+
+    private ActivityPlan<Integer, Integer> adaptive;
+
+    private int entry;
+
+    @Setup
+    public void setup() {
+
+        written = Activity.contract(0).<Integer>define().decision(EXPENSIVE).decision(SELECTIVE).exit(Function.identity());
+
+        adaptive = Activity.contract(0).<Integer>define().decisions(List.of(EXPENSIVE, SELECTIVE)).exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer written() {
+        return written.apply(entry++ & 1023);
+    }
+
+    @Benchmark
+    public Integer adaptive() {
+        return adaptive.apply(entry++ & 1023);
+    }
+
+}
@@ -0,0 +1,100 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Channel;
+import br.project.knin.activity.channel.MappedFileChannel;
+import br.project.knin.activity.channel.RecordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Audit record (long id, long amount, int status) committed to a file: a buffered stream flushed on every commit,
+ * as most hand-written file channels do, against a memory-mapped channel with 64 MiB segments.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileChannelBenchmark {
+
+    private static final RecordEncoder<long[]> ENCODER = (audit, buffer) -> buffer.putLong(audit[0]).putLong(audit[1]).putInt((int) audit[2]);
+
+    private final long[] audit = {1L, 1_000L, 200L};
+
+    private Path directory;
+
+    private DataOutputStream stream;
+
+    private Channel<long[]> streamed;
+
+    private MappedFileChannel<long[]> mapped;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+
+        directory = Files.createTempDirectory("activity-benchmark");
+
+        stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(directory.resolve("stream.log"))));
+
+        streamed = audit -> {
+            try {
+                stream.writeLong(audit[0]);
+                stream.writeLong(audit[1]);
+                stream.writeInt((int) audit[2]);
+                stream.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        mapped = MappedFileChannel.of(directory.resolve("mapped"), ENCODER).open();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        stream.close();
+
+        mapped.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+
+    }
+
+    @Benchmark
+    public void stream() {
+        streamed.commit(audit);
+    }
+
+    @Benchmark
+    public void mapped() {
+        mapped.commit(audit);
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityDefinition;
+import br.project.knin.activity.ActivityPlan;
+import br.project.knin.activity.FlightRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Chain of 5 decision/action pairs: plain plan, plan recording every entry and plan recording one entry in 100.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightRecorderBenchmark {
+
+    private final Integer entry = 1;
+
+    private ActivityPlan<Integer, Integer> plan;
+
+    private ActivityPlan<Integer, Integer> every;
+
+    private ActivityPlan<Integer, Integer> sampled;
+
+    @Setup
+    public void setup() {
+
+        ActivityDefinition<Integer, Integer, Integer> definition = Activity.contract(0).define();
+
+        for (int i = 0; i < 5; i++) definition = definition.decision(integer -> integer > 0).action(integer -> integer + 1);
+
+        plan = definition.exit(Function.identity());
+
+        every = plan.listen(new FlightRecorder(4096, 1));
+
+        sampled = plan.listen(new FlightRecorder(4096, 100));
+
+    }
+
+    @Benchmark
+    public Integer plan() {
+        return plan.apply(entry);
+    }
+
+    @Benchmark
+    public Integer every() {
+        return every.apply(entry);
+    }
+
+    @Benchmark
+    public Integer sampled() {
+        return sampled.apply(entry);
+    }
+
+}
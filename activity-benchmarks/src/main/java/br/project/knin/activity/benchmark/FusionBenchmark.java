@@ -0,0 +1,84 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityDefinition;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Long chain of {@code steps} decision/action/action triples with an otherwise every five triples, evaluated eagerly
+ * and by a plan. Plans fuse each run of decisions and actions into a single step.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusionBenchmark {
+
+    private static final Predicate<Integer> POSITIVE = integer -> integer > 0;
+
+    private static final Function<Integer, Integer> INCREMENT = integer -> integer + 1;
+
+    private static final Function<Integer, Integer> DOUBLE = integer -> integer * 2 % 1_000 + 1;
+
+    @Param({"5", "20"})
+    private int steps;
+
+    private final Integer entry = 1;
+
+    private ActivityPlan<Integer, Integer> plan;
+
+    @Setup
+    public void setup() {
+
+        ActivityDefinition<Integer, Integer, Integer> definition = Activity.contract(0).define();
+
+        for (int i = 0; i < steps; i++) {
+            definition = definition.decision(POSITIVE).action(INCREMENT).action(DOUBLE);
+            if (i % 5 == 4) definition = definition.otherwise(() -> -1);
+        }
+
+        plan = definition.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer eager() {
+        return chain(Activity.contract(0).entry(entry));
+    }
+
+    @Benchmark
+    public Integer plan() {
+        return plan.apply(entry);
+    }
+
+    private Integer chain(Activity<Integer, Integer, Integer> activity) {
+
+        for (int i = 0; i < steps; i++) {
+            activity = activity.decision(POSITIVE).action(INCREMENT).action(DOUBLE);
+            if (i % 5 == 4) activity = activity.otherwise(() -> -1);
+        }
+
+        return activity.exit(Function.identity());
+
+    }
+
+}
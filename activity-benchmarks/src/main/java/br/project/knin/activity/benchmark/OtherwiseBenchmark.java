@@ -0,0 +1,121 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityCursor;
+import br.project.knin.activity.ActivityPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Alternative flows: a failed decision handled by otherwise(Supplier), otherwise(Function) and otherwiseChannel.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtherwiseBenchmark {
+
+    private static final Predicate<Integer> NEGATIVE = integer -> integer < 0;
+
+    private static final Integer ALTERNATIVE = -1;
+
+    private static final Supplier<Integer> PRODUCE = () -> ALTERNATIVE;
+
+    private static final Function<Integer, Integer> NEGATE = integer -> -integer;
+
+    private final Integer entry = 1;
+
+    private final Sink sink = new Sink();
+
+    private ActivityPlan<Integer, Integer> supplier;
+
+    private ActivityCursor<Integer, Integer> supplierCursor;
+
+    private ActivityPlan<Integer, Integer> function;
+
+    private ActivityCursor<Integer, Integer> functionCursor;
+
+    private ActivityPlan<Integer, Integer> channel;
+
+    private ActivityCursor<Integer, Integer> channelCursor;
+
+    @Setup
+    public void setup() {
+
+        supplier = Activity.contract(0).<Integer>define().decision(NEGATIVE).otherwise(PRODUCE).exit(Function.identity());
+
+        supplierCursor = supplier.cursor();
+
+        function = Activity.contract(0).<Integer>define().decision(NEGATIVE).otherwise(NEGATE).exit(Function.identity());
+
+        functionCursor = function.cursor();
+
+        channel = Activity.contract(0).<Integer>define().decision(NEGATIVE).otherwiseChannel(NEGATE, sink).exit(Function.identity());
+
+        channelCursor = channel.cursor();
+
+    }
+
+    @Benchmark
+    public Integer supplierActivity() {
+        return Activity.contract(0).entry(entry).decision(NEGATIVE).otherwise(PRODUCE).exit(Function.identity());
+    }
+
+    @Benchmark
+    public Integer supplierPlan() {
+        return supplier.apply(entry);
+    }
+
+    @Benchmark
+    public Integer supplierCursor() {
+        return supplierCursor.apply(entry);
+    }
+
+    @Benchmark
+    public Integer functionActivity() {
+        return Activity.contract(0).entry(entry).decision(NEGATIVE).otherwise(NEGATE).exit(Function.identity());
+    }
+
+    @Benchmark
+    public Integer functionPlan() {
+        return function.apply(entry);
+    }
+
+    @Benchmark
+    public Integer functionCursor() {
+        return functionCursor.apply(entry);
+    }
+
+    @Benchmark
+    public Integer otherwiseChannelActivity() {
+        return Activity.contract(0).entry(entry).decision(NEGATIVE).otherwiseChannel(NEGATE, sink).exit(Function.identity());
+    }
+
+    @Benchmark
+    public Integer otherwiseChannelPlan() {
+        return channel.apply(entry);
+    }
+
+    @Benchmark
+    public Integer otherwiseChannelCursor() {
+        return channelCursor.apply(entry);
+    }
+
+}
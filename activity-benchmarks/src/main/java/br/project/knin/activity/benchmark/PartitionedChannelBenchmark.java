@@ -0,0 +1,95 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Channel;
+import br.project.knin.activity.channel.BufferedChannel;
+import br.project.knin.activity.channel.PartitionedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Four producer threads committing into one channel: a sink shared behind a monitor, a single BufferedChannel and a
+ * PartitionedChannel with four lanes, each lane with its own sink.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PartitionedChannelBenchmark {
+
+    private Channel<Integer> locked;
+
+    private BufferedChannel<Integer> buffered;
+
+    private PartitionedChannel<Integer> partitioned;
+
+    @State(Scope.Thread)
+    public static class Producer {
+
+        private int next;
+
+        Integer message() {
+            return next++ & 1023;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        final Sink sink = new Sink();
+
+        locked = integer -> {
+            synchronized (sink) {
+                sink.commit(integer);
+            }
+        };
+
+        buffered = BufferedChannel.<Integer>of(new Sink()).start();
+
+        partitioned = PartitionedChannel.<Integer>of(integer -> integer, lane -> new Sink()).lanes(4).start();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        buffered.close();
+
+        partitioned.close();
+
+    }
+
+    @Benchmark
+    public void locked(final Producer producer) {
+        locked.commit(producer.message());
+    }
+
+    @Benchmark
+    public void buffered(final Producer producer) {
+        buffered.commit(producer.message());
+    }
+
+    @Benchmark
+    public void partitioned(final Producer producer) {
+        partitioned.commit(producer.message());
+    }
+
+}
@@ -0,0 +1,65 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.IntActivity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numeric scoring chain of {@code steps} decision/action pairs. The entry is outside the Integer cache, so the boxed
+ * activity allocates one Integer per action besides the activities themselves.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+    @Param({"5", "20"})
+    private int steps;
+
+    private int entry;
+
+    @Setup
+    public void setup() {
+        entry = 1_000;
+    }
+
+    @Benchmark
+    public Integer boxed() {
+
+        Activity<Integer, Integer, Integer> activity = Activity.contract(0).entry(entry);
+
+        for (int i = 0; i < steps; i++) activity = activity.decision(score -> score > 0).action(score -> score * 3 + 1);
+
+        return activity.exit(score -> score);
+
+    }
+
+    @Benchmark
+    public int primitive() {
+
+        IntActivity<Integer> activity = Activity.contract(0).intEntry(entry);
+
+        for (int i = 0; i < steps; i++) activity = activity.decision(score -> score > 0).action(score -> score * 3 + 1);
+
+        return activity.exit(score -> score);
+
+    }
+
+}
@@ -0,0 +1,161 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityDefinition;
+import br.project.knin.activity.ActivityPlan;
+import br.project.knin.activity.Channel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Compares the proxy-per-step design, where every activity is wrapped by a validating decorator, with the current
+ * activity that validates its arguments inline, and with a plan validated once at definition time. The decorator is
+ * a copy of the proxy the library used before validating inline.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyBenchmark {
+
+    private static final Predicate<Integer> POSITIVE = integer -> integer > 0;
+
+    private static final Function<Integer, Integer> INCREMENT = integer -> integer + 1;
+
+    @Param({"5", "20"})
+    private int steps;
+
+    private final Integer entry = 1;
+
+    private Channel<Integer> channel;
+
+    private ActivityPlan<Integer, Integer> plan;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+
+        channel = blackhole::consume;
+
+        ActivityDefinition<Integer, Integer, Integer> definition = Activity.contract(0).define();
+
+        for (int i = 0; i < steps; i++) definition = definition.decision(POSITIVE).action(INCREMENT).channel(channel);
+
+        plan = definition.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer proxied() {
+
+        Activity<Integer, Integer, Integer> activity = new Proxied<>(Activity.contract(0).entry(entry));
+
+        for (int i = 0; i < steps; i++) activity = activity.decision(POSITIVE).action(INCREMENT).channel(channel);
+
+        return activity.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer inline() {
+
+        Activity<Integer, Integer, Integer> activity = Activity.contract(0).entry(entry);
+
+        for (int i = 0; i < steps; i++) activity = activity.decision(POSITIVE).action(INCREMENT).channel(channel);
+
+        return activity.exit(Function.identity());
+
+    }
+
+    @Benchmark
+    public Integer plan() {
+        return plan.apply(entry);
+    }
+
+    private static final class Proxied<C, E, V> implements Activity<C, E, V> {
+
+        private Proxied(final Activity<C, E, V> activity) {
+            this.activity = activity;
+        }
+
+        private final Activity<C, E, V> activity;
+
+        @Override
+        public Activity<C, E, V> decision(final Predicate<? super V> predicate) {
+            Objects.requireNonNull(predicate);
+            return new Proxied<>(activity.decision(predicate));
+        }
+
+        @Override
+        public <W> Activity<C, E, W> action(final Function<? super V, ? extends W> function) {
+            Objects.requireNonNull(function);
+            return new Proxied<>(activity.action(function));
+        }
+
+        @Override
+        public <W> Activity<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function) {
+            Objects.requireNonNull(function);
+            return new Proxied<>(activity.action(function));
+        }
+
+        @Override
+        public Activity<C, E, V> otherwise(final Supplier<? extends C> supplier) {
+            Objects.requireNonNull(supplier);
+            return new Proxied<>(activity.otherwise(supplier));
+        }
+
+        @Override
+        public Activity<C, E, V> otherwise(final Function<? super E, ? extends C> function) {
+            Objects.requireNonNull(function);
+            return new Proxied<>(activity.otherwise(function));
+        }
+
+        @Override
+        public Activity<C, E, V> channel(final Channel<? super V> channel) {
+            Objects.requireNonNull(channel);
+            return new Proxied<>(activity.channel(channel));
+        }
+
+        @Override
+        public <W> Activity<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel) {
+            Objects.requireNonNull(function);
+            Objects.requireNonNull(channel);
+            return new Proxied<>(activity.channel(function, channel));
+        }
+
+        @Override
+        public Activity<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel) {
+            Objects.requireNonNull(function);
+            Objects.requireNonNull(channel);
+            return new Proxied<>(activity.otherwiseChannel(function, channel));
+        }
+
+        @Override
+        public C exit(final Function<? super V, ? extends C> function) {
+            Objects.requireNonNull(function);
+            return activity.exit(function);
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Channel;
+
+/**
+ * Channel that only accumulates a checksum of the committed values into a field, so channel dispatch is measured
+ * without any sink cost and without letting the JIT discard the commit.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class Sink implements Channel<Object> {
+
+    private long checksum;
+
+    @Override
+    public void commit(final Object o) {
+        checksum += o.hashCode();
+    }
+
+}
@@ -0,0 +1,89 @@
+package br.project.knin.activity.benchmark;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import br.project.knin.activity.ActivityRejection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation that rejects half of the entries and falls back to otherwise. {@code returned} signals the rejection
+ * with null, {@code thrown} throws an exception with a stack trace from a tryAction, and {@code rejected} throws the
+ * shared {@link ActivityRejection}.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryActionBenchmark {
+
+    private ActivityPlan<Integer, Integer> returned;
+
+    private ActivityPlan<Integer, Integer> thrown;
+
+    private ActivityPlan<Integer, Integer> rejected;
+
+    private int entry;
+
+    @Setup
+    public void setup() {
+
+        returned = Activity
+                .contract(0)
+                .<Integer>define()
+                .action(integer -> (integer & 1) == 0 ? integer : null)
+                .otherwise(integer -> -integer)
+                .exit(integer -> integer);
+
+        thrown = Activity
+                .contract(0)
+                .<Integer>define()
+                .tryAction(integer -> {
+                    if ((integer & 1) != 0) throw new IllegalArgumentException("ímpar");
+                    return integer;
+                })
+                .otherwise(integer -> -integer)
+                .exit(integer -> integer);
+
+        rejected = Activity
+                .contract(0)
+                .<Integer>define()
+                .tryAction(integer -> {
+                    if ((integer & 1) != 0) throw ActivityRejection.instance();
+                    return integer;
+                })
+                .otherwise(integer -> -integer)
+                .exit(integer -> integer);
+
+    }
+
+    @Benchmark
+    public Integer returned() {
+        return returned.apply(entry++ & 1023);
+    }
+
+    @Benchmark
+    public Integer thrown() {
+        return thrown.apply(entry++ & 1023);
+    }
+
+    @Benchmark
+    public Integer rejected() {
+        return rejected.apply(entry++ & 1023);
+    }
+
+}
@@ -53,6 +53,47 @@ public interface Activity<C, E, V> {
             return ActivityImpl.create(c, e, e);
         }
 
+        /**
+         * Inicia uma atividade especializada para valores int, sem conversão para Integer em cada passo
+         *
+         * @param e entrada
+         * @return new instance of IntActivity
+         */
+        public IntActivity<C> intEntry(final int e) {
+            return IntActivityImpl.create(c, e);
+        }
+
+        /**
+         * Inicia uma atividade especializada para valores long, sem conversão para Long em cada passo
+         *
+         * @param e entrada
+         * @return new instance of LongActivity
+         */
+        public LongActivity<C> longEntry(final long e) {
+            return LongActivityImpl.create(c, e);
+        }
+
+        /**
+         * Inicia uma atividade especializada para valores double, sem conversão para Double em cada passo
+         *
+         * @param e entrada
+         * @return new instance of DoubleActivity
+         */
+        public DoubleActivity<C> doubleEntry(final double e) {
+            return DoubleActivityImpl.create(c, e);
+        }
+
+        /**
+         * Inicia a definição de uma atividade reutilizável. Os passos são registrados uma única vez e o plano
+         * compilado em exit pode ser executado para qualquer entrada.
+         *
+         * @param <E> E generic Type
+         * @return new instance of ActivityDefinition
+         */
+        public <E> ActivityDefinition<C, E, E> define() {
+            return ActivityDefinitionImpl.create(c);
+        }
+
     }
 
     /**
@@ -0,0 +1,23 @@
+package br.project.knin.activity;
+
+/**
+ * ActivityCursor executa um {@link ActivityPlan} reutilizando o mesmo estado de execução a cada entrada. Nenhum
+ * objeto é alocado pela execução dos passos, apenas pelas funções registradas na definição.
+ * <p>
+ * Um cursor não é thread-safe. Cada thread deve obter o seu próprio cursor a partir do plano compartilhado.
+ *
+ * @param <C> represent contract
+ * @param <E> represent entry initial
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface ActivityCursor<C, E> {
+
+    /**
+     * Executa o plano para uma entrada, reaproveitando o estado da execução anterior
+     *
+     * @param entry objeto de entrada
+     * @return objeto final de contrato
+     */
+    C apply(final E entry);
+
+}
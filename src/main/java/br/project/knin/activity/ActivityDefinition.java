@@ -0,0 +1,244 @@
+package br.project.knin.activity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ActivityDefinition registra as operações de uma atividade uma única vez, sem depender de um objeto de entrada.
+ * A operação exit compila os passos registrados em um {@link ActivityPlan} imutável, que pode ser executado para
+ * qualquer entrada e compartilhado entre threads.
+ * <p>
+ * Cada operação retorna uma nova definição, portanto uma definição parcial pode ser reutilizada como prefixo de
+ * outras definições.
+ *
+ * @param <C> represent contract
+ * @param <E> represent entry initial
+ * @param <V> represente a value of flux
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface ActivityDefinition<C, E, V> {
+
+    /**
+     * Registra uma decisão. Mesma semântica de {@link Activity#decision(Predicate)}
+     *
+     * @param predicate instance of predicate
+     * @return nova definição contendo a decisão
+     */
+    ActivityDefinition<C, E, V> decision(final Predicate<? super V> predicate);
+
+    /**
+     * Registra um grupo de decisões comutativas, satisfeito apenas quando todos os predicados são satisfeitos. Tem a
+     * mesma semântica de uma única decisão com a conjunção dos predicados, mas a ordem de avaliação não é a ordem
+     * da lista: o plano amostra o custo e a taxa de aprovação de cada predicado e avalia primeiro os mais baratos e
+     * seletivos.
+     * <p>
+     * Os predicados não devem depender da ordem de avaliação nem ter efeitos colaterais, pois em uma execução
+     * amostrada todos são avaliados.
+     *
+     * @param predicates predicados, ao menos um
+     * @return nova definição contendo o grupo de decisões
+     */
+    ActivityDefinition<C, E, V> decisions(final List<? extends Predicate<? super V>> predicates);
+
+    /**
+     * Registra uma ação. Mesma semântica de {@link Activity#action(Function)}
+     *
+     * @param function mapeamento de V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo a ação
+     */
+    <W> ActivityDefinition<C, E, W> action(final Function<? super V, ? extends W> function);
+
+    /**
+     * Registra uma ação. Mesma semântica de {@link Activity#action(BiFunction)}
+     *
+     * @param function mapeamento de E (entryObject) e V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo a ação
+     */
+    <W> ActivityDefinition<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function);
+
+    /**
+     * Registra uma ação que trata exceções como ausência de valor. Uma {@link RuntimeException} lançada pela função
+     * tem a mesma semântica de uma ação que retorna nulo, de modo que otherwise e otherwiseChannel recebem a entrada.
+     * As exceções capturadas são contadas em {@link ActivityPlan#failures()}.
+     * <p>
+     * Para rejeições esperadas, lance {@link ActivityRejection}, que não preenche a pilha de chamadas.
+     *
+     * @param function mapeamento de V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo a ação
+     */
+    <W> ActivityDefinition<C, E, W> tryAction(final Function<? super V, ? extends W> function);
+
+    /**
+     * Mesma semântica de {@link #tryAction(Function)}, capturando apenas exceções do tipo informado. As demais são
+     * relançadas.
+     *
+     * @param function mapeamento de V (value) para o tipo genérico W
+     * @param type     tipo das exceções capturadas
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo a ação
+     */
+    <W> ActivityDefinition<C, E, W> tryAction(final Function<? super V, ? extends W> function, final Class<? extends RuntimeException> type);
+
+    /**
+     * Mesma semântica de {@link #tryAction(Function)}
+     *
+     * @param function mapeamento de E (entryObject) e V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo a ação
+     */
+    <W> ActivityDefinition<C, E, W> tryAction(final BiFunction<? super E, ? super V, ? extends W> function);
+
+    /**
+     * Mesma semântica de {@link #tryAction(Function, Class)}
+     *
+     * @param function mapeamento de E (entryObject) e V (value) para o tipo genérico W
+     * @param type     tipo das exceções capturadas
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo a ação
+     */
+    <W> ActivityDefinition<C, E, W> tryAction(final BiFunction<? super E, ? super V, ? extends W> function, final Class<? extends RuntimeException> type);
+
+    /**
+     * Registra um fluxo alternativo. Mesma semântica de {@link Activity#otherwise(Supplier)}
+     *
+     * @param produce uma instância cuja interface funcional seja Supplier
+     * @return nova definição contendo o fluxo alternativo
+     */
+    ActivityDefinition<C, E, V> otherwise(final Supplier<? extends C> produce);
+
+    /**
+     * Registra um fluxo alternativo. Mesma semântica de {@link Activity#otherwise(Function)}
+     *
+     * @param function mapeamento de E (entryObject) para o contrato
+     * @return nova definição contendo o fluxo alternativo
+     */
+    ActivityDefinition<C, E, V> otherwise(final Function<? super E, ? extends C> function);
+
+    /**
+     * Registra um canal. Mesma semântica de {@link Activity#channel(Channel)}
+     *
+     * @param channel é uma instância da interface Channel do tipo V
+     * @return nova definição contendo o canal
+     */
+    ActivityDefinition<C, E, V> channel(final Channel<? super V> channel);
+
+    /**
+     * Registra um canal mapeado. Mesma semântica de {@link Activity#channel(BiFunction, Channel)}
+     *
+     * @param function instância de uma funçãoZ
+     * @param channel  instância de uma canal
+     * @param <W>      E,V -> W é um mapeamento que transforma entrada e valor em W
+     * @return nova definição contendo o canal
+     */
+    <W> ActivityDefinition<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel);
+
+    /**
+     * Registra um canal de fluxo alternativo. Mesma semântica de {@link Activity#otherwiseChannel(Function, Channel)}
+     *
+     * @param function é uma instância da interface Function
+     * @param channel  é uma instância da interface Channel do tipo C
+     * @return nova definição contendo o canal de fluxo alternativo
+     */
+    ActivityDefinition<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel);
+
+    /**
+     * Registra ramos independentes executados concorrentemente, seguidos de uma junção. Mesma semântica de
+     * {@link #fork(List, Function, Executor)} para dois ramos.
+     *
+     * @param first    primeiro ramo, mapeamento de E (entryObject) e V (value) para A
+     * @param second   segundo ramo, mapeamento de E (entryObject) e V (value) para B
+     * @param join     combinação dos resultados dos ramos
+     * @param executor executor dos ramos
+     * @param <A>      tipo do resultado do primeiro ramo
+     * @param <B>      tipo do resultado do segundo ramo
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo o fork
+     */
+    <A, B, W> ActivityDefinition<C, E, W> fork(final BiFunction<? super E, ? super V, ? extends A> first,
+                                               final BiFunction<? super E, ? super V, ? extends B> second,
+                                               final BiFunction<? super A, ? super B, ? extends W> join,
+                                               final Executor executor);
+
+    /**
+     * Registra ramos independentes executados concorrentemente no executor, seguidos de uma junção que produz o novo
+     * valor. A duração do passo passa a ser a do ramo mais lento, e não a soma dos ramos.
+     * <p>
+     * Caso algum ramo produza nulo, a junção não é chamada e o passo tem a mesma semântica de
+     * {@link Activity#action(BiFunction)} retornando nulo. Uma junção que produz nulo tem a mesma semântica. A
+     * exceção de um ramo é relançada após o fim dos demais ramos.
+     *
+     * @param branches ramos, mapeamentos de E (entryObject) e V (value) para R
+     * @param join     combinação dos resultados, na ordem dos ramos
+     * @param executor executor dos ramos
+     * @param <R>      tipo do resultado dos ramos
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova definição contendo o fork
+     */
+    <R, W> ActivityDefinition<C, E, W> fork(final List<? extends BiFunction<? super E, ? super V, ? extends R>> branches,
+                                            final Function<? super List<R>, ? extends W> join,
+                                            final Executor executor);
+
+    /**
+     * Inicia um roteamento por chave, alternativa a cadeias de decisões e otherwise. O classificador é chamado uma
+     * única vez por execução e a chave escolhe, em tempo constante, o sub-fluxo executado.
+     *
+     * <pre>{@code
+     * definition
+     *     .route(Pedido::tipo)
+     *     .when(Tipo.NACIONAL, ramo -> ramo.action(Pedido::frete))
+     *     .when(Tipo.INTERNACIONAL, ramo -> ramo.decision(Pedido::liberado).action(Pedido::taxa))
+     *     .byDefault(ramo -> ramo.action(pedido -> BigDecimal.ZERO))
+     *     .end()
+     * }</pre>
+     *
+     * @param classifier produz a chave do ramo a partir de V (value)
+     * @param <K>        tipo da chave
+     * @return roteamento sem ramos
+     * @see ActivityRoute
+     */
+    <K> ActivityRouter<C, E, V, K> route(final Function<? super V, ? extends K> classifier);
+
+    /**
+     * Nomeia o último passo registrado. O nome identifica o passo nas medições de
+     * {@link ActivityPlan#listen(ActivityListener)} e não altera a execução.
+     *
+     * @param name nome do passo
+     * @return nova definição com o último passo nomeado
+     * @throws IllegalStateException caso nenhum passo tenha sido registrado
+     */
+    ActivityDefinition<C, E, V> named(final String name);
+
+    /**
+     * Limita a duração da última decisão ou ação registrada. O passo passa a ser executado no executor, e a execução
+     * do plano aguarda o resultado por no máximo o prazo. Ao fim do prazo, o passo é abandonado, a thread que o
+     * executa é interrompida e o fluxo segue com a mesma semântica de uma ação que retorna nulo, contabilizada em
+     * {@link ActivityPlan#timeouts()}.
+     * <p>
+     * Quando o plano também possui prazo, vale o menor dos dois. Exceções lançadas pelo passo dentro do prazo são
+     * relançadas na thread chamadora.
+     *
+     * @param timeout  prazo do passo, positivo
+     * @param executor executor do passo
+     * @return nova definição com o último passo limitado pelo prazo
+     * @throws IllegalStateException    caso o último passo registrado não seja uma decisão ou ação
+     * @throws IllegalArgumentException caso o prazo não seja positivo
+     */
+    ActivityDefinition<C, E, V> deadline(final Duration timeout, final Executor executor);
+
+    /**
+     * exit encerra a definição e compila os passos registrados.
+     *
+     * @param function mapeamento de V (value) para C (contract). Mesma semântica de {@link Activity#exit(Function)}
+     * @return plano imutável e thread-safe da atividade
+     */
+    ActivityPlan<C, E> exit(final Function<? super V, ? extends C> function);
+
+}
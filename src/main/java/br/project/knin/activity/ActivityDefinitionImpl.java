@@ -0,0 +1,212 @@
+package br.project.knin.activity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+final class ActivityDefinitionImpl<C, E, V> implements ActivityDefinition<C, E, V> {
+
+    static <C, E> ActivityDefinition<C, E, E> create(final C contract) {
+        return new ActivityDefinitionImpl<>(contract, null, null, null);
+    }
+
+    private ActivityDefinitionImpl(final C contract, final ActivityDefinitionImpl<C, E, ?> previous, final Step step, final String name) {
+
+        this.contract = contract;
+
+        this.previous = previous;
+
+        this.step = step;
+
+        this.name = name;
+
+    }
+
+    private final C contract;
+
+    private final ActivityDefinitionImpl<C, E, ?> previous;
+
+    private final Step step;
+
+    private final String name;
+
+    /**
+     * @param <W> tipo de valor do ramo
+     * @return definição vazia, com o mesmo contrato, para construção de um sub-fluxo
+     */
+    <W> ActivityDefinitionImpl<C, E, W> branch() {
+        return new ActivityDefinitionImpl<>(contract, null, null, null);
+    }
+
+    <W> ActivityDefinitionImpl<C, E, W> then(final Step step) {
+        return new ActivityDefinitionImpl<>(contract, this, step, null);
+    }
+
+    /**
+     * @return passos registrados, na ordem em que foram definidos
+     */
+    Step[] steps() {
+
+        int size = 0;
+
+        for (ActivityDefinitionImpl<C, E, ?> node = this; node.step != null; node = node.previous) size++;
+
+        final Step[] steps = new Step[size];
+
+        for (ActivityDefinitionImpl<C, E, ?> node = this; node.step != null; node = node.previous) steps[--size] = node.step;
+
+        return steps;
+
+    }
+
+    /**
+     * @param size quantidade de passos registrados
+     * @return nomes dos passos, na ordem em que foram definidos. Passos sem nome recebem tipo e posição
+     */
+    private String[] names(int size) {
+
+        final String[] names = new String[size];
+
+        for (ActivityDefinitionImpl<C, E, ?> node = this; node.step != null; node = node.previous) {
+            size--;
+            names[size] = node.name != null ? node.name : node.step.kind().name().toLowerCase(Locale.ROOT) + "#" + size;
+        }
+
+        return names;
+
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, B, W> ActivityDefinition<C, E, W> fork(final BiFunction<? super E, ? super V, ? extends A> first,
+                                                      final BiFunction<? super E, ? super V, ? extends B> second,
+                                                      final BiFunction<? super A, ? super B, ? extends W> join,
+                                                      final Executor executor) {
+        Objects.requireNonNull(first, Messages.FORK_BRANCH);
+        Objects.requireNonNull(second, Messages.FORK_BRANCH);
+        Objects.requireNonNull(join, Messages.FORK_JOIN);
+        return fork(List.of(first, second), results -> join.apply((A) results.get(0), (B) results.get(1)), executor);
+    }
+
+    @Override
+    public <R, W> ActivityDefinition<C, E, W> fork(final List<? extends BiFunction<? super E, ? super V, ? extends R>> branches,
+                                                   final Function<? super List<R>, ? extends W> join,
+                                                   final Executor executor) {
+        return then(ForkStep.validated(branches, join, executor));
+    }
+
+    @Override
+    public <K> ActivityRouter<C, E, V, K> route(final Function<? super V, ? extends K> classifier) {
+        Objects.requireNonNull(classifier, Messages.ROUTE);
+        return ActivityRouteImpl.create(this, classifier);
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> named(final String name) {
+
+        Objects.requireNonNull(name, Messages.NAME);
+
+        if (step == null) throw new IllegalStateException(Messages.NAME_WITHOUT_STEP);
+
+        return new ActivityDefinitionImpl<>(contract, previous, step, name);
+
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> deadline(final Duration timeout, final Executor executor) {
+        return new ActivityDefinitionImpl<>(contract, previous, DeadlineStep.validated(step, timeout, executor), name);
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> decision(final Predicate<? super V> predicate) {
+        Objects.requireNonNull(predicate, Messages.DECISION);
+        return then(new Step.Decision(predicate));
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> decisions(final List<? extends Predicate<? super V>> predicates) {
+        return then(DecisionGroup.validated(predicates));
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, W> action(final Function<? super V, ? extends W> function) {
+        Objects.requireNonNull(function, Messages.ACTION);
+        return then(new Step.Action(function));
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function) {
+        Objects.requireNonNull(function, Messages.ACTION_Z);
+        return then(new Step.ActionZ(function));
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, W> tryAction(final Function<? super V, ? extends W> function) {
+        return tryAction(function, RuntimeException.class);
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, W> tryAction(final Function<? super V, ? extends W> function, final Class<? extends RuntimeException> type) {
+        return then(TryStep.validated(function, type));
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, W> tryAction(final BiFunction<? super E, ? super V, ? extends W> function) {
+        return tryAction(function, RuntimeException.class);
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, W> tryAction(final BiFunction<? super E, ? super V, ? extends W> function, final Class<? extends RuntimeException> type) {
+        return then(TryStep.validated(function, type));
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> otherwise(final Supplier<? extends C> supplier) {
+        Objects.requireNonNull(supplier, Messages.OTHERWISE_SUPPLIER);
+        return then(new Step.OtherwiseSupplier(supplier));
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> otherwise(final Function<? super E, ? extends C> function) {
+        Objects.requireNonNull(function, Messages.OTHERWISE_FUNCTION);
+        return then(new Step.OtherwiseFunction(function));
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> channel(final Channel<? super V> channel) {
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+        return then(new Step.ChannelStep(channel));
+    }
+
+    @Override
+    public <W> ActivityDefinition<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel) {
+        Objects.requireNonNull(function, Messages.CHANNEL_FUNCTION);
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+        return then(new Step.MappedChannel(function, channel));
+    }
+
+    @Override
+    public ActivityDefinition<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel) {
+        Objects.requireNonNull(function, Messages.OTHERWISE_CHANNEL_FUNCTION);
+        Objects.requireNonNull(channel, Messages.OTHERWISE_CHANNEL);
+        return then(new Step.OtherwiseChannel(function, channel));
+    }
+
+    @Override
+    public ActivityPlan<C, E> exit(final Function<? super V, ? extends C> function) {
+        return compile(function);
+    }
+
+    ActivityPlanImpl<C, E> compile(final Function<? super V, ? extends C> function) {
+        Objects.requireNonNull(function, Messages.EXIT);
+        final Step[] steps = steps();
+        return new ActivityPlanImpl<>(contract, steps, names(steps.length), function);
+    }
+
+}
@@ -0,0 +1,94 @@
+package br.project.knin.activity;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * ActivityEvents reúne os eventos de Java Flight Recorder emitidos pelos planos criados por
+ * {@link ActivityPlan#events(String)}. Os eventos são habilitados e filtrados pelas configurações padrão de JFR, como
+ * {@code br.project.knin.activity.Step#threshold=0 ms}; com a gravação desligada, o custo é o de um evento não
+ * habilitado.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class ActivityEvents {
+
+    private ActivityEvents() {
+    }
+
+    static void commit(final String flow, final Channel<Object> channel, final Object message) {
+
+        final CommitEvent event = new CommitEvent();
+
+        event.begin();
+
+        channel.commit(message);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.flow = flow;
+            event.channel = channel.getClass().getName();
+            event.commit();
+        }
+
+    }
+
+    @Name("br.project.knin.activity.Flow")
+    @Label("Activity Flow")
+    @Description("Execução de um plano para uma entrada")
+    @Category("Activity")
+    @StackTrace(false)
+    @Threshold("1 ms")
+    static final class FlowEvent extends Event {
+
+        @Label("Flow")
+        String flow;
+
+        @Label("Completed")
+        @Description("Verdadeiro quando o valor chegou à função de exit")
+        boolean completed;
+
+    }
+
+    @Name("br.project.knin.activity.Step")
+    @Label("Activity Step")
+    @Description("Execução de um passo de um plano")
+    @Category("Activity")
+    @StackTrace(false)
+    @Threshold("1 ms")
+    static final class StepEvent extends Event {
+
+        @Label("Flow")
+        String flow;
+
+        @Label("Step")
+        String step;
+
+        @Label("Kind")
+        String kind;
+
+    }
+
+    @Name("br.project.knin.activity.Commit")
+    @Label("Activity Channel Commit")
+    @Description("Commit de uma mensagem em um canal")
+    @Category("Activity")
+    @StackTrace(false)
+    @Threshold("1 ms")
+    static final class CommitEvent extends Event {
+
+        @Label("Flow")
+        String flow;
+
+        @Label("Channel")
+        String channel;
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.project.knin.activity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ActivityExecutors fornece executores adequados a fluxos com ações e canais bloqueantes.
+ * <p>
+ * A API é compilada para Java 11. Em tempo de execução, a partir do Java 21, o executor cria uma thread virtual por
+ * tarefa. Em versões anteriores, uma thread de plataforma por tarefa é criada sob demanda e reaproveitada.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class ActivityExecutors {
+
+    private ActivityExecutors() {
+    }
+
+    private static final MethodHandle VIRTUAL_THREAD_PER_TASK = virtualThreadPerTask();
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static MethodHandle virtualThreadPerTask() {
+
+        try {
+
+            final MethodHandle handle = MethodHandles
+                    .publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+
+            ((ExecutorService) handle.invokeExact()).shutdown();
+
+            return handle;
+
+        } catch (final Throwable e) {
+            return null;
+        }
+
+    }
+
+    /**
+     * @return verdadeiro quando a JVM cria threads virtuais, ou seja, Java 21 ou superior
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_PER_TASK != null;
+    }
+
+    /**
+     * Cria um executor com uma thread por tarefa, virtual quando suportado pela JVM. Indicado para executar entradas
+     * com {@link ActivityPlan#submitAll(java.util.List, java.util.concurrent.Executor)} ou canais bloqueantes, sem
+     * dimensionar um pool de threads.
+     *
+     * @return novo executor, que deve ser encerrado por quem o criou
+     */
+    public static ExecutorService virtualThreads() {
+
+        if (VIRTUAL_THREAD_PER_TASK != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_PER_TASK.invokeExact();
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return Executors.newCachedThreadPool(platformThreads());
+
+    }
+
+    private static ThreadFactory platformThreads() {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "activity-executor-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -8,89 +8,19 @@ import java.util.function.Supplier;
 
 final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
 
-    /**
-     * @param activity activity that should'be proxied
-     * @param <C>      type Generic to type of contract
-     * @param <E>      type Generic to entry value
-     * @param <V>      type Generic to value
-     * @return new instance of activity with proxy validation
-     */
-    private static <C, E, V> Activity<C, E, V> proxied(final Activity<C, E, V> activity) {
-        return new ActivityProxy<>(activity);
-    }
-
-    static final class ActivityProxy<C, E, V> implements Activity<C, E, V> {
-
-        ActivityProxy(final Activity<C, E, V> activity) {
-            this.activity = activity;
-        }
-
-        private final Activity<C, E, V> activity;
-
-        @Override
-        public Activity<C, E, V> decision(final Predicate<? super V> predicate) {
-            Objects.requireNonNull(predicate, "Predicado em 'decisão' não deve ser nulo");
-            return activity.decision(predicate);
-        }
-
-        @Override
-        public <W> Activity<C, E, W> action(final Function<? super V, ? extends W> function) {
-            Objects.requireNonNull(function, "Função em 'ação' não deve ser nula");
-            return activity.action(function);
-        }
-
-        @Override
-        public <W> Activity<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function) {
-            Objects.requireNonNull(function, "FunçãoZ em 'ação' não deve ser nula");
-            return activity.action(function);
-        }
-
-        @Override
-        public Activity<C, E, V> otherwise(final Supplier<? extends C> supplier) {
-            Objects.requireNonNull(supplier, "Produção em 'otherwise' não deve ser nula");
-            return activity.otherwise(supplier);
-        }
-
-        @Override
-        public Activity<C, E, V> otherwise(final Function<? super E, ? extends C> function) {
-            Objects.requireNonNull(function, "Função em 'otherwise' não deve ser nula");
-            return activity.otherwise(function);
-        }
-
-        @Override
-        public Activity<C, E, V> channel(final Channel<? super V> channel) {
-            Objects.requireNonNull(channel, "Canal em 'channel' não deve ser nula");
-            return activity.channel(channel);
-        }
-
-        @Override
-        public <W> Activity<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel) {
-            Objects.requireNonNull(function, "Função em 'channel' não deve ser nula");
-            Objects.requireNonNull(channel, "Canal em 'channel' não deve ser nula");
-            return activity.channel(function, channel);
-        }
-
-        @Override
-        public Activity<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel) {
-            Objects.requireNonNull(function, "Função em 'otherwise channel' não deve ser nula");
-            Objects.requireNonNull(channel, "Canal em 'otherwise channel' não deve ser nula");
-            return activity.otherwiseChannel(function, channel);
-        }
-
-        @Override
-        public C exit(final Function<? super V, ? extends C> function) {
-            Objects.requireNonNull(function, "Função em 'exit' não deve ser nula");
-            return activity.exit(function);
-        }
-
-    }
-
     public static <C, E, V> Activity<C, E, V> create(final C c, final E e, final V v) {
         return create(c, e, v, false);
     }
 
+    /**
+     * @return atividade em fim de fluxo, usada pelas especializações primitivas
+     */
+    static <C, E, V> Activity<C, E, V> over(final C c, final E e) {
+        return create(c, e, null, true);
+    }
+
     private static <C, E, V> Activity<C, E, V> create(final C c, final E e, final V v, final boolean isOver) {
-        return proxied(new ActivityImpl<>(c, e, v, isOver));
+        return new ActivityImpl<>(c, e, v, isOver);
     }
 
     private static <T, E, V> Activity<T, E, V> exitActivity(final T t) {
@@ -107,8 +37,6 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
 
         this.isOver = isOver;
 
-        exitActivityForFail = proxied(new ActivityImpl<>(contract, entryObject));
-
     }
 
     private ActivityImpl(final C contract, final E entryObject) {
@@ -133,12 +61,25 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
 
     private final boolean isOver;
 
-    private final Activity<C, E, V> exitActivityForFail;
+    /**
+     * Created on demand, most of the activities never reach an end of flux
+     */
+    private Activity<C, E, V> exitActivityForFail;
+
+    private Activity<C, E, V> exitActivityForFail() {
+
+        if (exitActivityForFail == null) exitActivityForFail = new ActivityImpl<>(contract, entryObject);
+
+        return exitActivityForFail;
+
+    }
 
     @Override
     public Activity<C, E, V> decision(final Predicate<? super V> predicate) {
 
-        if (value == null) return exitActivityForFail;
+        Objects.requireNonNull(predicate, Messages.DECISION);
+
+        if (value == null) return exitActivityForFail();
 
         final boolean isTrue = predicate.test(value);
 
@@ -151,6 +92,8 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public <W> Activity<C, E, W> action(final Function<? super V, ? extends W> function) {
 
+        Objects.requireNonNull(function, Messages.ACTION);
+
         if (value == null) return exitActivity(contract);
 
         final W w = function.apply(value);
@@ -162,6 +105,8 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public <W> Activity<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function) {
 
+        Objects.requireNonNull(function, Messages.ACTION_Z);
+
         if (value == null) return exitActivity(contract);
 
         final W w = function.apply(entryObject, value);
@@ -173,6 +118,8 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public Activity<C, E, V> otherwise(final Supplier<? extends C> supplier) {
 
+        Objects.requireNonNull(supplier, Messages.OTHERWISE_SUPPLIER);
+
         if (isOver || value != null) return this;
 
         final C c = supplier.get();
@@ -186,6 +133,8 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public Activity<C, E, V> otherwise(final Function<? super E, ? extends C> function) {
 
+        Objects.requireNonNull(function, Messages.OTHERWISE_FUNCTION);
+
         if (isOver || value != null) return this;
 
         final C c = function.apply(entryObject);
@@ -199,7 +148,9 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public Activity<C, E, V> channel(final Channel<? super V> channel) {
 
-        if (value == null) return exitActivityForFail;
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (value == null) return exitActivityForFail();
 
         channel.commit(value);
 
@@ -210,7 +161,11 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public <W> Activity<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel) {
 
-        if (value == null) return exitActivityForFail;
+        Objects.requireNonNull(function, Messages.CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (value == null) return exitActivityForFail();
 
         final W w = function.apply(entryObject, value);
 
@@ -223,6 +178,10 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
     @Override
     public Activity<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel) {
 
+        Objects.requireNonNull(function, Messages.OTHERWISE_CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.OTHERWISE_CHANNEL);
+
         if (isOver || value != null) return this;
 
         final C c = function.apply(entryObject);
@@ -231,13 +190,15 @@ final class ActivityImpl<C, E, V> implements Activity<C, E, V> {
 
         channel.commit(c);
 
-        return exitActivityForFail;
+        return exitActivityForFail();
 
     }
 
     @Override
     public C exit(final Function<? super V, ? extends C> function) {
 
+        Objects.requireNonNull(function, Messages.EXIT);
+
         if (value == null) return contract;
 
         final C c = function.apply(value);
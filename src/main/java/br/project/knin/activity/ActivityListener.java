@@ -0,0 +1,45 @@
+package br.project.knin.activity;
+
+/**
+ * ActivityListener recebe a medição de cada passo de um plano instrumentado por
+ * {@link ActivityPlan#listen(ActivityListener)}. Planos não instrumentados não medem nem notificam nada.
+ * <p>
+ * Os métodos são chamados na thread que executa o plano, portanto devem ser rápidos e thread-safe quando o plano for
+ * executado em paralelo.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ * @see ActivityMetrics
+ */
+public interface ActivityListener {
+
+    /**
+     * Chamado no início de cada execução do plano. Permite que o listener observe apenas uma amostra das entradas:
+     * uma entrada recusada é executada sem instrumentação, sem medição e sem notificações de passo ou de exit.
+     *
+     * @return verdadeiro para observar a entrada
+     */
+    default boolean onEnter() {
+        return true;
+    }
+
+    /**
+     * Chamado ao fim de cada passo executado. Passos posteriores a um fim de fluxo definitivo não são notificados.
+     *
+     * @param name    nome do passo, definido por {@link ActivityDefinition#named(String)} ou gerado a partir do tipo e
+     *                da posição do passo, como {@code action#2}
+     * @param kind    operação que originou o passo
+     * @param outcome efeito do passo sobre o fluxo
+     * @param nanos   duração do passo em nanossegundos
+     */
+    void onStep(final String name, final StepKind kind, final StepOutcome outcome, final long nanos);
+
+    /**
+     * Chamado ao fim de cada execução do plano concluída sem exceção, incluindo a função de exit
+     *
+     * @param completed verdadeiro quando o valor chegou à função de exit, falso quando o contrato foi retornado
+     * @param nanos     duração da execução em nanossegundos
+     */
+    default void onExit(final boolean completed, final long nanos) {
+    }
+
+}
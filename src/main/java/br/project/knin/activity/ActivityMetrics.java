@@ -0,0 +1,283 @@
+package br.project.knin.activity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ActivityMetrics é um {@link ActivityListener} que acumula, por passo nomeado, a quantidade de execuções de cada
+ * {@link StepOutcome} e um histograma de latência. A partir dessas contagens são obtidas, por exemplo, a proporção de
+ * decisões satisfeitas, de otherwise executados, de fins de fluxo antecipados e de commits de canais.
+ * <p>
+ * Os contadores são {@link LongAdder}, portanto a mesma instância pode ser compartilhada entre planos e threads. As
+ * leituras não são atômicas em relação às escritas concorrentes.
+ *
+ * <pre>{@code
+ * final ActivityMetrics metrics = new ActivityMetrics();
+ * final ActivityPlan<String, Integer> plan = definition.exit(String::valueOf).listen(metrics);
+ * ...
+ * metrics.step("validar").ratio(StepOutcome.PASSED);
+ * }</pre>
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class ActivityMetrics implements ActivityListener {
+
+    private final ConcurrentMap<String, StepMetrics> steps = new ConcurrentHashMap<>();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final Latency latency = new Latency();
+
+    @Override
+    public void onStep(final String name, final StepKind kind, final StepOutcome outcome, final long nanos) {
+
+        StepMetrics metrics = steps.get(name);
+
+        if (metrics == null) metrics = steps.computeIfAbsent(name, key -> new StepMetrics(key, kind));
+
+        metrics.record(outcome, nanos);
+
+    }
+
+    @Override
+    public void onExit(final boolean completed, final long nanos) {
+
+        if (completed) this.completed.increment();
+
+        latency.record(nanos);
+
+    }
+
+    /**
+     * @param name nome do passo
+     * @return métricas do passo, ou nulo caso o passo ainda não tenha sido executado
+     */
+    public StepMetrics step(final String name) {
+        return steps.get(name);
+    }
+
+    /**
+     * @return métricas de todos os passos executados, sem ordem definida
+     */
+    public Collection<StepMetrics> steps() {
+        return Collections.unmodifiableCollection(new ArrayList<>(steps.values()));
+    }
+
+    /**
+     * @return quantidade de execuções de plano
+     */
+    public long flows() {
+        return latency.count();
+    }
+
+    /**
+     * @return quantidade de execuções cujo valor chegou à função de exit
+     */
+    public long completed() {
+        return completed.sum();
+    }
+
+    /**
+     * @return latência das execuções de plano
+     */
+    public Latency latency() {
+        return latency;
+    }
+
+    /**
+     * Métricas acumuladas de um passo
+     */
+    public static final class StepMetrics {
+
+        private StepMetrics(final String name, final StepKind kind) {
+
+            this.name = name;
+
+            this.kind = kind;
+
+            outcomes = new LongAdder[StepOutcome.values().length];
+
+            for (int i = 0; i < outcomes.length; i++) outcomes[i] = new LongAdder();
+
+        }
+
+        private final String name;
+
+        private final StepKind kind;
+
+        private final LongAdder[] outcomes;
+
+        private final Latency latency = new Latency();
+
+        private void record(final StepOutcome outcome, final long nanos) {
+
+            outcomes[outcome.ordinal()].increment();
+
+            latency.record(nanos);
+
+        }
+
+        /**
+         * @return nome do passo
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return operação que originou o passo
+         */
+        public StepKind kind() {
+            return kind;
+        }
+
+        /**
+         * @return quantidade de execuções do passo
+         */
+        public long count() {
+            return latency.count();
+        }
+
+        /**
+         * @param outcome efeito do passo
+         * @return quantidade de execuções com o efeito
+         */
+        public long count(final StepOutcome outcome) {
+            return outcomes[outcome.ordinal()].sum();
+        }
+
+        /**
+         * @param outcome efeito do passo
+         * @return proporção, entre 0 e 1, das execuções com o efeito. Zero caso o passo não tenha sido executado
+         */
+        public double ratio(final StepOutcome outcome) {
+
+            final long count = count();
+
+            return count == 0 ? 0 : (double) count(outcome) / count;
+
+        }
+
+        /**
+         * @return latência do passo
+         */
+        public Latency latency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+
+            final StringBuilder builder = new StringBuilder(name).append(' ').append(kind).append(" count=").append(count());
+
+            for (final StepOutcome outcome : StepOutcome.values()) {
+                final long count = count(outcome);
+                if (count > 0) builder.append(' ').append(outcome).append('=').append(count);
+            }
+
+            return builder.append(' ').append(latency).toString();
+
+        }
+
+    }
+
+    /**
+     * Histograma de latência com faixas em potências de 2 de nanossegundos. O registro custa um incremento em
+     * {@link LongAdder}, e os percentis são aproximados pelo limite superior da faixa, com erro de até 2 vezes.
+     */
+    public static final class Latency {
+
+        private Latency() {
+
+            buckets = new LongAdder[Long.SIZE];
+
+            for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+
+        }
+
+        private final LongAdder[] buckets;
+
+        private final LongAdder total = new LongAdder();
+
+        private void record(final long nanos) {
+
+            final long value = Math.max(nanos, 0);
+
+            buckets[Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1)].increment();
+
+            total.add(value);
+
+        }
+
+        /**
+         * @return quantidade de medições
+         */
+        public long count() {
+
+            long count = 0;
+
+            for (final LongAdder bucket : buckets) count += bucket.sum();
+
+            return count;
+
+        }
+
+        /**
+         * @return soma das medições em nanossegundos
+         */
+        public long total() {
+            return total.sum();
+        }
+
+        /**
+         * @return média das medições em nanossegundos. Zero caso não haja medições
+         */
+        public double mean() {
+
+            final long count = count();
+
+            return count == 0 ? 0 : (double) total() / count;
+
+        }
+
+        /**
+         * @param percentile valor entre 0 e 1, como 0.99
+         * @return limite superior, em nanossegundos, da faixa que contém o percentil. Zero caso não haja medições
+         */
+        public long percentile(final double percentile) {
+
+            if (percentile < 0 || percentile > 1) throw new IllegalArgumentException("Percentil deve estar entre 0 e 1");
+
+            final long[] counts = new long[buckets.length];
+
+            long count = 0;
+
+            for (int i = 0; i < buckets.length; i++) count += counts[i] = buckets[i].sum();
+
+            if (count == 0) return 0;
+
+            final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+
+            long accumulated = 0;
+
+            for (int i = 0; i < counts.length; i++) {
+                accumulated += counts[i];
+                if (accumulated >= rank) return i == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+
+            return Long.MAX_VALUE;
+
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean=%.0fns p50<=%dns p99<=%dns", mean(), percentile(0.5), percentile(0.99));
+        }
+
+    }
+
+}
@@ -0,0 +1,230 @@
+package br.project.knin.activity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * ActivityPlan é o resultado compilado de uma {@link ActivityDefinition}. Os passos são registrados uma única vez e
+ * executados para cada entrada, sem reconstruir a cadeia de atividades.
+ * <p>
+ * Um plano é imutável e pode ser compartilhado entre threads, desde que as funções e canais registrados também sejam.
+ *
+ * @param <C> represent contract
+ * @param <E> represent entry initial
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface ActivityPlan<C, E> extends Function<E, C> {
+
+    /**
+     * Executa o plano para uma entrada. O resultado é idêntico ao de
+     * {@code Activity.contract(c).entry(e)} seguido das mesmas operações registradas na definição.
+     *
+     * @param entry objeto de entrada
+     * @return objeto final de contrato
+     */
+    @Override
+    C apply(final E entry);
+
+    /**
+     * Executa o plano para cada entrada do lote, reaproveitando o mesmo estado de execução. Mensagens destinadas a um
+     * {@link BatchChannel} são encaminhadas de uma única vez ao fim do lote, demais canais recebem cada mensagem no
+     * momento do commit.
+     *
+     * @param entries objetos de entrada
+     * @return objetos finais de contrato, na ordem das entradas
+     */
+    List<C> applyAll(final List<? extends E> entries);
+
+    /**
+     * Mesma semântica de {@link #applyAll(List)}
+     *
+     * @param entries objetos de entrada
+     * @return objetos finais de contrato, na ordem das entradas
+     */
+    List<C> applyAll(final E[] entries);
+
+    /**
+     * Mesma semântica de {@link #applyAll(List)}
+     *
+     * @param entries objetos de entrada
+     * @return objetos finais de contrato, na ordem das entradas
+     */
+    List<C> applyAll(final Iterable<? extends E> entries);
+
+    /**
+     * Executa o lote em paralelo no {@link java.util.concurrent.ForkJoinPool#commonPool()}, com mensagens
+     * encaminhadas na ordem das entradas. Mesma semântica de {@link #applyAllParallel(List, Executor, CommitOrder)}
+     *
+     * @param entries objetos de entrada
+     * @return objetos finais de contrato, na ordem das entradas
+     */
+    List<C> applyAllParallel(final List<? extends E> entries);
+
+    /**
+     * Executa o lote em paralelo. As entradas são divididas em blocos contíguos, cada bloco é executado com um
+     * cursor próprio e a thread chamadora aguarda o fim de todos os blocos. Decisões, ações e otherwise devem ser
+     * thread-safe.
+     * <p>
+     * Caso alguma entrada lance uma exceção, a primeira exceção na ordem dos blocos é relançada após o fim dos demais
+     * blocos. Com {@link CommitOrder#ORDERED}, apenas as mensagens dos blocos anteriores à falha, e do próprio bloco
+     * até a falha, são encaminhadas.
+     *
+     * @param entries  objetos de entrada
+     * @param executor executor dos blocos
+     * @param order    ordem de encaminhamento das mensagens de canais
+     * @return objetos finais de contrato, na ordem das entradas
+     */
+    List<C> applyAllParallel(final List<? extends E> entries, final Executor executor, final CommitOrder order);
+
+    /**
+     * Executa o plano para uma entrada em uma tarefa do executor. Indicado para fluxos com ações ou canais
+     * bloqueantes, em conjunto com {@link ActivityExecutors#virtualThreads()}.
+     *
+     * @param entry    objeto de entrada
+     * @param executor executor da tarefa
+     * @return futuro do objeto final de contrato
+     */
+    CompletableFuture<C> submit(final E entry, final Executor executor);
+
+    /**
+     * Executa o plano com uma tarefa do executor por entrada. Diferente de
+     * {@link #applyAllParallel(List, Executor, CommitOrder)}, as entradas não são agrupadas em blocos, de modo que uma
+     * entrada bloqueada não atrasa as demais. Canais devem ser thread-safe.
+     *
+     * @param entries  objetos de entrada
+     * @param executor executor das tarefas
+     * @return futuro dos objetos finais de contrato, na ordem das entradas
+     */
+    CompletableFuture<List<C>> submitAll(final List<? extends E> entries, final Executor executor);
+
+    /**
+     * Mapeia as entradas para os contratos de forma preguiçosa: cada entrada é executada apenas quando o elemento é
+     * consumido. Cada divisão do spliterator utiliza um cursor próprio, de modo que a execução não aloca objetos por
+     * elemento e pode ser paralela.
+     * <p>
+     * As características SIZED, SUBSIZED, ORDERED, IMMUTABLE e CONCURRENT da origem são preservadas, DISTINCT e
+     * SORTED são descartadas e NONNULL é acrescentada.
+     *
+     * @param entries origem das entradas
+     * @return spliterator dos objetos finais de contrato
+     */
+    Spliterator<C> spliterator(final Spliterator<? extends E> entries);
+
+    /**
+     * Acrescenta o plano a um pipeline de stream. Mesma semântica de {@link #spliterator(Spliterator)}; o stream
+     * resultante é paralelo quando a origem é paralela e fechá-lo fecha a origem.
+     *
+     * <pre>{@code
+     * plan.stream(linhas.parallel()).filter(...).collect(...)
+     * }</pre>
+     *
+     * @param entries stream de entradas
+     * @return stream dos objetos finais de contrato
+     */
+    Stream<C> stream(final Stream<? extends E> entries);
+
+    /**
+     * Cria um coletor que executa o plano para cada entrada e entrega os contratos ao coletor de destino, sem
+     * materializar uma lista intermediária. Cada contêiner de acumulação utiliza um cursor próprio, portanto o
+     * coletor nunca é CONCURRENT.
+     *
+     * @param downstream coletor dos objetos finais de contrato
+     * @param <A>        tipo de acumulação do coletor de destino
+     * @param <R>        tipo do resultado
+     * @return coletor de entradas
+     */
+    <A, R> Collector<E, ?, R> collector(final Collector<? super C, A, R> downstream);
+
+    /**
+     * Cria um plano com os mesmos passos, em que cada passo é medido e notificado ao listener. Este plano não é
+     * alterado e continua sem custo de instrumentação. Um plano instrumentado substitui o listener anterior.
+     *
+     * @param listener destino das medições
+     * @return novo plano instrumentado
+     * @see ActivityMetrics
+     */
+    ActivityPlan<C, E> listen(final ActivityListener listener);
+
+    /**
+     * Cria um plano com os mesmos passos que emite eventos de Java Flight Recorder: {@code br.project.knin.activity.Flow}
+     * para cada execução, {@code br.project.knin.activity.Step} para cada passo e
+     * {@code br.project.knin.activity.Commit} para cada commit em um canal, exceto commits de execuções em lote. Os
+     * eventos identificam o plano pelo nome informado e o passo pelo nome definido em
+     * {@link ActivityDefinition#named(String)}.
+     * <p>
+     * Os eventos são controlados pelas configurações padrão de JFR. O threshold padrão de cada evento é 1 ms, de modo
+     * que apenas execuções, passos e commits lentos são registrados; sem gravação ativa, nenhum evento é emitido. O
+     * listener deste plano é mantido. Requer o módulo jdk.jfr em tempo de execução.
+     *
+     * @param flow nome do plano nos eventos
+     * @return novo plano com eventos JFR
+     */
+    ActivityPlan<C, E> events(final String flow);
+
+    /**
+     * Cria um plano com os mesmos passos e um prazo para cada execução. O prazo é verificado antes de cada passo,
+     * inclusive entre decisões e ações consecutivas, que não são fundidas em um plano com prazo, e antes de cada nó
+     * de um plano compilado: ao fim do prazo, o valor passa a ser nulo e as decisões e ações restantes são ignoradas,
+     * de modo que otherwise e otherwiseChannel ainda são executados. Passos registrados com
+     * {@link ActivityDefinition#deadline(Duration, java.util.concurrent.Executor)} são abandonados ao fim do prazo do
+     * plano; os demais não são interrompidos, e o prazo é verificado ao fim deles.
+     *
+     * @param timeout prazo de cada execução, positivo
+     * @return novo plano com prazo
+     * @throws IllegalArgumentException caso o prazo não seja positivo
+     */
+    ActivityPlan<C, E> deadline(final Duration timeout);
+
+    /**
+     * Cria um plano com os mesmos passos executados por código específico deste plano: cada decisão, ação e passo
+     * recebe uma classe própria, definida em tempo de execução, de modo que os pontos de chamada de cada função
+     * recebem um único tipo e podem ser inline pelo JIT. Um plano interpretado compartilha os mesmos pontos de
+     * chamada entre todos os planos da aplicação, que se tornam megamórficos.
+     * <p>
+     * O resultado é idêntico ao do plano interpretado. Planos com listener ou eventos JFR continuam interpretados.
+     * As classes são ocultas e descarregadas quando o plano deixa de ser referenciado, mas cada compilação define
+     * novas classes e perfis do JIT; compile um plano uma única vez e reutilize o resultado.
+     * <p>
+     * Classes ocultas existem a partir do Java 15. Em versões anteriores a compilação não especializa o plano: os nós
+     * utilizam classes compartilhadas entre todos os planos, sem ganho sobre o plano interpretado, e
+     * {@link #compiled()} retorna falso.
+     *
+     * @return plano compilado, ou o próprio plano caso já tenha sido compilado
+     */
+    ActivityPlan<C, E> compile();
+
+    /**
+     * @return verdadeiro quando o plano executa classes próprias definidas por {@link #compile()}; falso para planos
+     * não compilados ou quando a JVM não permite definir as classes
+     */
+    boolean compiled();
+
+    /**
+     * @return quantidade de execuções em que um passo ou o próprio plano excedeu o prazo, somada entre este plano e os
+     * planos derivados dele por listen, events e deadline
+     */
+    long timeouts();
+
+    /**
+     * @return quantidade de exceções capturadas por cada passo registrado com
+     * {@link ActivityDefinition#tryAction(Function)}, pelo nome do passo e na ordem em que foram definidos. A contagem
+     * é compartilhada pelos planos compilados a partir da mesma definição
+     */
+    Map<String, Long> failures();
+
+    /**
+     * Cria um cursor reutilizável para este plano. Indicado para laços de alta frequência em uma mesma thread, pois
+     * a execução por meio do cursor não aloca objetos.
+     *
+     * @return novo cursor, que não deve ser compartilhado entre threads
+     */
+    ActivityCursor<C, E> cursor();
+
+}
@@ -0,0 +1,490 @@
+package br.project.knin.activity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class ActivityPlanImpl<C, E> implements ActivityPlan<C, E> {
+
+    ActivityPlanImpl(final C contract, final Step[] steps, final String[] names, final Function<?, ? extends C> exit) {
+        this(contract, steps, names, exit, null, null, 0, new LongAdder(), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ActivityPlanImpl(final C contract, final Step[] source, final String[] names, final Function<?, ? extends C> exit,
+                             final ActivityListener listener, final String flow, final long timeout, final LongAdder timeouts,
+                             final CompiledNode compiled) {
+
+        this.contract = contract;
+
+        this.source = source;
+
+        this.names = names;
+
+        this.exit = (Function<Object, ? extends C>) exit;
+
+        this.listener = listener;
+
+        this.flow = flow;
+
+        this.timeout = timeout;
+
+        this.timeouts = timeouts;
+
+        this.compiled = compiled;
+
+        // a função composta de uma sequência fundida não verificaria o prazo entre os passos
+        plain = flow != null ? decorate(source, names, null, flow) : timeout == 0 ? Step.fuse(source) : source;
+
+        steps = listener == null ? plain : decorate(source, names, listener, flow);
+
+    }
+
+    /**
+     * @return passos decorados pela instrumentação do listener e, quando houver, pelos eventos JFR
+     */
+    private static Step[] decorate(final Step[] source, final String[] names, final ActivityListener listener, final String flow) {
+
+        final Step[] decorated = new Step[source.length];
+
+        for (int i = 0; i < source.length; i++) {
+
+            Step step = source[i];
+
+            if (listener != null) step = new ListenedStep(step, names[i], listener);
+
+            if (flow != null) step = new EventStep(step, flow, names[i]);
+
+            decorated[i] = step;
+
+        }
+
+        return decorated;
+
+    }
+
+    private final C contract;
+
+    /**
+     * Passos sem instrumentação e sem fusão, um para cada nome
+     */
+    private final Step[] source;
+
+    private final Step[] steps;
+
+    /**
+     * Passos sem instrumentação do listener, executados nas entradas recusadas por {@link ActivityListener#onEnter()}.
+     * Fundidos quando o plano não emite eventos JFR
+     */
+    private final Step[] plain;
+
+    private final String[] names;
+
+    private final Function<Object, ? extends C> exit;
+
+    /**
+     * Diferente de nulo apenas em planos instrumentados
+     */
+    private final ActivityListener listener;
+
+    /**
+     * Diferente de nulo apenas em planos com eventos JFR
+     */
+    private final String flow;
+
+    /**
+     * Prazo de cada execução em nanossegundos. Zero quando o plano não possui prazo
+     */
+    private final long timeout;
+
+    /**
+     * Execuções encerradas por prazo, compartilhado pelos planos derivados do mesmo plano compilado
+     */
+    private final LongAdder timeouts;
+
+    /**
+     * Diferente de nulo apenas em planos compilados. Executado quando o plano não possui listener nem eventos JFR
+     */
+    private final CompiledNode compiled;
+
+    /**
+     * Cursor reutilizado pelos planos compilados na thread. A cadeia de nós não é inline por completo, de modo que um
+     * cursor novo não seria eliminado por escape analysis. Nulo enquanto em uso, e uma execução aninhada na mesma
+     * thread cria o seu próprio cursor
+     */
+    private static final ThreadLocal<Cursor[]> CURSORS = ThreadLocal.withInitial(() -> new Cursor[1]);
+
+    @Override
+    public C apply(final E entry) {
+
+        Objects.requireNonNull(entry);
+
+        if (compiled == null || flow != null || listener != null) return run(new Cursor(contract, entry));
+
+        final Cursor[] cursors = CURSORS.get();
+
+        final Cursor cursor = cursors[0] == null ? new Cursor(contract, entry) : cursors[0];
+
+        cursors[0] = null;
+
+        cursor.reset(contract, entry);
+
+        cursor.deadline = 0;
+
+        try {
+            return run(cursor);
+        } finally {
+            cursor.reset(null, null);
+            cursors[0] = cursor;
+        }
+
+    }
+
+    @Override
+    public List<C> applyAll(final List<? extends E> entries) {
+        return applyAll(entries, entries.size());
+    }
+
+    @Override
+    public List<C> applyAll(final E[] entries) {
+        return applyAll(Arrays.asList(entries), entries.length);
+    }
+
+    @Override
+    public List<C> applyAll(final Iterable<? extends E> entries) {
+        return applyAll(entries, 16);
+    }
+
+    private List<C> applyAll(final Iterable<? extends E> entries, final int size) {
+
+        final List<C> contracts = new ArrayList<>(size);
+
+        final Cursor cursor = new Cursor(contract, null);
+
+        cursor.batch = new Batch();
+
+        try {
+
+            for (final E entry : entries) {
+
+                Objects.requireNonNull(entry);
+
+                cursor.reset(contract, entry);
+
+                contracts.add(run(cursor));
+
+            }
+
+        } finally {
+            cursor.batch.flush();
+        }
+
+        return contracts;
+
+    }
+
+    @Override
+    public List<C> applyAllParallel(final List<? extends E> entries) {
+        return applyAllParallel(entries, ForkJoinPool.commonPool(), CommitOrder.ORDERED);
+    }
+
+    @Override
+    public List<C> applyAllParallel(final List<? extends E> entries, final Executor executor, final CommitOrder order) {
+
+        Objects.requireNonNull(executor);
+
+        Objects.requireNonNull(order);
+
+        return new ParallelBatch<>(this, executor, order).applyAll(entries);
+
+    }
+
+    @Override
+    public CompletableFuture<C> submit(final E entry, final Executor executor) {
+
+        Objects.requireNonNull(entry);
+
+        Objects.requireNonNull(executor);
+
+        return CompletableFuture.supplyAsync(() -> apply(entry), executor);
+
+    }
+
+    @Override
+    public CompletableFuture<List<C>> submitAll(final List<? extends E> entries, final Executor executor) {
+
+        Objects.requireNonNull(executor);
+
+        final List<CompletableFuture<C>> futures = new ArrayList<>(entries.size());
+
+        for (final E entry : entries) futures.add(submit(entry, executor));
+
+        return CompletableFuture
+                .allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    final List<C> contracts = new ArrayList<>(futures.size());
+                    for (final CompletableFuture<C> future : futures) contracts.add(future.join());
+                    return contracts;
+                });
+
+    }
+
+    @Override
+    public Spliterator<C> spliterator(final Spliterator<? extends E> entries) {
+        Objects.requireNonNull(entries);
+        return new PlanSpliterator<>(this, entries);
+    }
+
+    @Override
+    public Stream<C> stream(final Stream<? extends E> entries) {
+        return StreamSupport
+                .stream(spliterator(entries.spliterator()), entries.isParallel())
+                .onClose(entries::close);
+    }
+
+    @Override
+    public <A, R> Collector<E, ?, R> collector(final Collector<? super C, A, R> downstream) {
+
+        Objects.requireNonNull(downstream);
+
+        final BiConsumer<A, ? super C> accumulator = downstream.accumulator();
+
+        final Set<Collector.Characteristics> characteristics = EnumSet.noneOf(Collector.Characteristics.class);
+
+        characteristics.addAll(downstream.characteristics());
+
+        characteristics.remove(Collector.Characteristics.IDENTITY_FINISH);
+
+        // o cursor de cada contêiner não pode ser compartilhado entre threads
+        characteristics.remove(Collector.Characteristics.CONCURRENT);
+
+        return Collector.of(
+                () -> new Accumulation<>(downstream.supplier().get(), cursor()),
+                (accumulation, entry) -> accumulator.accept(accumulation.container, accumulation.cursor.apply(entry)),
+                (left, right) -> new Accumulation<>(downstream.combiner().apply(left.container, right.container), left.cursor),
+                accumulation -> downstream.finisher().apply(accumulation.container),
+                characteristics.toArray(new Collector.Characteristics[0])
+        );
+
+    }
+
+    @Override
+    public ActivityPlan<C, E> listen(final ActivityListener listener) {
+        Objects.requireNonNull(listener, Messages.LISTENER);
+        return new ActivityPlanImpl<>(contract, source, names, exit, listener, flow, timeout, timeouts, compiled);
+    }
+
+    @Override
+    public ActivityPlan<C, E> events(final String flow) {
+        Objects.requireNonNull(flow, Messages.FLOW);
+        return new ActivityPlanImpl<>(contract, source, names, exit, listener, flow, timeout, timeouts, compiled);
+    }
+
+    @Override
+    public ActivityPlan<C, E> deadline(final Duration timeout) {
+        return new ActivityPlanImpl<>(contract, source, names, exit, listener, flow, DeadlineStep.nanos(timeout), timeouts, compiled);
+    }
+
+    @Override
+    public ActivityPlan<C, E> compile() {
+        if (compiled != null) return this;
+        return new ActivityPlanImpl<>(contract, source, names, exit, listener, flow, timeout, timeouts, PlanCompiler.compile(source, exit));
+    }
+
+    @Override
+    public boolean compiled() {
+        return compiled != null && PlanCompiler.isDedicated(compiled);
+    }
+
+    @Override
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public Map<String, Long> failures() {
+
+        final Map<String, Long> failures = new LinkedHashMap<>();
+
+        for (int i = 0; i < source.length; i++) {
+            final Step step = source[i] instanceof DeadlineStep ? ((DeadlineStep) source[i]).unit() : source[i];
+            if (step instanceof TryStep) failures.put(names[i], ((TryStep) step).failures());
+        }
+
+        return failures;
+
+    }
+
+    @Override
+    public ActivityCursor<C, E> cursor() {
+        return new ReusableCursor<>(this);
+    }
+
+    C contract() {
+        return contract;
+    }
+
+    C run(final Cursor cursor) {
+
+        if (timeout != 0) cursor.deadline = System.nanoTime() + timeout;
+
+        if (flow != null) return recorded(cursor);
+
+        if (listener != null) return listened(cursor);
+
+        if (compiled != null) return compiled(cursor);
+
+        Step.run(steps, cursor);
+
+        return exit(cursor);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private C compiled(final Cursor cursor) {
+
+        CompiledNode.run(compiled, cursor);
+
+        if (cursor.timeouts != 0) timeouts.increment();
+
+        final Object c = cursor.value;
+
+        return c == null ? (C) cursor.contract : (C) c;
+
+    }
+
+    private C recorded(final Cursor cursor) {
+
+        final ActivityEvents.FlowEvent event = new ActivityEvents.FlowEvent();
+
+        event.begin();
+
+        cursor.flow = flow;
+
+        final C c;
+
+        if (listener != null) c = listened(cursor);
+
+        else {
+            Step.run(steps, cursor);
+            c = exit(cursor);
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.flow = flow;
+            event.completed = cursor.value != null;
+            event.commit();
+        }
+
+        return c;
+
+    }
+
+    private C listened(final Cursor cursor) {
+
+        if (!listener.onEnter()) {
+            Step.run(plain, cursor);
+            return exit(cursor);
+        }
+
+        final long start = System.nanoTime();
+
+        Step.run(steps, cursor);
+
+        final boolean completed = cursor.value != null;
+
+        final C c = exit(cursor);
+
+        listener.onExit(completed, System.nanoTime() - start);
+
+        return c;
+
+    }
+
+    /**
+     * Executa o plano sem bloquear a thread chamadora nos passos assíncronos
+     *
+     * @param entry objeto de entrada
+     * @return futuro do objeto final de contrato
+     */
+    CompletableFuture<C> applyAsync(final E entry) {
+        return AsyncStep.run(steps, 0, new Cursor(contract, entry)).thenApply(this::exit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private C exit(final Cursor cursor) {
+
+        if (cursor.timeouts != 0) timeouts.increment();
+
+        if (cursor.value == null) return (C) cursor.contract;
+
+        final C c = exit.apply(cursor.value);
+
+        if (c == null) return (C) cursor.contract;
+
+        return c;
+
+    }
+
+    private static final class Accumulation<C, E, A> {
+
+        private Accumulation(final A container, final ActivityCursor<C, E> cursor) {
+
+            this.container = container;
+
+            this.cursor = cursor;
+
+        }
+
+        private final A container;
+
+        private final ActivityCursor<C, E> cursor;
+
+    }
+
+    static final class ReusableCursor<C, E> implements ActivityCursor<C, E> {
+
+        ReusableCursor(final ActivityPlanImpl<C, E> plan) {
+
+            this.plan = plan;
+
+            cursor = new Cursor(plan.contract, null);
+
+        }
+
+        private final ActivityPlanImpl<C, E> plan;
+
+        private final Cursor cursor;
+
+        @Override
+        public C apply(final E entry) {
+
+            Objects.requireNonNull(entry);
+
+            cursor.reset(plan.contract, entry);
+
+            return plan.run(cursor);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.project.knin.activity;
+
+/**
+ * ActivityRejection sinaliza, de dentro de uma ação, uma rejeição esperada. Não preenche a pilha de chamadas nem
+ * registra exceções suprimidas, portanto lançá-la custa pouco mais que um retorno. Registrada com
+ * {@link ActivityDefinition#tryAction(java.util.function.Function)}, a ação que a lança tem a mesma semântica de uma
+ * ação que retorna nulo.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public class ActivityRejection extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ActivityRejection INSTANCE = new ActivityRejection("Rejeitado");
+
+    /**
+     * @return instância compartilhada, para rejeições sem mensagem que não alocam
+     */
+    public static ActivityRejection instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param message motivo da rejeição
+     */
+    public ActivityRejection(final String message) {
+        super(message, null, false, false);
+    }
+
+}
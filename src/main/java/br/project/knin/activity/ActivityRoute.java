@@ -0,0 +1,52 @@
+package br.project.knin.activity;
+
+import java.util.function.Function;
+
+/**
+ * ActivityRoute registra os ramos de um roteamento. Cada ramo é um sub-fluxo com a mesma semântica de
+ * {@link ActivityDefinition}, executado sobre o valor corrente. Ao fim do ramo o fluxo continua nos passos
+ * registrados após {@link #end()}.
+ * <p>
+ * Os ramos são indexados uma única vez: chaves enum por ordinal, chaves inteiras próximas em um vetor, e demais
+ * chaves por hash. A escolha do ramo custa uma chamada ao classificador e um acesso à tabela, independente da
+ * quantidade de ramos.
+ * <p>
+ * Cada chamada de {@link #when(Object, Function)} e {@link #byDefault(Function)} produz um novo roteamento sem
+ * alterar o anterior, de modo que um roteamento parcial pode ser reaproveitado como prefixo de roteamentos distintos.
+ *
+ * @param <C> represent contract
+ * @param <E> represent entry initial
+ * @param <V> represente a value of flux
+ * @param <K> tipo da chave produzida pelo classificador
+ * @param <W> tipo de valor produzido pelos ramos
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface ActivityRoute<C, E, V, K, W> {
+
+    /**
+     * Registra o ramo executado quando o classificador produz a chave
+     *
+     * @param key    chave do ramo
+     * @param branch constrói o sub-fluxo do ramo a partir de uma definição vazia
+     * @return novo roteamento contendo os ramos deste e o ramo
+     * @throws IllegalArgumentException caso a chave já tenha um ramo
+     */
+    ActivityRoute<C, E, V, K, W> when(final K key, final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch);
+
+    /**
+     * Registra o ramo executado quando a chave não possui ramo ou o classificador produz nulo. Sem ramo padrão, o
+     * valor é descartado, com a mesma semântica de uma decisão não satisfeita.
+     *
+     * @param branch constrói o sub-fluxo do ramo a partir de uma definição vazia
+     * @return novo roteamento contendo os ramos deste e o ramo padrão
+     */
+    ActivityRoute<C, E, V, K, W> byDefault(final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch);
+
+    /**
+     * Encerra o roteamento
+     *
+     * @return nova definição contendo o roteamento
+     */
+    ActivityDefinition<C, E, W> end();
+
+}
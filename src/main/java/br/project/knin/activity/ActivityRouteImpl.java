@@ -0,0 +1,127 @@
+package br.project.knin.activity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class ActivityRouteImpl<C, E, V, K, W> implements ActivityRoute<C, E, V, K, W> {
+
+    static <C, E, V, K> ActivityRouter<C, E, V, K> create(final ActivityDefinitionImpl<C, E, V> definition, final Function<? super V, ? extends K> classifier) {
+        return new Router<>(definition, classifier);
+    }
+
+    private ActivityRouteImpl(final ActivityDefinitionImpl<C, E, V> definition, final Function<? super V, ? extends K> classifier,
+                              final Branch branches, final Step[] fallback) {
+
+        this.definition = definition;
+
+        this.classifier = classifier;
+
+        this.branches = branches;
+
+        this.fallback = fallback;
+
+    }
+
+    private final ActivityDefinitionImpl<C, E, V> definition;
+
+    private final Function<? super V, ? extends K> classifier;
+
+    /**
+     * Último ramo registrado, encadeado aos anteriores. Cada roteamento é imutável, de modo que um prefixo pode ser
+     * reaproveitado em roteamentos distintos
+     */
+    private final Branch branches;
+
+    private final Step[] fallback;
+
+    @Override
+    public ActivityRoute<C, E, V, K, W> when(final K key, final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch) {
+
+        Objects.requireNonNull(key, Messages.ROUTE_KEY);
+
+        for (Branch b = branches; b != null; b = b.previous) {
+            if (b.key.equals(key)) throw new IllegalArgumentException(Messages.ROUTE_DUPLICATED_KEY + key);
+        }
+
+        return new ActivityRouteImpl<>(definition, classifier, new Branch(key, steps(branch), branches), fallback);
+
+    }
+
+    @Override
+    public ActivityRoute<C, E, V, K, W> byDefault(final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch) {
+        return new ActivityRouteImpl<>(definition, classifier, branches, steps(branch));
+    }
+
+    @Override
+    public ActivityDefinition<C, E, W> end() {
+
+        final Deque<Branch> ordered = new ArrayDeque<>();
+
+        for (Branch b = branches; b != null; b = b.previous) ordered.push(b);
+
+        final Map<Object, Step[]> table = new LinkedHashMap<>();
+
+        for (final Branch b : ordered) table.put(b.key, b.steps);
+
+        return definition.then(new RouteStep(classifier, RouteStep.Table.of(table), fallback));
+
+    }
+
+    private Step[] steps(final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch) {
+
+        Objects.requireNonNull(branch, Messages.ROUTE_BRANCH);
+
+        final ActivityDefinition<C, E, W> built = branch.apply(definition.branch());
+
+        Objects.requireNonNull(built, Messages.ROUTE_BRANCH);
+
+        return Step.fuse(((ActivityDefinitionImpl<C, E, W>) built).steps());
+
+    }
+
+    private static final class Branch {
+
+        private Branch(final Object key, final Step[] steps, final Branch previous) {
+
+            this.key = key;
+
+            this.steps = steps;
+
+            this.previous = previous;
+
+        }
+
+        private final Object key;
+
+        private final Step[] steps;
+
+        private final Branch previous;
+
+    }
+
+    private static final class Router<C, E, V, K> implements ActivityRouter<C, E, V, K> {
+
+        private Router(final ActivityDefinitionImpl<C, E, V> definition, final Function<? super V, ? extends K> classifier) {
+
+            this.definition = definition;
+
+            this.classifier = classifier;
+
+        }
+
+        private final ActivityDefinitionImpl<C, E, V> definition;
+
+        private final Function<? super V, ? extends K> classifier;
+
+        @Override
+        public <W> ActivityRoute<C, E, V, K, W> when(final K key, final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch) {
+            return new ActivityRouteImpl<C, E, V, K, W>(definition, classifier, null, null).when(key, branch);
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package br.project.knin.activity;
+
+import java.util.function.Function;
+
+/**
+ * ActivityRouter é o início de um roteamento criado por {@link ActivityDefinition#route(Function)}. O primeiro ramo
+ * registrado define o tipo de valor produzido por todos os ramos.
+ *
+ * @param <C> represent contract
+ * @param <E> represent entry initial
+ * @param <V> represente a value of flux
+ * @param <K> tipo da chave produzida pelo classificador
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface ActivityRouter<C, E, V, K> {
+
+    /**
+     * Registra o ramo executado quando o classificador produz a chave
+     *
+     * @param key    chave do ramo
+     * @param branch constrói o sub-fluxo do ramo a partir de uma definição vazia
+     * @param <W>    tipo de valor produzido pelos ramos
+     * @return roteamento contendo o ramo
+     */
+    <W> ActivityRoute<C, E, V, K, W> when(final K key, final Function<ActivityDefinition<C, E, V>, ActivityDefinition<C, E, W>> branch);
+
+}
@@ -0,0 +1,205 @@
+package br.project.knin.activity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * AsyncActivity é a contraparte assíncrona de {@link Activity}. Decisões e ações podem produzir um
+ * {@link CompletionStage}, e a thread chamadora não é bloqueada enquanto o resultado não estiver disponível.
+ * <p>
+ * As operações são registradas e executadas a partir da chamada de exit, com a mesma semântica de contrato,
+ * otherwise e fim de fluxo de {@link Activity}. Exceções lançadas por qualquer operação completam o futuro de exit
+ * excepcionalmente.
+ *
+ * @param <C> represent contract
+ * @param <E> represent entry initial
+ * @param <V> represente a value of flux
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface AsyncActivity<C, E, V> {
+
+    /**
+     * The contract specifies the output object in the event that no action is taken
+     *
+     * @param c   instance of contract C type
+     * @param <C> C Type
+     * @return new instance of AsyncActivityBuilder C Type
+     */
+    static <C> AsyncActivityBuilder<C> contract(final C c) {
+        Objects.requireNonNull(c);
+        return new AsyncActivityBuilder<>(c);
+    }
+
+    /**
+     * AsyncActivityBuilder inicialize a new Instance of AsyncActivity
+     *
+     * @param <C>
+     */
+    class AsyncActivityBuilder<C> {
+
+        private AsyncActivityBuilder(final C c) {
+            this.c = c;
+        }
+
+        private final C c;
+
+        /**
+         * principal Method of AsyncActivityBuilder
+         *
+         * @param e   type object of entry
+         * @param <E> E generic Type
+         * @return new instance of AsyncActivity
+         */
+        public <E> AsyncActivity<C, E, E> entry(final E e) {
+            Objects.requireNonNull(e);
+            return AsyncActivityImpl.create(c, e);
+        }
+
+    }
+
+    /**
+     * Mesma semântica de {@link Activity#decision(Predicate)}
+     *
+     * @param predicate instance of predicate
+     * @return nova atividade contendo a decisão
+     */
+    AsyncActivity<C, E, V> decision(final Predicate<? super V> predicate);
+
+    /**
+     * Decisão cujo resultado é produzido de forma assíncrona. Um resultado nulo ou falso tem a mesma semântica de
+     * uma decisão não satisfeita.
+     *
+     * @param predicate função que produz o resultado da decisão
+     * @return nova atividade contendo a decisão
+     */
+    AsyncActivity<C, E, V> decisionAsync(final Function<? super V, ? extends CompletionStage<Boolean>> predicate);
+
+    /**
+     * Mesma semântica de {@link Activity#action(Function)}
+     *
+     * @param function mapeamento de V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo a ação
+     */
+    <W> AsyncActivity<C, E, W> action(final Function<? super V, ? extends W> function);
+
+    /**
+     * Mesma semântica de {@link Activity#action(BiFunction)}
+     *
+     * @param function mapeamento de E (entryObject) e V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo a ação
+     */
+    <W> AsyncActivity<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function);
+
+    /**
+     * Ação cujo resultado é produzido de forma assíncrona. Um resultado nulo, ou um CompletionStage nulo, tem a
+     * mesma semântica de uma ação que retorna nulo.
+     *
+     * @param function mapeamento de V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo a ação
+     */
+    <W> AsyncActivity<C, E, W> actionAsync(final Function<? super V, ? extends CompletionStage<W>> function);
+
+    /**
+     * Mesma semântica de {@link #actionAsync(Function)}
+     *
+     * @param function mapeamento de E (entryObject) e V (value) para o tipo genérico W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo a ação
+     */
+    <W> AsyncActivity<C, E, W> actionAsync(final BiFunction<? super E, ? super V, ? extends CompletionStage<W>> function);
+
+    /**
+     * Mesma semântica de {@link ActivityDefinition#fork(BiFunction, BiFunction, BiFunction, Executor)}. A junção é
+     * encadeada ao fim dos ramos, sem bloquear a thread chamadora.
+     *
+     * @param first    primeiro ramo, mapeamento de E (entryObject) e V (value) para A
+     * @param second   segundo ramo, mapeamento de E (entryObject) e V (value) para B
+     * @param join     combinação dos resultados dos ramos
+     * @param executor executor dos ramos
+     * @param <A>      tipo do resultado do primeiro ramo
+     * @param <B>      tipo do resultado do segundo ramo
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo o fork
+     */
+    <A, B, W> AsyncActivity<C, E, W> fork(final BiFunction<? super E, ? super V, ? extends A> first,
+                                          final BiFunction<? super E, ? super V, ? extends B> second,
+                                          final BiFunction<? super A, ? super B, ? extends W> join,
+                                          final Executor executor);
+
+    /**
+     * Mesma semântica de {@link ActivityDefinition#fork(List, Function, Executor)}. A junção é encadeada ao fim dos
+     * ramos, sem bloquear a thread chamadora.
+     *
+     * @param branches ramos, mapeamentos de E (entryObject) e V (value) para R
+     * @param join     combinação dos resultados, na ordem dos ramos
+     * @param executor executor dos ramos
+     * @param <R>      tipo do resultado dos ramos
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo o fork
+     */
+    <R, W> AsyncActivity<C, E, W> fork(final List<? extends BiFunction<? super E, ? super V, ? extends R>> branches,
+                                       final Function<? super List<R>, ? extends W> join,
+                                       final Executor executor);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwise(Supplier)}
+     *
+     * @param produce uma instância cuja interface funcional seja Supplier
+     * @return nova atividade contendo o fluxo alternativo
+     */
+    AsyncActivity<C, E, V> otherwise(final Supplier<? extends C> produce);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwise(Function)}
+     *
+     * @param function mapeamento de E (entryObject) para o contrato
+     * @return nova atividade contendo o fluxo alternativo
+     */
+    AsyncActivity<C, E, V> otherwise(final Function<? super E, ? extends C> function);
+
+    /**
+     * Mesma semântica de {@link Activity#channel(Channel)}
+     *
+     * @param channel é uma instância da interface Channel do tipo V
+     * @return nova atividade contendo o canal
+     */
+    AsyncActivity<C, E, V> channel(final Channel<? super V> channel);
+
+    /**
+     * Mesma semântica de {@link Activity#channel(BiFunction, Channel)}
+     *
+     * @param function instância de uma funçãoZ
+     * @param channel  instância de uma canal
+     * @param <W>      E,V -> W é um mapeamento que transforma entrada e valor em W
+     * @return nova atividade contendo o canal
+     */
+    <W> AsyncActivity<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwiseChannel(Function, Channel)}
+     *
+     * @param function é uma instância da interface Function
+     * @param channel  é uma instância da interface Channel do tipo C
+     * @return nova atividade contendo o canal de fluxo alternativo
+     */
+    AsyncActivity<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel);
+
+    /**
+     * exit inicia a execução da atividade. Mesma semântica de {@link Activity#exit(Function)}
+     *
+     * @param function mapeamento de V (value) para C (contract)
+     * @return futuro do objeto final de contrato
+     */
+    CompletableFuture<C> exit(final Function<? super V, ? extends C> function);
+
+}
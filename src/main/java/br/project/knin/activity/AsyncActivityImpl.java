@@ -0,0 +1,113 @@
+package br.project.knin.activity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+final class AsyncActivityImpl<C, E, V> implements AsyncActivity<C, E, V> {
+
+    static <C, E> AsyncActivity<C, E, E> create(final C contract, final E entry) {
+        return new AsyncActivityImpl<>(entry, ActivityDefinitionImpl.create(contract));
+    }
+
+    private AsyncActivityImpl(final E entry, final ActivityDefinition<C, E, V> definition) {
+
+        this.entry = entry;
+
+        this.definition = (ActivityDefinitionImpl<C, E, V>) definition;
+
+    }
+
+    private final E entry;
+
+    private final ActivityDefinitionImpl<C, E, V> definition;
+
+    private <W> AsyncActivity<C, E, W> then(final ActivityDefinition<C, E, W> definition) {
+        return new AsyncActivityImpl<>(entry, definition);
+    }
+
+    @Override
+    public AsyncActivity<C, E, V> decision(final Predicate<? super V> predicate) {
+        return then(definition.decision(predicate));
+    }
+
+    @Override
+    public AsyncActivity<C, E, V> decisionAsync(final Function<? super V, ? extends CompletionStage<Boolean>> predicate) {
+        Objects.requireNonNull(predicate, Messages.DECISION);
+        return then(definition.then(new AsyncStep.Decision(predicate)));
+    }
+
+    @Override
+    public <W> AsyncActivity<C, E, W> action(final Function<? super V, ? extends W> function) {
+        return then(definition.action(function));
+    }
+
+    @Override
+    public <W> AsyncActivity<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function) {
+        return then(definition.action(function));
+    }
+
+    @Override
+    public <W> AsyncActivity<C, E, W> actionAsync(final Function<? super V, ? extends CompletionStage<W>> function) {
+        Objects.requireNonNull(function, Messages.ACTION);
+        return then(definition.then(new AsyncStep.Action(function)));
+    }
+
+    @Override
+    public <W> AsyncActivity<C, E, W> actionAsync(final BiFunction<? super E, ? super V, ? extends CompletionStage<W>> function) {
+        Objects.requireNonNull(function, Messages.ACTION_Z);
+        return then(definition.then(new AsyncStep.ActionZ(function)));
+    }
+
+    @Override
+    public <A, B, W> AsyncActivity<C, E, W> fork(final BiFunction<? super E, ? super V, ? extends A> first,
+                                                 final BiFunction<? super E, ? super V, ? extends B> second,
+                                                 final BiFunction<? super A, ? super B, ? extends W> join,
+                                                 final Executor executor) {
+        return then(definition.fork(first, second, join, executor));
+    }
+
+    @Override
+    public <R, W> AsyncActivity<C, E, W> fork(final List<? extends BiFunction<? super E, ? super V, ? extends R>> branches,
+                                              final Function<? super List<R>, ? extends W> join,
+                                              final Executor executor) {
+        return then(definition.fork(branches, join, executor));
+    }
+
+    @Override
+    public AsyncActivity<C, E, V> otherwise(final Supplier<? extends C> supplier) {
+        return then(definition.otherwise(supplier));
+    }
+
+    @Override
+    public AsyncActivity<C, E, V> otherwise(final Function<? super E, ? extends C> function) {
+        return then(definition.otherwise(function));
+    }
+
+    @Override
+    public AsyncActivity<C, E, V> channel(final Channel<? super V> channel) {
+        return then(definition.channel(channel));
+    }
+
+    @Override
+    public <W> AsyncActivity<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel) {
+        return then(definition.channel(function, channel));
+    }
+
+    @Override
+    public AsyncActivity<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel) {
+        return then(definition.otherwiseChannel(function, channel));
+    }
+
+    @Override
+    public CompletableFuture<C> exit(final Function<? super V, ? extends C> function) {
+        return definition.compile(function).applyAsync(entry);
+    }
+
+}
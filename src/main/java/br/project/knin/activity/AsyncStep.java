@@ -0,0 +1,186 @@
+package br.project.knin.activity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * AsyncStep é um passo cujo resultado é produzido por um {@link CompletionStage}. A execução é dividida em duas
+ * partes: start inicia a computação e complete aplica o resultado ao cursor, com a mesma semântica do passo síncrono
+ * equivalente.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+abstract class AsyncStep extends Step {
+
+    /**
+     * Executa os passos até o fim do fluxo, suspendendo a execução em cada passo assíncrono até que o seu resultado
+     * esteja disponível. Exceções lançadas pelos passos completam o futuro excepcionalmente. O cursor não possui prazo
+     * de plano; apenas os passos com prazo próprio são limitados.
+     *
+     * @param steps  passos compilados
+     * @param from   índice do primeiro passo a executar
+     * @param cursor estado da execução
+     * @return futuro do cursor ao fim do fluxo
+     */
+    static CompletableFuture<Cursor> run(final Step[] steps, final int from, final Cursor cursor) {
+
+        try {
+
+            for (int i = from; i < steps.length; i++) {
+
+                if (cursor.over) break;
+
+                if (cursor.value != null && steps[i] instanceof AsyncStep) {
+
+                    final AsyncStep step = (AsyncStep) steps[i];
+
+                    final int next = i + 1;
+
+                    final CompletionStage<?> stage = step.start(cursor);
+
+                    if (stage == null) {
+                        cursor.value = null;
+                        continue;
+                    }
+
+                    return stage
+                            .thenCompose(result -> {
+                                step.complete(cursor, result);
+                                return run(steps, next, cursor);
+                            })
+                            .toCompletableFuture();
+
+                }
+
+                steps[i].execute(cursor);
+
+            }
+
+            return CompletableFuture.completedFuture(cursor);
+
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+    }
+
+    /**
+     * Chamado apenas quando o valor encapsulado é diferente de nulo
+     *
+     * @param cursor estado da execução
+     * @return computação iniciada. Nulo representa um resultado nulo
+     */
+    abstract CompletionStage<?> start(final Cursor cursor);
+
+    abstract void complete(final Cursor cursor, final Object result);
+
+    /**
+     * Fora de uma execução assíncrona, aguarda o resultado na thread chamadora. A exceção que completou o resultado
+     * é relançada sem o envoltório de {@link CompletionException}
+     */
+    @Override
+    final void execute(final Cursor cursor) {
+
+        if (cursor.value == null) {
+            cursor.end();
+            return;
+        }
+
+        final CompletionStage<?> stage = start(cursor);
+
+        final Object result;
+
+        try {
+            result = stage == null ? null : stage.toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+
+        complete(cursor, result);
+
+    }
+
+    static final class Decision extends AsyncStep {
+
+        @SuppressWarnings("unchecked")
+        Decision(final Function<?, ? extends CompletionStage<Boolean>> predicate) {
+            this.predicate = (Function<Object, ? extends CompletionStage<Boolean>>) predicate;
+        }
+
+        private final Function<Object, ? extends CompletionStage<Boolean>> predicate;
+
+        @Override
+        CompletionStage<?> start(final Cursor cursor) {
+            return predicate.apply(cursor.value);
+        }
+
+        @Override
+        void complete(final Cursor cursor, final Object result) {
+            if (!Boolean.TRUE.equals(result)) cursor.value = null;
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.DECISION;
+        }
+
+    }
+
+    static final class Action extends AsyncStep {
+
+        @SuppressWarnings("unchecked")
+        Action(final Function<?, ? extends CompletionStage<?>> function) {
+            this.function = (Function<Object, ? extends CompletionStage<?>>) function;
+        }
+
+        private final Function<Object, ? extends CompletionStage<?>> function;
+
+        @Override
+        CompletionStage<?> start(final Cursor cursor) {
+            return function.apply(cursor.value);
+        }
+
+        @Override
+        void complete(final Cursor cursor, final Object result) {
+            cursor.value = result;
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.ACTION;
+        }
+
+    }
+
+    static final class ActionZ extends AsyncStep {
+
+        @SuppressWarnings("unchecked")
+        ActionZ(final BiFunction<?, ?, ? extends CompletionStage<?>> function) {
+            this.function = (BiFunction<Object, Object, ? extends CompletionStage<?>>) function;
+        }
+
+        private final BiFunction<Object, Object, ? extends CompletionStage<?>> function;
+
+        @Override
+        CompletionStage<?> start(final Cursor cursor) {
+            return function.apply(cursor.entry, cursor.value);
+        }
+
+        @Override
+        void complete(final Cursor cursor, final Object result) {
+            cursor.value = result;
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.ACTION;
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package br.project.knin.activity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch acumula as mensagens destinadas a um {@link BatchChannel} durante uma execução em lote. Canais comuns
+ * continuam recebendo cada mensagem no momento do commit.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+class Batch {
+
+    private BatchChannel<Object>[] channels = newChannels(4);
+
+    private List<Object>[] messages = newMessages(4);
+
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    private static BatchChannel<Object>[] newChannels(final int length) {
+        return (BatchChannel<Object>[]) new BatchChannel<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object>[] newMessages(final int length) {
+        return (List<Object>[]) new List<?>[length];
+    }
+
+    void commit(final Channel<Object> channel, final Object message) {
+
+        if (!(channel instanceof BatchChannel)) {
+            channel.commit(message);
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (channels[i] == channel) {
+                messages[i].add(message);
+                return;
+            }
+        }
+
+        if (size == channels.length) grow();
+
+        channels[size] = (BatchChannel<Object>) channel;
+
+        messages[size] = new ArrayList<>();
+
+        messages[size++].add(message);
+
+    }
+
+    private void grow() {
+
+        final BatchChannel<Object>[] channels = newChannels(size * 2);
+
+        final List<Object>[] messages = newMessages(size * 2);
+
+        System.arraycopy(this.channels, 0, channels, 0, size);
+
+        System.arraycopy(this.messages, 0, messages, 0, size);
+
+        this.channels = channels;
+
+        this.messages = messages;
+
+    }
+
+    /**
+     * Encaminha as mensagens acumuladas, na ordem em que cada canal recebeu a primeira mensagem do lote
+     */
+    void flush() {
+
+        for (int i = 0; i < size; i++) {
+            channels[i].commitAll(messages[i]);
+            channels[i] = null;
+            messages[i] = null;
+        }
+
+        size = 0;
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package br.project.knin.activity;
+
+import java.util.List;
+
+/**
+ * BatchChannel é um canal que recebe as mensagens de uma execução em lote de uma única vez, ao fim do lote, em vez
+ * de uma chamada de commit por mensagem. Fora de uma execução em lote, cada mensagem é encaminhada como um lote
+ * unitário.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@FunctionalInterface
+public interface BatchChannel<E> extends Channel<E> {
+
+    /**
+     * @param es mensagens na ordem em que foram produzidas pelo lote
+     */
+    void commitAll(final List<E> es);
+
+    @Override
+    default void commit(final E e) {
+        commitAll(List.of(e));
+    }
+
+}
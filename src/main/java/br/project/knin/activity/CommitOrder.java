@@ -0,0 +1,22 @@
+package br.project.knin.activity;
+
+/**
+ * CommitOrder define como as mensagens de canais são encaminhadas em uma execução paralela em lote.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public enum CommitOrder {
+
+    /**
+     * Mensagens são acumuladas por cada thread e encaminhadas pela thread chamadora, na ordem das entradas, após o
+     * fim do lote. Canais não precisam ser thread-safe.
+     */
+    ORDERED,
+
+    /**
+     * Mensagens são encaminhadas pela thread que executa a entrada, no momento do commit. Canais devem ser
+     * thread-safe.
+     */
+    UNORDERED
+
+}
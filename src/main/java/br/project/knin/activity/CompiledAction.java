@@ -0,0 +1,43 @@
+package br.project.knin.activity;
+
+import java.util.function.Function;
+
+/**
+ * Modelo de nó para {@link Step.Action}, copiado por {@link PlanCompiler} para cada ação de um plano compilado
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class CompiledAction extends CompiledNode {
+
+    @SuppressWarnings("unchecked")
+    CompiledAction(final Object function, final CompiledNode next) {
+
+        this.function = (Function<Object, Object>) function;
+
+        this.next = next;
+
+    }
+
+    private final Function<Object, Object> function;
+
+    private final CompiledNode next;
+
+    @Override
+    CompiledNode execute(final Cursor cursor) {
+
+        if (cursor.deadline != 0 && cursor.expire()) return next;
+
+        final Object value = cursor.value;
+
+        if (value == null) {
+            cursor.end();
+            return null;
+        }
+
+        cursor.value = function.apply(value);
+
+        return next;
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package br.project.knin.activity;
+
+import java.util.function.BiFunction;
+
+/**
+ * Modelo de nó para {@link Step.ActionZ}, copiado por {@link PlanCompiler} para cada ação de um plano compilado
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class CompiledActionZ extends CompiledNode {
+
+    @SuppressWarnings("unchecked")
+    CompiledActionZ(final Object function, final CompiledNode next) {
+
+        this.function = (BiFunction<Object, Object, Object>) function;
+
+        this.next = next;
+
+    }
+
+    private final BiFunction<Object, Object, Object> function;
+
+    private final CompiledNode next;
+
+    @Override
+    CompiledNode execute(final Cursor cursor) {
+
+        if (cursor.deadline != 0 && cursor.expire()) return next;
+
+        final Object value = cursor.value;
+
+        if (value == null) {
+            cursor.end();
+            return null;
+        }
+
+        cursor.value = function.apply(cursor.entry, value);
+
+        return next;
+
+    }
+
+}
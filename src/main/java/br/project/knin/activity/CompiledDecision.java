@@ -0,0 +1,43 @@
+package br.project.knin.activity;
+
+import java.util.function.Predicate;
+
+/**
+ * Modelo de nó para {@link Step.Decision}, copiado por {@link PlanCompiler} para cada decisão de um plano compilado
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class CompiledDecision extends CompiledNode {
+
+    @SuppressWarnings("unchecked")
+    CompiledDecision(final Object predicate, final CompiledNode next) {
+
+        this.predicate = (Predicate<Object>) predicate;
+
+        this.next = next;
+
+    }
+
+    private final Predicate<Object> predicate;
+
+    private final CompiledNode next;
+
+    @Override
+    CompiledNode execute(final Cursor cursor) {
+
+        if (cursor.deadline != 0 && cursor.expire()) return next;
+
+        final Object value = cursor.value;
+
+        if (value == null) {
+            cursor.end();
+            return null;
+        }
+
+        if (!predicate.test(value)) cursor.value = null;
+
+        return next;
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.project.knin.activity;
+
+import java.util.function.Function;
+
+/**
+ * Modelo de nó para a função de exit, copiado por {@link PlanCompiler} para cada plano compilado
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class CompiledExit extends CompiledNode {
+
+    @SuppressWarnings("unchecked")
+    CompiledExit(final Object exit, final CompiledNode next) {
+        this.exit = (Function<Object, Object>) exit;
+    }
+
+    private final Function<Object, Object> exit;
+
+    @Override
+    CompiledNode execute(final Cursor cursor) {
+
+        final Object value = cursor.value;
+
+        if (value != null) cursor.value = exit.apply(value);
+
+        return null;
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.project.knin.activity;
+
+/**
+ * CompiledNode é um passo de um plano compilado por {@link PlanCompiler}. Cada nó executa o seu passo e retorna o nó
+ * seguinte, e a cadeia é percorrida por {@link #run(CompiledNode, Cursor)} em um laço, sem crescer a pilha com a
+ * quantidade de passos.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+abstract class CompiledNode {
+
+    /**
+     * Mesmo efeito de {@link Step#run(Step[], Cursor)} seguido de exit. Ao final, o valor do cursor é o resultado de
+     * exit, ou nulo quando o plano deve retornar o contrato do cursor
+     *
+     * @param node   primeiro nó da cadeia
+     * @param cursor estado da execução
+     */
+    static void run(final CompiledNode node, final Cursor cursor) {
+        CompiledNode next = node;
+        while (next != null) next = next.execute(cursor);
+    }
+
+    /**
+     * @param cursor estado da execução
+     * @return nó seguinte, ou nulo ao fim do fluxo ou após exit
+     */
+    abstract CompiledNode execute(final Cursor cursor);
+
+}
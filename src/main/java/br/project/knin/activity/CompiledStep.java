@@ -0,0 +1,31 @@
+package br.project.knin.activity;
+
+/**
+ * Modelo de nó para os demais passos, copiado por {@link PlanCompiler} para cada passo de um plano compilado
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class CompiledStep extends CompiledNode {
+
+    CompiledStep(final Object step, final CompiledNode next) {
+
+        this.step = (Step) step;
+
+        this.next = next;
+
+    }
+
+    private final Step step;
+
+    private final CompiledNode next;
+
+    @Override
+    CompiledNode execute(final Cursor cursor) {
+
+        if (cursor.deadline == 0 || !cursor.expire() || !step.transforms()) step.execute(cursor);
+
+        return cursor.over ? null : next;
+
+    }
+
+}
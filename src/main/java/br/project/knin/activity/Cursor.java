@@ -0,0 +1,103 @@
+package br.project.knin.activity;
+
+/**
+ * Cursor carrega o estado de uma execução de plano enquanto percorre os passos.
+ * <p>
+ * O estado reproduz o de {@link ActivityImpl}: valor diferente de nulo representa fluxo ativo, valor nulo representa
+ * fim de ação ainda sujeito a um otherwise, e {@code over} representa fim de fluxo definitivo.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class Cursor {
+
+    Cursor(final Object contract, final Object entry) {
+        reset(contract, entry);
+    }
+
+    Object contract;
+
+    Object entry;
+
+    Object value;
+
+    boolean over;
+
+    /**
+     * Diferente de nulo apenas durante uma execução em lote
+     */
+    Batch batch;
+
+    /**
+     * Diferente de nulo apenas em execuções de planos com eventos JFR
+     */
+    String flow;
+
+    /**
+     * Instante, em {@link System#nanoTime()}, do fim do prazo da execução. Zero quando o plano não possui prazo
+     */
+    long deadline;
+
+    /**
+     * Quantidade de passos encerrados por prazo na execução atual
+     */
+    int timeouts;
+
+    void reset(final Object contract, final Object entry) {
+
+        this.contract = contract;
+
+        this.entry = entry;
+
+        value = entry;
+
+        over = false;
+
+        timeouts = 0;
+
+    }
+
+    /**
+     * Ao fim do prazo da execução, o valor passa a ser nulo, com a mesma semântica de uma ação que retorna nulo
+     *
+     * @return verdadeiro quando o prazo terminou, caso em que as decisões e ações restantes devem ser ignoradas
+     */
+    boolean expire() {
+
+        if (System.nanoTime() - deadline < 0) return false;
+
+        if (value != null) {
+            value = null;
+            timeouts++;
+        }
+
+        return true;
+
+    }
+
+    void end() {
+
+        value = null;
+
+        over = true;
+
+    }
+
+    void end(final Object contract) {
+
+        this.contract = contract;
+
+        end();
+
+    }
+
+    void commit(final Channel<Object> channel, final Object message) {
+
+        if (batch != null) batch.commit(channel, message);
+
+        else if (flow == null) channel.commit(message);
+
+        else ActivityEvents.commit(flow, channel, message);
+
+    }
+
+}
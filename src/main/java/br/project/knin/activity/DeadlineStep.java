@@ -0,0 +1,234 @@
+package br.project.knin.activity;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeadlineStep executa uma decisão ou ação no executor e desiste dela quando o resultado não fica pronto dentro do
+ * prazo. O prazo é o menor entre o do passo e o restante do prazo do plano, quando houver. Um passo que excede o
+ * prazo tem a mesma semântica de uma ação que retorna nulo, e a thread que o executa é interrompida.
+ * <p>
+ * Em um plano, a thread chamadora aguarda o resultado por no máximo o prazo. Em uma {@link AsyncActivity}, o resultado
+ * é encadeado sem bloquear.
+ * <p>
+ * Os prazos são agendados em uma única thread daemon compartilhada, e o agendamento é cancelado e removido da fila
+ * assim que o passo termina, de modo que passos rápidos com prazos longos não acumulam tarefas pendentes.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class DeadlineStep extends AsyncStep {
+
+    /**
+     * @param step     decisão ou ação
+     * @param timeout  prazo do passo, positivo
+     * @param executor executor do passo
+     * @return passo com argumentos validados
+     */
+    static DeadlineStep validated(final Step step, final Duration timeout, final Executor executor) {
+
+        if (!(step instanceof Unit)) throw new IllegalStateException(Messages.DEADLINE_WITHOUT_ACTION);
+
+        Objects.requireNonNull(executor, Messages.DEADLINE_EXECUTOR);
+
+        return new DeadlineStep((Unit) step, nanos(timeout), executor);
+
+    }
+
+    /**
+     * @param timeout prazo
+     * @return prazo em nanossegundos
+     * @throws IllegalArgumentException caso o prazo não seja positivo
+     */
+    static long nanos(final Duration timeout) {
+
+        Objects.requireNonNull(timeout, Messages.DEADLINE);
+
+        if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException(Messages.DEADLINE_NOT_POSITIVE);
+
+        try {
+            return timeout.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+
+    }
+
+    private DeadlineStep(final Unit unit, final long timeout, final Executor executor) {
+
+        this.unit = unit;
+
+        this.timeout = timeout;
+
+        this.executor = executor;
+
+    }
+
+    /**
+     * Resultado de um passo que excedeu o prazo
+     */
+    private static final Object TIMEOUT = new Object();
+
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private static ScheduledThreadPoolExecutor timer() {
+
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "activity-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        timer.setRemoveOnCancelPolicy(true);
+
+        return timer;
+
+    }
+
+    private final Unit unit;
+
+    private final long timeout;
+
+    private final Executor executor;
+
+    @Override
+    CompletionStage<?> start(final Cursor cursor) {
+
+        final long budget = cursor.deadline == 0 ? timeout : Math.min(timeout, cursor.deadline - System.nanoTime());
+
+        if (budget <= 0) return CompletableFuture.completedFuture(TIMEOUT);
+
+        final Attempt attempt = new Attempt(unit, cursor.entry, cursor.value);
+
+        executor.execute(attempt);
+
+        if (!attempt.isDone()) attempt.schedule(budget);
+
+        return attempt;
+
+    }
+
+    @Override
+    void complete(final Cursor cursor, final Object result) {
+
+        if (result == TIMEOUT) {
+            cursor.value = null;
+            cursor.timeouts++;
+        } else cursor.value = result;
+
+    }
+
+    /**
+     * @return quantidade de prazos agendados e ainda não encerrados
+     */
+    static int scheduled() {
+        return TIMER.getQueue().size();
+    }
+
+    /**
+     * @return decisão ou ação limitada pelo prazo
+     */
+    Unit unit() {
+        return unit;
+    }
+
+    @Override
+    StepKind kind() {
+        return unit.kind();
+    }
+
+    /**
+     * Execução de um passo no executor. Ao expirar, o resultado passa a ser {@link #TIMEOUT} e a thread que executa o
+     * passo é interrompida, caso ainda esteja nele. A thread é registrada e liberada sob o monitor da tentativa, o
+     * mesmo usado para interrompê-la, de modo que a interrupção nunca alcança a tarefa seguinte do executor
+     */
+    private static final class Attempt extends CompletableFuture<Object> implements Runnable {
+
+        private Attempt(final Unit unit, final Object entry, final Object value) {
+
+            this.unit = unit;
+
+            this.entry = entry;
+
+            this.value = value;
+
+        }
+
+        private final Unit unit;
+
+        private final Object entry;
+
+        private final Object value;
+
+        private Thread runner;
+
+        private boolean interrupted;
+
+        private volatile ScheduledFuture<?> timer;
+
+        @Override
+        public void run() {
+
+            synchronized (this) {
+                if (isDone()) return;
+                runner = Thread.currentThread();
+            }
+
+            try {
+                complete(unit.apply(entry, value));
+            } catch (final Throwable e) {
+                completeExceptionally(e);
+            } finally {
+                release();
+            }
+
+        }
+
+        private void release() {
+
+            synchronized (this) {
+                runner = null;
+                // a interrupção pertence ao passo abandonado, não à thread do executor
+                if (interrupted) Thread.interrupted();
+            }
+
+            final ScheduledFuture<?> timer = this.timer;
+
+            if (timer != null) timer.cancel(false);
+
+        }
+
+        /**
+         * Agenda o fim do prazo. Quando o passo termina antes do agendamento, o cancelamento fica a cargo desta
+         * chamada
+         */
+        private void schedule(final long budget) {
+
+            final ScheduledFuture<?> timer = TIMER.schedule(this::expire, budget, TimeUnit.NANOSECONDS);
+
+            this.timer = timer;
+
+            if (isDone()) timer.cancel(false);
+
+        }
+
+        private void expire() {
+
+            if (!complete(TIMEOUT)) return;
+
+            synchronized (this) {
+                if (runner == null) return;
+                interrupted = true;
+                runner.interrupt();
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,181 @@
+package br.project.knin.activity;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * DecisionGroup é uma decisão formada por predicados comutativos, satisfeita apenas quando todos são satisfeitos. A
+ * ordem de avaliação é ajustada durante a execução para que predicados baratos e seletivos sejam avaliados primeiro.
+ * <p>
+ * Uma execução a cada {@code sample} é amostrada: todos os predicados são avaliados e o tempo e o resultado de cada
+ * um são registrados. A cada {@code period} amostras, os predicados são ordenados por custo / (1 - taxa de
+ * aprovação) da janela e a nova ordem é publicada em um campo volátil. Execuções não amostradas apenas leem a ordem
+ * corrente e param no primeiro predicado não satisfeito, sem locks.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class DecisionGroup extends Step.Unit {
+
+    private static final int SAMPLE = 64;
+
+    private static final int PERIOD = 32;
+
+    /**
+     * Evita rank infinito para predicados sempre satisfeitos, que continuam ordenados pelo custo
+     */
+    private static final double MINIMUM_REJECTION = 1e-3;
+
+    /**
+     * @param predicates predicados, ao menos um
+     * @return passo com argumentos validados
+     */
+    static DecisionGroup validated(final List<? extends Predicate<?>> predicates) {
+
+        Objects.requireNonNull(predicates, Messages.DECISIONS);
+
+        if (predicates.isEmpty()) throw new IllegalArgumentException(Messages.DECISIONS_EMPTY);
+
+        for (final Predicate<?> predicate : predicates) Objects.requireNonNull(predicate, Messages.DECISION);
+
+        return new DecisionGroup(predicates, SAMPLE, PERIOD);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    DecisionGroup(final List<? extends Predicate<?>> predicates, final int sample, final int period) {
+
+        this.predicates = (Predicate<Object>[]) predicates.toArray(new Predicate<?>[0]);
+
+        this.sample = sample;
+
+        this.period = period;
+
+        order = IntStream.range(0, this.predicates.length).toArray();
+
+        passes = new LongAdder[this.predicates.length];
+
+        nanos = new LongAdder[this.predicates.length];
+
+        for (int i = 0; i < this.predicates.length; i++) {
+            passes[i] = new LongAdder();
+            nanos[i] = new LongAdder();
+        }
+
+    }
+
+    private final Predicate<Object>[] predicates;
+
+    private final int sample;
+
+    private final int period;
+
+    private final LongAdder[] passes;
+
+    private final LongAdder[] nanos;
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    private volatile int[] order;
+
+    @Override
+    BiFunction<Object, Object, Object> unit() {
+        return this::apply;
+    }
+
+    @Override
+    Object apply(final Object entry, final Object value) {
+
+        if (sample > 1 && ThreadLocalRandom.current().nextInt(sample) != 0) {
+
+            for (final int i : order) if (!predicates[i].test(value)) return null;
+
+            return value;
+
+        }
+
+        return sampled(value);
+
+    }
+
+    private Object sampled(final Object value) {
+
+        boolean passed = true;
+
+        for (int i = 0; i < predicates.length; i++) {
+
+            final long start = System.nanoTime();
+
+            final boolean test = predicates[i].test(value);
+
+            nanos[i].add(System.nanoTime() - start);
+
+            if (test) passes[i].increment();
+
+            else passed = false;
+
+        }
+
+        if (samples.incrementAndGet() % period == 0) reorder();
+
+        return passed ? value : null;
+
+    }
+
+    /**
+     * Apenas uma thread recalcula a ordem. As amostras registradas durante o cálculo entram na janela seguinte
+     */
+    private void reorder() {
+
+        if (!reordering.compareAndSet(false, true)) return;
+
+        try {
+
+            final double[] ranks = new double[predicates.length];
+
+            for (int i = 0; i < predicates.length; i++) {
+
+                final double cost = Math.max(1, nanos[i].sumThenReset()) / (double) period;
+
+                final double pass = passes[i].sumThenReset() / (double) period;
+
+                ranks[i] = cost / Math.max(1 - pass, MINIMUM_REJECTION);
+
+            }
+
+            order = IntStream
+                    .range(0, predicates.length)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(i -> ranks[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+        } finally {
+            reordering.set(false);
+        }
+
+    }
+
+    /**
+     * @return ordem de avaliação corrente, por índice de registro
+     */
+    int[] order() {
+        return Arrays.copyOf(order, order.length);
+    }
+
+    @Override
+    StepKind kind() {
+        return StepKind.DECISION;
+    }
+
+}
@@ -0,0 +1,132 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+final class DoubleActivityImpl<C> extends PrimitiveActivityImpl<C, DoubleActivity<C>> implements DoubleActivity<C> {
+
+    static <C> DoubleActivity<C> create(final C contract, final double entry) {
+        return new DoubleActivityImpl<>(contract, ACTIVE, entry, entry);
+    }
+
+    private DoubleActivityImpl(final C contract, final byte state, final double entry, final double value) {
+
+        super(contract, state);
+
+        this.entry = entry;
+
+        this.value = value;
+
+    }
+
+    private final double entry;
+
+    private final double value;
+
+    @Override
+    DoubleActivity<C> with(final C contract, final byte state) {
+        return new DoubleActivityImpl<>(contract, state, entry, value);
+    }
+
+    @Override
+    public DoubleActivity<C> decision(final DoublePredicate predicate) {
+
+        Objects.requireNonNull(predicate, Messages.DECISION);
+
+        if (state != ACTIVE) return over();
+
+        return decided(predicate.test(value));
+
+    }
+
+    @Override
+    public DoubleActivity<C> action(final DoubleUnaryOperator operator) {
+
+        Objects.requireNonNull(operator, Messages.ACTION);
+
+        if (state != ACTIVE) return over();
+
+        return new DoubleActivityImpl<>(contract, ACTIVE, entry, operator.applyAsDouble(value));
+
+    }
+
+    @Override
+    public <W> Activity<C, Double, W> mapToObj(final DoubleFunction<? extends W> function) {
+
+        Objects.requireNonNull(function, Messages.ACTION);
+
+        if (state != ACTIVE) return ActivityImpl.over(contract, entry);
+
+        return ActivityImpl.create(contract, entry, function.apply(value));
+
+    }
+
+    @Override
+    public DoubleActivity<C> otherwise(final DoubleFunction<? extends C> function) {
+
+        Objects.requireNonNull(function, Messages.OTHERWISE_FUNCTION);
+
+        if (state != FAILED) return this;
+
+        return over(function.apply(entry));
+
+    }
+
+    @Override
+    public DoubleActivity<C> channel(final DoubleConsumer channel) {
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (state != ACTIVE) return over();
+
+        channel.accept(value);
+
+        return this;
+
+    }
+
+    @Override
+    public <W> DoubleActivity<C> channel(final DoubleFunction<? extends W> function, final Channel<? super W> channel) {
+
+        Objects.requireNonNull(function, Messages.CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (state != ACTIVE) return over();
+
+        final W w = function.apply(value);
+
+        if (w != null) channel.commit(w);
+
+        return this;
+
+    }
+
+    @Override
+    public DoubleActivity<C> otherwiseChannel(final DoubleFunction<? extends C> function, final Channel<? super C> channel) {
+
+        Objects.requireNonNull(function, Messages.OTHERWISE_CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.OTHERWISE_CHANNEL);
+
+        if (state != FAILED) return this;
+
+        return commit(function.apply(entry), channel);
+
+    }
+
+    @Override
+    public C exit(final DoubleFunction<? extends C> function) {
+
+        Objects.requireNonNull(function, Messages.EXIT);
+
+        if (state != ACTIVE) return contract;
+
+        return exit(function.apply(value));
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package br.project.knin.activity;
+
+/**
+ * EventStep emite um {@link ActivityEvents.StepEvent} para cada execução do passo decorado.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class EventStep extends Step {
+
+    EventStep(final Step step, final String flow, final String name) {
+
+        this.step = step;
+
+        this.flow = flow;
+
+        this.name = name;
+
+        kind = step.kind();
+
+    }
+
+    private final Step step;
+
+    private final String flow;
+
+    private final String name;
+
+    private final StepKind kind;
+
+    @Override
+    void execute(final Cursor cursor) {
+
+        final ActivityEvents.StepEvent event = new ActivityEvents.StepEvent();
+
+        event.begin();
+
+        try {
+            step.execute(cursor);
+        } finally {
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.flow = flow;
+                event.step = name;
+                event.kind = kind.name();
+                event.commit();
+            }
+
+        }
+
+    }
+
+    @Override
+    StepKind kind() {
+        return kind;
+    }
+
+}
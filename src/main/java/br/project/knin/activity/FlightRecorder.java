@@ -0,0 +1,406 @@
+package br.project.knin.activity;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * FlightRecorder é um {@link ActivityListener} que registra o caminho percorrido por uma amostra das entradas: cada
+ * passo executado, com o seu efeito sobre o fluxo, como a decisão que rejeitou a entrada, a ação que produziu nulo,
+ * o otherwise que produziu o contrato ou o canal que recebeu a mensagem.
+ * <p>
+ * Os passos são escritos em uma quantidade fixa de buffers circulares, proporcional à quantidade de processadores e
+ * escolhidos pela thread, de modo que a memória não cresce com a quantidade de threads, mesmo com um executor que
+ * cria uma thread por tarefa, e threads distintas raramente disputam o mesmo buffer. Quando um buffer está cheio, os
+ * passos mais antigos são sobrescritos. Apenas uma a cada {@code sample} entradas, contadas em conjunto por todas as
+ * threads, é registrada; as demais são recusadas em {@link #onEnter()} e executadas pelo plano sem instrumentação.
+ *
+ * <pre>{@code
+ * final FlightRecorder recorder = new FlightRecorder(4096, 100);
+ * final ActivityPlan<String, Integer> plan = definition.exit(String::valueOf).listen(recorder);
+ * ...
+ * recorder.dump().forEach(System.out::println);
+ * }</pre>
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class FlightRecorder implements ActivityListener {
+
+    /**
+     * Quantidade de buffers: a próxima potência de dois a partir da quantidade de processadores, até 64
+     */
+    static final int STRIPES = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    /**
+     * Registra todas as entradas em buffers de 1024 passos
+     */
+    public FlightRecorder() {
+        this(1024, 1);
+    }
+
+    /**
+     * @param capacity quantidade de passos de cada buffer, arredondada para a próxima potência de dois
+     * @param sample   uma a cada sample entradas é registrada
+     */
+    public FlightRecorder(final int capacity, final int sample) {
+
+        if (capacity < 1) throw new IllegalArgumentException("Capacidade deve ser maior que zero");
+
+        if (sample < 1) throw new IllegalArgumentException("Amostragem deve ser maior que zero");
+
+        this.capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+
+        this.sample = sample;
+
+    }
+
+    private final int capacity;
+
+    private final int sample;
+
+    /**
+     * Alocados no primeiro passo escrito em cada um
+     */
+    private final AtomicReferenceArray<Ring> rings = new AtomicReferenceArray<>(STRIPES);
+
+    /**
+     * Quantidade de entradas, de todas as threads. Também numera as entradas registradas
+     */
+    private final AtomicLong entries = new AtomicLong();
+
+    /**
+     * Número da entrada registrada em andamento na thread
+     */
+    private final ThreadLocal<long[]> entry = ThreadLocal.withInitial(() -> new long[1]);
+
+    private Ring ring(final Thread thread) {
+
+        final int stripe = (int) thread.getId() & (STRIPES - 1);
+
+        final Ring ring = rings.get(stripe);
+
+        if (ring != null) return ring;
+
+        rings.compareAndSet(stripe, null, new Ring(capacity));
+
+        return rings.get(stripe);
+
+    }
+
+    /**
+     * Entradas fora da amostra são executadas pelo plano sem instrumentação
+     */
+    @Override
+    public boolean onEnter() {
+
+        final long n = entries.incrementAndGet();
+
+        if (n % sample != 0) return false;
+
+        entry.get()[0] = n;
+
+        return true;
+
+    }
+
+    @Override
+    public void onStep(final String name, final StepKind kind, final StepOutcome outcome, final long nanos) {
+
+        final Thread thread = Thread.currentThread();
+
+        ring(thread).write(entry.get()[0], thread.getName(), name, kind, outcome, System.nanoTime(), nanos);
+
+    }
+
+    /**
+     * Copia o conteúdo dos buffers sem interromper as threads. Passos sobrescritos ou em escrita durante a cópia são
+     * descartados, e a entrada mais antiga de cada buffer pode estar incompleta.
+     *
+     * @return caminhos registrados, ordenados pelo instante do primeiro passo
+     */
+    public List<Trace> dump() {
+
+        final List<Trace> traces = new ArrayList<>();
+
+        for (int i = 0; i < rings.length(); i++) {
+            final Ring ring = rings.get(i);
+            if (ring != null) ring.dump(traces);
+        }
+
+        traces.sort(Comparator.comparingLong(trace -> trace.events.get(0).timestamp));
+
+        return Collections.unmodifiableList(traces);
+
+    }
+
+    /**
+     * Ring é um buffer compartilhado pelas threads de mesmo índice. Cada escrita reserva uma posição com um único
+     * incremento e publica o passo no número de sequência da posição; a leitura descarta as posições cuja sequência
+     * mudou durante a cópia.
+     */
+    private static final class Ring {
+
+        private Ring(final int capacity) {
+
+            mask = capacity - 1;
+
+            sequences = new AtomicLongArray(capacity);
+
+            entry = new long[capacity];
+
+            threads = new String[capacity];
+
+            names = new String[capacity];
+
+            kinds = new StepKind[capacity];
+
+            outcomes = new StepOutcome[capacity];
+
+            timestamps = new long[capacity];
+
+            nanos = new long[capacity];
+
+        }
+
+        private final int mask;
+
+        /**
+         * Posição mais um do passo publicado em cada índice, ou zero durante a escrita
+         */
+        private final AtomicLongArray sequences;
+
+        private final long[] entry;
+
+        private final String[] threads;
+
+        private final String[] names;
+
+        private final StepKind[] kinds;
+
+        private final StepOutcome[] outcomes;
+
+        private final long[] timestamps;
+
+        private final long[] nanos;
+
+        private final AtomicLong head = new AtomicLong();
+
+        private void write(final long n, final String thread, final String name, final StepKind kind,
+                           final StepOutcome outcome, final long timestamp, final long duration) {
+
+            final long position = head.getAndIncrement();
+
+            final int i = (int) position & mask;
+
+            sequences.set(i, 0);
+
+            VarHandle.storeStoreFence();
+
+            entry[i] = n;
+
+            threads[i] = thread;
+
+            names[i] = name;
+
+            kinds[i] = kind;
+
+            outcomes[i] = outcome;
+
+            timestamps[i] = timestamp;
+
+            nanos[i] = duration;
+
+            sequences.lazySet(i, position + 1);
+
+        }
+
+        private void dump(final List<Trace> traces) {
+
+            final long end = head.get();
+
+            final Map<Long, Trace> open = new HashMap<>();
+
+            for (long position = Math.max(0, end - entry.length); position < end; position++) {
+
+                final int i = (int) position & mask;
+
+                final long sequence = sequences.get(i);
+
+                if (sequence != position + 1) continue;
+
+                final long n = entry[i];
+
+                final String thread = threads[i];
+
+                final Event event = new Event(names[i], kinds[i], outcomes[i], timestamps[i], nanos[i]);
+
+                VarHandle.loadLoadFence();
+
+                if (sequences.get(i) != sequence) continue;
+
+                Trace trace = open.get(n);
+
+                if (trace == null) {
+                    trace = new Trace(thread, n);
+                    open.put(n, trace);
+                    traces.add(trace);
+                }
+
+                trace.events.add(event);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Trace é o caminho registrado de uma entrada
+     */
+    public static final class Trace {
+
+        private Trace(final String thread, final long entry) {
+            this.thread = thread;
+            this.entry = entry;
+        }
+
+        private final String thread;
+
+        private final long entry;
+
+        private final List<Event> events = new ArrayList<>();
+
+        /**
+         * @return nome da thread que executou a entrada
+         */
+        public String thread() {
+            return thread;
+        }
+
+        /**
+         * @return número sequencial da entrada, contado entre todas as threads
+         */
+        public long entry() {
+            return entry;
+        }
+
+        /**
+         * @return passos executados, na ordem de execução
+         */
+        public List<Event> events() {
+            return Collections.unmodifiableList(events);
+        }
+
+        /**
+         * @return último passo executado
+         */
+        public Event last() {
+            return events.get(events.size() - 1);
+        }
+
+        /**
+         * @return primeiro passo rejeitado ou com exceção, que explica por que a entrada não chegou à função de exit,
+         * ou nulo quando não há
+         */
+        public Event cause() {
+
+            for (final Event event : events) {
+                if (event.outcome == StepOutcome.REJECTED || event.outcome == StepOutcome.FAILED) return event;
+            }
+
+            return null;
+
+        }
+
+        @Override
+        public String toString() {
+
+            final StringBuilder builder = new StringBuilder(thread).append(" #").append(entry);
+
+            for (final Event event : events) builder.append(System.lineSeparator()).append("  ").append(event);
+
+            return builder.toString();
+
+        }
+
+    }
+
+    /**
+     * Event é a execução de um passo
+     */
+    public static final class Event {
+
+        private Event(final String name, final StepKind kind, final StepOutcome outcome, final long timestamp, final long nanos) {
+
+            this.name = name;
+
+            this.kind = kind;
+
+            this.outcome = outcome;
+
+            this.timestamp = timestamp;
+
+            this.nanos = nanos;
+
+        }
+
+        private final String name;
+
+        private final StepKind kind;
+
+        private final StepOutcome outcome;
+
+        private final long timestamp;
+
+        private final long nanos;
+
+        /**
+         * @return nome do passo
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return operação que originou o passo
+         */
+        public StepKind kind() {
+            return kind;
+        }
+
+        /**
+         * @return efeito do passo sobre o fluxo
+         */
+        public StepOutcome outcome() {
+            return outcome;
+        }
+
+        /**
+         * @return instante do fim do passo, em {@link System#nanoTime()}
+         */
+        public long timestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return duração do passo em nanossegundos
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + outcome + " " + nanos + " ns";
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.project.knin.activity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * ForkStep executa ramos independentes de (E, V) concorrentemente no executor e combina os resultados em um novo
+ * valor. Um ramo que produz nulo tem a mesma semântica de uma ação que retorna nulo, e a junção não é chamada.
+ * <p>
+ * Em um plano, a thread chamadora aguarda todos os ramos. Em uma {@link AsyncActivity}, a junção é encadeada sem
+ * bloquear.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class ForkStep extends AsyncStep {
+
+    /**
+     * @param branches ramos, ao menos um
+     * @param join     combinação dos resultados, na ordem dos ramos
+     * @param executor executor dos ramos
+     * @return passo com argumentos validados
+     */
+    static ForkStep validated(final List<? extends BiFunction<?, ?, ?>> branches, final Function<?, ?> join, final Executor executor) {
+
+        Objects.requireNonNull(branches, Messages.FORK_BRANCH);
+
+        if (branches.isEmpty()) throw new IllegalArgumentException(Messages.FORK_BRANCHES);
+
+        for (final BiFunction<?, ?, ?> branch : branches) Objects.requireNonNull(branch, Messages.FORK_BRANCH);
+
+        Objects.requireNonNull(join, Messages.FORK_JOIN);
+
+        Objects.requireNonNull(executor, Messages.FORK_EXECUTOR);
+
+        return new ForkStep(branches, join, executor);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private ForkStep(final List<? extends BiFunction<?, ?, ?>> branches, final Function<?, ?> join, final Executor executor) {
+
+        this.branches = (BiFunction<Object, Object, Object>[]) branches.toArray(new BiFunction<?, ?, ?>[0]);
+
+        this.join = (Function<Object, Object>) join;
+
+        this.executor = executor;
+
+    }
+
+    private final BiFunction<Object, Object, Object>[] branches;
+
+    private final Function<Object, Object> join;
+
+    private final Executor executor;
+
+    @Override
+    CompletionStage<?> start(final Cursor cursor) {
+
+        final Object entry = cursor.entry;
+
+        final Object value = cursor.value;
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[branches.length];
+
+        for (int i = 0; i < branches.length; i++) {
+            final BiFunction<Object, Object, Object> branch = branches[i];
+            futures[i] = CompletableFuture.supplyAsync(() -> branch.apply(entry, value), executor);
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(ignored -> {
+
+            final Object[] results = new Object[futures.length];
+
+            for (int i = 0; i < futures.length; i++) {
+                results[i] = futures[i].join();
+                if (results[i] == null) return null;
+            }
+
+            return join.apply(Arrays.asList(results));
+
+        });
+
+    }
+
+    @Override
+    void complete(final Cursor cursor, final Object result) {
+        cursor.value = result;
+    }
+
+    @Override
+    StepKind kind() {
+        return StepKind.ACTION;
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.project.knin.activity;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * IntActivity é a especialização de {@link Activity} para valores int. Decisões, ações e canais recebem interfaces
+ * funcionais primitivas, como {@link IntPredicate} e {@link IntUnaryOperator}, portanto nenhum passo converte o valor
+ * para {@link Integer}.
+ * <p>
+ * A ausência de valor, que em {@link Activity} é representada por nulo, é representada pelo estado da atividade.
+ * A semântica de decisão, otherwise e fim de fluxo é a mesma de {@link Activity}.
+ * <p>
+ * Como em {@link Activity}, cada operação produz uma nova atividade imutável, e uma referência intermediária pode
+ * ser reutilizada. Cada passo aloca apenas uma atividade pequena, com entrada e valor primitivos.
+ *
+ * @param <C> represent contract
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface IntActivity<C> {
+
+    /**
+     * Mesma semântica de {@link Activity#decision(java.util.function.Predicate)}
+     *
+     * @param predicate instance of predicate
+     * @return case decision is satisfy the self activity is returned, otherwise activity exit will be returned
+     */
+    IntActivity<C> decision(final IntPredicate predicate);
+
+    /**
+     * Mesma semântica de {@link Activity#action(java.util.function.Function)}. Como o resultado é primitivo, uma
+     * ação sempre produz um valor
+     *
+     * @param operator mapeamento de int para int
+     * @return nova atividade com o valor mapeado
+     */
+    IntActivity<C> action(final IntUnaryOperator operator);
+
+    /**
+     * Ação que encerra a especialização primitiva. Um resultado nulo tem a mesma semântica de
+     * {@link Activity#action(java.util.function.Function)} retornando nulo. A entrada é convertida para {@link Integer}
+     * uma única vez
+     *
+     * @param function mapeamento de int para W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo o valor mapeado
+     */
+    <W> Activity<C, Integer, W> mapToObj(final IntFunction<? extends W> function);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwise(Supplier)}
+     *
+     * @param supplier uma instância cuja interface funcional seja Supplier
+     * @return caso o fluxo tenha falhado e o contrato produzido seja diferente de nulo, nova atividade em fim de fluxo
+     */
+    IntActivity<C> otherwise(final Supplier<? extends C> supplier);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwise(java.util.function.Function)}
+     *
+     * @param function mapeamento da entrada para o contrato
+     * @return caso o fluxo tenha falhado e o contrato produzido seja diferente de nulo, nova atividade em fim de fluxo
+     */
+    IntActivity<C> otherwise(final IntFunction<? extends C> function);
+
+    /**
+     * Mesma semântica de {@link Activity#channel(Channel)}
+     *
+     * @param channel consumidor do valor
+     * @return a própria atividade, ou atividade em fim de fluxo
+     */
+    IntActivity<C> channel(final IntConsumer channel);
+
+    /**
+     * Mesma semântica de {@link Activity#channel(java.util.function.BiFunction, Channel)}, com o mapeamento a partir
+     * do valor. Um mapeamento nulo não é encaminhado ao canal
+     *
+     * @param function mapeamento do valor para W
+     * @param channel  instância de uma canal
+     * @param <W>      tipo da mensagem
+     * @return a própria atividade, ou atividade em fim de fluxo
+     */
+    <W> IntActivity<C> channel(final IntFunction<? extends W> function, final Channel<? super W> channel);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwiseChannel(java.util.function.Function, Channel)}
+     *
+     * @param function mapeamento da entrada para o contrato
+     * @param channel  é uma instância da interface Channel do tipo C
+     * @return a própria atividade, ou atividade em fim de fluxo
+     */
+    IntActivity<C> otherwiseChannel(final IntFunction<? extends C> function, final Channel<? super C> channel);
+
+    /**
+     * Mesma semântica de {@link Activity#exit(java.util.function.Function)}
+     *
+     * @param function mapeamento do valor para C (contract)
+     * @return objeto final de contrato
+     */
+    C exit(final IntFunction<? extends C> function);
+
+}
@@ -0,0 +1,132 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+final class IntActivityImpl<C> extends PrimitiveActivityImpl<C, IntActivity<C>> implements IntActivity<C> {
+
+    static <C> IntActivity<C> create(final C contract, final int entry) {
+        return new IntActivityImpl<>(contract, ACTIVE, entry, entry);
+    }
+
+    private IntActivityImpl(final C contract, final byte state, final int entry, final int value) {
+
+        super(contract, state);
+
+        this.entry = entry;
+
+        this.value = value;
+
+    }
+
+    private final int entry;
+
+    private final int value;
+
+    @Override
+    IntActivity<C> with(final C contract, final byte state) {
+        return new IntActivityImpl<>(contract, state, entry, value);
+    }
+
+    @Override
+    public IntActivity<C> decision(final IntPredicate predicate) {
+
+        Objects.requireNonNull(predicate, Messages.DECISION);
+
+        if (state != ACTIVE) return over();
+
+        return decided(predicate.test(value));
+
+    }
+
+    @Override
+    public IntActivity<C> action(final IntUnaryOperator operator) {
+
+        Objects.requireNonNull(operator, Messages.ACTION);
+
+        if (state != ACTIVE) return over();
+
+        return new IntActivityImpl<>(contract, ACTIVE, entry, operator.applyAsInt(value));
+
+    }
+
+    @Override
+    public <W> Activity<C, Integer, W> mapToObj(final IntFunction<? extends W> function) {
+
+        Objects.requireNonNull(function, Messages.ACTION);
+
+        if (state != ACTIVE) return ActivityImpl.over(contract, entry);
+
+        return ActivityImpl.create(contract, entry, function.apply(value));
+
+    }
+
+    @Override
+    public IntActivity<C> otherwise(final IntFunction<? extends C> function) {
+
+        Objects.requireNonNull(function, Messages.OTHERWISE_FUNCTION);
+
+        if (state != FAILED) return this;
+
+        return over(function.apply(entry));
+
+    }
+
+    @Override
+    public IntActivity<C> channel(final IntConsumer channel) {
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (state != ACTIVE) return over();
+
+        channel.accept(value);
+
+        return this;
+
+    }
+
+    @Override
+    public <W> IntActivity<C> channel(final IntFunction<? extends W> function, final Channel<? super W> channel) {
+
+        Objects.requireNonNull(function, Messages.CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (state != ACTIVE) return over();
+
+        final W w = function.apply(value);
+
+        if (w != null) channel.commit(w);
+
+        return this;
+
+    }
+
+    @Override
+    public IntActivity<C> otherwiseChannel(final IntFunction<? extends C> function, final Channel<? super C> channel) {
+
+        Objects.requireNonNull(function, Messages.OTHERWISE_CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.OTHERWISE_CHANNEL);
+
+        if (state != FAILED) return this;
+
+        return commit(function.apply(entry), channel);
+
+    }
+
+    @Override
+    public C exit(final IntFunction<? extends C> function) {
+
+        Objects.requireNonNull(function, Messages.EXIT);
+
+        if (state != ACTIVE) return contract;
+
+        return exit(function.apply(value));
+
+    }
+
+}
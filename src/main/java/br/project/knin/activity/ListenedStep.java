@@ -0,0 +1,88 @@
+package br.project.knin.activity;
+
+/**
+ * ListenedStep mede um passo e notifica um {@link ActivityListener}. Os passos originais não são alterados, portanto
+ * o custo da instrumentação existe apenas nos planos criados por {@link ActivityPlan#listen(ActivityListener)}.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class ListenedStep extends Step {
+
+    ListenedStep(final Step step, final String name, final ActivityListener listener) {
+
+        this.step = step;
+
+        this.name = name;
+
+        this.listener = listener;
+
+        kind = step.kind();
+
+    }
+
+    private final Step step;
+
+    private final String name;
+
+    private final ActivityListener listener;
+
+    private final StepKind kind;
+
+    @Override
+    void execute(final Cursor cursor) {
+
+        final boolean present = cursor.value != null;
+
+        final long start = System.nanoTime();
+
+        final boolean committed;
+
+        try {
+            committed = step.committed(cursor);
+        } catch (final RuntimeException e) {
+            listener.onStep(name, kind, StepOutcome.FAILED, System.nanoTime() - start);
+            throw e;
+        }
+
+        final long nanos = System.nanoTime() - start;
+
+        listener.onStep(name, kind, outcome(cursor, present, committed), nanos);
+
+    }
+
+    private StepOutcome outcome(final Cursor cursor, final boolean present, final boolean committed) {
+
+        switch (kind) {
+
+            case DECISION:
+            case ACTION:
+                if (!present) return StepOutcome.SHORT_CIRCUIT;
+                return cursor.value != null ? StepOutcome.PASSED : StepOutcome.REJECTED;
+
+            case ROUTE:
+                if (!present) return StepOutcome.SHORT_CIRCUIT;
+                if (committed) return StepOutcome.COMMITTED;
+                return cursor.value != null ? StepOutcome.PASSED : StepOutcome.REJECTED;
+
+            case CHANNEL:
+                if (!present) return StepOutcome.SHORT_CIRCUIT;
+                return committed ? StepOutcome.COMMITTED : StepOutcome.SKIPPED;
+
+            case OTHERWISE:
+                if (present) return StepOutcome.SKIPPED;
+                return cursor.over ? StepOutcome.TAKEN : StepOutcome.REJECTED;
+
+            default:
+                if (present) return StepOutcome.SKIPPED;
+                return committed ? StepOutcome.COMMITTED : StepOutcome.REJECTED;
+
+        }
+
+    }
+
+    @Override
+    StepKind kind() {
+        return kind;
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.project.knin.activity;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * LongActivity é a especialização de {@link Activity} para valores long. Decisões, ações e canais recebem interfaces
+ * funcionais primitivas, como {@link LongPredicate} e {@link LongUnaryOperator}, portanto nenhum passo converte o valor
+ * para {@link Long}.
+ * <p>
+ * A ausência de valor, que em {@link Activity} é representada por nulo, é representada pelo estado da atividade.
+ * A semântica de decisão, otherwise e fim de fluxo é a mesma de {@link Activity}.
+ * <p>
+ * Como em {@link Activity}, cada operação produz uma nova atividade imutável, e uma referência intermediária pode
+ * ser reutilizada. Cada passo aloca apenas uma atividade pequena, com entrada e valor primitivos.
+ *
+ * @param <C> represent contract
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public interface LongActivity<C> {
+
+    /**
+     * Mesma semântica de {@link Activity#decision(java.util.function.Predicate)}
+     *
+     * @param predicate instance of predicate
+     * @return case decision is satisfy the self activity is returned, otherwise activity exit will be returned
+     */
+    LongActivity<C> decision(final LongPredicate predicate);
+
+    /**
+     * Mesma semântica de {@link Activity#action(java.util.function.Function)}. Como o resultado é primitivo, uma
+     * ação sempre produz um valor
+     *
+     * @param operator mapeamento de long para long
+     * @return nova atividade com o valor mapeado
+     */
+    LongActivity<C> action(final LongUnaryOperator operator);
+
+    /**
+     * Ação que encerra a especialização primitiva. Um resultado nulo tem a mesma semântica de
+     * {@link Activity#action(java.util.function.Function)} retornando nulo. A entrada é convertida para {@link Long}
+     * uma única vez
+     *
+     * @param function mapeamento de long para W
+     * @param <W>      novo tipo de valor encapsulado
+     * @return nova atividade contendo o valor mapeado
+     */
+    <W> Activity<C, Long, W> mapToObj(final LongFunction<? extends W> function);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwise(Supplier)}
+     *
+     * @param supplier uma instância cuja interface funcional seja Supplier
+     * @return caso o fluxo tenha falhado e o contrato produzido seja diferente de nulo, nova atividade em fim de fluxo
+     */
+    LongActivity<C> otherwise(final Supplier<? extends C> supplier);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwise(java.util.function.Function)}
+     *
+     * @param function mapeamento da entrada para o contrato
+     * @return caso o fluxo tenha falhado e o contrato produzido seja diferente de nulo, nova atividade em fim de fluxo
+     */
+    LongActivity<C> otherwise(final LongFunction<? extends C> function);
+
+    /**
+     * Mesma semântica de {@link Activity#channel(Channel)}
+     *
+     * @param channel consumidor do valor
+     * @return a própria atividade, ou atividade em fim de fluxo
+     */
+    LongActivity<C> channel(final LongConsumer channel);
+
+    /**
+     * Mesma semântica de {@link Activity#channel(java.util.function.BiFunction, Channel)}, com o mapeamento a partir
+     * do valor. Um mapeamento nulo não é encaminhado ao canal
+     *
+     * @param function mapeamento do valor para W
+     * @param channel  instância de uma canal
+     * @param <W>      tipo da mensagem
+     * @return a própria atividade, ou atividade em fim de fluxo
+     */
+    <W> LongActivity<C> channel(final LongFunction<? extends W> function, final Channel<? super W> channel);
+
+    /**
+     * Mesma semântica de {@link Activity#otherwiseChannel(java.util.function.Function, Channel)}
+     *
+     * @param function mapeamento da entrada para o contrato
+     * @param channel  é uma instância da interface Channel do tipo C
+     * @return a própria atividade, ou atividade em fim de fluxo
+     */
+    LongActivity<C> otherwiseChannel(final LongFunction<? extends C> function, final Channel<? super C> channel);
+
+    /**
+     * Mesma semântica de {@link Activity#exit(java.util.function.Function)}
+     *
+     * @param function mapeamento do valor para C (contract)
+     * @return objeto final de contrato
+     */
+    C exit(final LongFunction<? extends C> function);
+
+}
@@ -0,0 +1,132 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+final class LongActivityImpl<C> extends PrimitiveActivityImpl<C, LongActivity<C>> implements LongActivity<C> {
+
+    static <C> LongActivity<C> create(final C contract, final long entry) {
+        return new LongActivityImpl<>(contract, ACTIVE, entry, entry);
+    }
+
+    private LongActivityImpl(final C contract, final byte state, final long entry, final long value) {
+
+        super(contract, state);
+
+        this.entry = entry;
+
+        this.value = value;
+
+    }
+
+    private final long entry;
+
+    private final long value;
+
+    @Override
+    LongActivity<C> with(final C contract, final byte state) {
+        return new LongActivityImpl<>(contract, state, entry, value);
+    }
+
+    @Override
+    public LongActivity<C> decision(final LongPredicate predicate) {
+
+        Objects.requireNonNull(predicate, Messages.DECISION);
+
+        if (state != ACTIVE) return over();
+
+        return decided(predicate.test(value));
+
+    }
+
+    @Override
+    public LongActivity<C> action(final LongUnaryOperator operator) {
+
+        Objects.requireNonNull(operator, Messages.ACTION);
+
+        if (state != ACTIVE) return over();
+
+        return new LongActivityImpl<>(contract, ACTIVE, entry, operator.applyAsLong(value));
+
+    }
+
+    @Override
+    public <W> Activity<C, Long, W> mapToObj(final LongFunction<? extends W> function) {
+
+        Objects.requireNonNull(function, Messages.ACTION);
+
+        if (state != ACTIVE) return ActivityImpl.over(contract, entry);
+
+        return ActivityImpl.create(contract, entry, function.apply(value));
+
+    }
+
+    @Override
+    public LongActivity<C> otherwise(final LongFunction<? extends C> function) {
+
+        Objects.requireNonNull(function, Messages.OTHERWISE_FUNCTION);
+
+        if (state != FAILED) return this;
+
+        return over(function.apply(entry));
+
+    }
+
+    @Override
+    public LongActivity<C> channel(final LongConsumer channel) {
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (state != ACTIVE) return over();
+
+        channel.accept(value);
+
+        return this;
+
+    }
+
+    @Override
+    public <W> LongActivity<C> channel(final LongFunction<? extends W> function, final Channel<? super W> channel) {
+
+        Objects.requireNonNull(function, Messages.CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+
+        if (state != ACTIVE) return over();
+
+        final W w = function.apply(value);
+
+        if (w != null) channel.commit(w);
+
+        return this;
+
+    }
+
+    @Override
+    public LongActivity<C> otherwiseChannel(final LongFunction<? extends C> function, final Channel<? super C> channel) {
+
+        Objects.requireNonNull(function, Messages.OTHERWISE_CHANNEL_FUNCTION);
+
+        Objects.requireNonNull(channel, Messages.OTHERWISE_CHANNEL);
+
+        if (state != FAILED) return this;
+
+        return commit(function.apply(entry), channel);
+
+    }
+
+    @Override
+    public C exit(final LongFunction<? extends C> function) {
+
+        Objects.requireNonNull(function, Messages.EXIT);
+
+        if (state != ACTIVE) return contract;
+
+        return exit(function.apply(value));
+
+    }
+
+}
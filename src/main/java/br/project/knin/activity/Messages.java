@@ -0,0 +1,75 @@
+package br.project.knin.activity;
+
+/**
+ * Mensagens de validação compartilhadas pelas operações que recebem argumentos funcionais
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class Messages {
+
+    private Messages() {
+    }
+
+    static final String DECISION = "Predicado em 'decisão' não deve ser nulo";
+
+    static final String DECISIONS = "Predicados em 'decisions' não devem ser nulos";
+
+    static final String DECISIONS_EMPTY = "Decisions deve possuir ao menos um predicado";
+
+    static final String ACTION = "Função em 'ação' não deve ser nula";
+
+    static final String ACTION_Z = "FunçãoZ em 'ação' não deve ser nula";
+
+    static final String TRY_ACTION = "Função em 'tryAction' não deve ser nula";
+
+    static final String TRY_ACTION_Z = "FunçãoZ em 'tryAction' não deve ser nula";
+
+    static final String TRY_ACTION_TYPE = "Tipo de exceção em 'tryAction' não deve ser nulo";
+
+    static final String OTHERWISE_SUPPLIER = "Produção em 'otherwise' não deve ser nula";
+
+    static final String OTHERWISE_FUNCTION = "Função em 'otherwise' não deve ser nula";
+
+    static final String CHANNEL = "Canal em 'channel' não deve ser nula";
+
+    static final String CHANNEL_FUNCTION = "Função em 'channel' não deve ser nula";
+
+    static final String OTHERWISE_CHANNEL_FUNCTION = "Função em 'otherwise channel' não deve ser nula";
+
+    static final String OTHERWISE_CHANNEL = "Canal em 'otherwise channel' não deve ser nula";
+
+    static final String NAME = "Nome em 'named' não deve ser nulo";
+
+    static final String NAME_WITHOUT_STEP = "Não há passo registrado para receber o nome";
+
+    static final String FLOW = "Nome em 'events' não deve ser nulo";
+
+    static final String LISTENER = "Listener em 'listen' não deve ser nulo";
+
+    static final String ROUTE = "Classificador em 'route' não deve ser nulo";
+
+    static final String ROUTE_KEY = "Chave em 'when' não deve ser nula";
+
+    static final String ROUTE_BRANCH = "Ramo em 'route' não deve ser nulo";
+
+    static final String ROUTE_DUPLICATED_KEY = "Chave já possui um ramo: ";
+
+    static final String FORK_BRANCH = "Ramo em 'fork' não deve ser nulo";
+
+    static final String FORK_BRANCHES = "Fork deve possuir ao menos um ramo";
+
+    static final String FORK_JOIN = "Junção em 'fork' não deve ser nula";
+
+    static final String FORK_EXECUTOR = "Executor em 'fork' não deve ser nulo";
+
+    static final String DEADLINE = "Prazo em 'deadline' não deve ser nulo";
+
+    static final String DEADLINE_NOT_POSITIVE = "Prazo em 'deadline' deve ser positivo";
+
+    static final String DEADLINE_EXECUTOR = "Executor em 'deadline' não deve ser nulo";
+
+    static final String DEADLINE_WITHOUT_ACTION = "Deadline deve ser aplicado a uma decisão ou ação";
+
+    static final String EXIT = "Função em 'exit' não deve ser nula";
+
+}
@@ -0,0 +1,177 @@
+package br.project.knin.activity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * ParallelBatch divide as entradas de um lote em blocos contíguos e executa cada bloco com um cursor próprio. A
+ * thread chamadora executa o primeiro bloco e aguarda os demais.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class ParallelBatch<C, E> {
+
+    /**
+     * Blocos por thread, para equilibrar entradas de custo diferente
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    ParallelBatch(final ActivityPlanImpl<C, E> plan, final Executor executor, final CommitOrder order) {
+
+        this.plan = plan;
+
+        this.executor = executor;
+
+        this.order = order;
+
+    }
+
+    private final ActivityPlanImpl<C, E> plan;
+
+    private final Executor executor;
+
+    private final CommitOrder order;
+
+    @SuppressWarnings("unchecked")
+    List<C> applyAll(final List<? extends E> entries) {
+
+        final Object[] contracts = new Object[entries.size()];
+
+        if (contracts.length == 0) return (List<C>) Arrays.asList(contracts);
+
+        final int chunks = Math.min(contracts.length, parallelism() * CHUNKS_PER_THREAD);
+
+        final Batch[] batches = new Batch[chunks];
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(chunks - 1);
+
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            final int index = chunk;
+            batches[chunk] = batch();
+            futures.add(CompletableFuture.runAsync(() -> run(entries, contracts, batches[index], index, chunks), executor));
+        }
+
+        batches[0] = batch();
+
+        Throwable failure = null;
+
+        try {
+            run(entries, contracts, batches[0], 0, chunks);
+        } catch (final RuntimeException | Error e) {
+            failure = e;
+        }
+
+        int failed = failure == null ? chunks : 0;
+
+        // todos os blocos são aguardados antes de relançar a falha, para que nenhum commit ocorra depois dela
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            try {
+                futures.get(chunk - 1).join();
+            } catch (final CompletionException | CancellationException e) {
+                if (failure != null) continue;
+                failure = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                failed = chunk;
+            }
+        }
+
+        if (order == CommitOrder.ORDERED) replay(batches, failed);
+
+        if (failure != null) throw ParallelBatch.<RuntimeException>rethrow(failure);
+
+        return (List<C>) Arrays.asList(contracts);
+
+    }
+
+    /**
+     * Relança a exceção do bloco sem envoltório, como na execução sequencial
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(final Throwable failure) throws T {
+        throw (T) failure;
+    }
+
+    private int parallelism() {
+
+        if (executor instanceof ForkJoinPool) return ((ForkJoinPool) executor).getParallelism();
+
+        return Runtime.getRuntime().availableProcessors();
+
+    }
+
+    private Batch batch() {
+        return order == CommitOrder.ORDERED ? new Recorder() : new Batch();
+    }
+
+    private void run(final List<? extends E> entries, final Object[] contracts, final Batch batch, final int chunk, final int chunks) {
+
+        final int from = (int) ((long) contracts.length * chunk / chunks);
+
+        final int to = (int) ((long) contracts.length * (chunk + 1) / chunks);
+
+        final Cursor cursor = new Cursor(null, null);
+
+        cursor.batch = batch;
+
+        try {
+
+            for (int i = from; i < to; i++) {
+
+                final E entry = Objects.requireNonNull(entries.get(i));
+
+                cursor.reset(plan.contract(), entry);
+
+                contracts[i] = plan.run(cursor);
+
+            }
+
+        } finally {
+            if (order == CommitOrder.UNORDERED) batch.flush();
+        }
+
+    }
+
+    /**
+     * Encaminha as mensagens dos blocos na ordem das entradas, até o bloco que falhou, inclusive. É o mesmo conjunto
+     * de mensagens que uma execução sequencial teria encaminhado até a falha.
+     */
+    private static void replay(final Batch[] batches, final int failed) {
+
+        final Batch batch = new Batch();
+
+        try {
+            for (int chunk = 0; chunk < batches.length && chunk <= failed; chunk++) ((Recorder) batches[chunk]).replay(batch);
+        } finally {
+            batch.flush();
+        }
+
+    }
+
+    /**
+     * Registra as mensagens de um bloco sem encaminhá-las
+     */
+    static final class Recorder extends Batch {
+
+        private final List<Channel<Object>> channels = new ArrayList<>();
+
+        private final List<Object> messages = new ArrayList<>();
+
+        @Override
+        void commit(final Channel<Object> channel, final Object message) {
+            channels.add(channel);
+            messages.add(message);
+        }
+
+        void replay(final Batch batch) {
+            for (int i = 0; i < channels.size(); i++) batch.commit(channels.get(i), messages.get(i));
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package br.project.knin.activity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * PlanCompiler transforma os passos de um plano em uma cadeia de {@link CompiledNode}. Cada nó é uma cópia da classe
+ * modelo do tipo do passo, definida em tempo de execução como classe oculta por
+ * {@code MethodHandles.Lookup#defineHiddenClass}. Como o perfil de tipos do JIT é mantido por classe, os pontos de
+ * chamada de cada cópia veem uma única função e podem ser inline, em vez de compartilhar um ponto de chamada
+ * megamórfico entre todos os planos. Classes ocultas são descarregadas quando o plano deixa de ser referenciado.
+ * <p>
+ * A API é compilada para Java 11 e classes ocultas existem a partir do Java 15. Em versões anteriores, ou quando
+ * alguma cópia não pode ser definida, todos os nós do plano utilizam as classes modelo, com o mesmo resultado, e
+ * {@link ActivityPlan#compiled()} retorna falso.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class PlanCompiler {
+
+    private PlanCompiler() {
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class, Object.class, CompiledNode.class);
+
+    private static final MethodHandle DEFINE_HIDDEN_CLASS = defineHiddenClass();
+
+    private static final Set<Class<?>> MODELS = Set.of(CompiledDecision.class, CompiledAction.class, CompiledActionZ.class, CompiledStep.class, CompiledExit.class);
+
+    private static final Map<Class<?>, byte[]> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * @return {@code LOOKUP.defineHiddenClass(bytes, true)} sem opções, ou nulo antes do Java 15
+     */
+    private static MethodHandle defineHiddenClass() {
+
+        try {
+
+            final Object none = Array.newInstance(Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption"), 0);
+
+            final MethodHandle handle = MethodHandles
+                    .publicLookup()
+                    .findVirtual(MethodHandles.Lookup.class, "defineHiddenClass", MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, none.getClass()));
+
+            return MethodHandles.insertArguments(handle.bindTo(LOOKUP), 2, none);
+
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+
+    }
+
+    /**
+     * @param steps passos sem fusão, na ordem em que foram definidos
+     * @param exit  função de exit do plano
+     * @return primeiro nó da cadeia, com classes próprias ou, caso não possam ser definidas, com as classes modelo
+     */
+    static CompiledNode compile(final Step[] steps, final Function<?, ?> exit) {
+
+        if (DEFINE_HIDDEN_CLASS != null) {
+            try {
+                return chain(steps, exit, true);
+            } catch (final RuntimeException | LinkageError e) {
+                return chain(steps, exit, false);
+            }
+        }
+
+        return chain(steps, exit, false);
+
+    }
+
+    /**
+     * @param node primeiro nó de uma cadeia
+     * @return verdadeiro quando a cadeia utiliza classes próprias
+     */
+    static boolean isDedicated(final CompiledNode node) {
+        return !MODELS.contains(node.getClass());
+    }
+
+    private static CompiledNode chain(final Step[] steps, final Function<?, ?> exit, final boolean hidden) {
+
+        CompiledNode node = node(CompiledExit.class, exit, null, hidden);
+
+        for (int i = steps.length - 1; i >= 0; i--) {
+
+            final Step step = steps[i];
+
+            if (step instanceof Step.Decision) node = node(CompiledDecision.class, ((Step.Decision) step).predicate(), node, hidden);
+
+            else if (step instanceof Step.Action) node = node(CompiledAction.class, ((Step.Action) step).function(), node, hidden);
+
+            else if (step instanceof Step.ActionZ) node = node(CompiledActionZ.class, ((Step.ActionZ) step).unit(), node, hidden);
+
+            else node = node(CompiledStep.class, step, node, hidden);
+
+        }
+
+        return node;
+
+    }
+
+    private static CompiledNode node(final Class<? extends CompiledNode> template, final Object target, final CompiledNode next, final boolean hidden) {
+
+        try {
+
+            final MethodHandles.Lookup lookup = hidden ? (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invokeExact(bytecode(template), true) : LOOKUP;
+
+            final Class<?> type = hidden ? lookup.lookupClass() : template;
+
+            return (CompiledNode) lookup.findConstructor(type, CONSTRUCTOR).invoke(target, next);
+
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+
+    }
+
+    private static byte[] bytecode(final Class<?> template) {
+        return TEMPLATES.computeIfAbsent(template, PlanCompiler::read);
+    }
+
+    private static byte[] read(final Class<?> template) {
+
+        try (final InputStream stream = template.getResourceAsStream(template.getSimpleName() + ".class")) {
+            return Objects.requireNonNull(stream, template.getName()).readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * PlanSpliterator aplica o plano a cada entrada no momento em que o elemento é consumido. Cada divisão possui um
+ * cursor próprio, portanto a execução não aloca objetos por elemento e pode ser paralela.
+ * <p>
+ * O mapeamento preserva SIZED, SUBSIZED, ORDERED, IMMUTABLE e CONCURRENT da origem, descarta DISTINCT e SORTED, e
+ * acrescenta NONNULL, pois o plano nunca produz contrato nulo.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class PlanSpliterator<C, E> implements Spliterator<C> {
+
+    private static final int PRESERVED = SIZED | SUBSIZED | ORDERED | IMMUTABLE | CONCURRENT;
+
+    PlanSpliterator(final ActivityPlan<C, E> plan, final Spliterator<? extends E> entries) {
+
+        this.plan = plan;
+
+        this.entries = entries;
+
+        cursor = plan.cursor();
+
+    }
+
+    private final ActivityPlan<C, E> plan;
+
+    private final Spliterator<? extends E> entries;
+
+    private final ActivityCursor<C, E> cursor;
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super C> action) {
+        Objects.requireNonNull(action);
+        return entries.tryAdvance(entry -> action.accept(cursor.apply(entry)));
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super C> action) {
+        Objects.requireNonNull(action);
+        entries.forEachRemaining(entry -> action.accept(cursor.apply(entry)));
+    }
+
+    @Override
+    public Spliterator<C> trySplit() {
+
+        final Spliterator<? extends E> prefix = entries.trySplit();
+
+        return prefix == null ? null : new PlanSpliterator<>(plan, prefix);
+
+    }
+
+    @Override
+    public long estimateSize() {
+        return entries.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return entries.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return entries.characteristics() & PRESERVED | NONNULL;
+    }
+
+}
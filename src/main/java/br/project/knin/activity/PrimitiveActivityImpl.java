@@ -0,0 +1,102 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Estado e transições comuns a {@link IntActivityImpl}, {@link LongActivityImpl} e {@link DoubleActivityImpl}. Cada
+ * instância é imutável, e as subclasses guardam apenas entrada e valor no tipo primitivo correspondente.
+ *
+ * @param <C> represent contract
+ * @param <A> tipo da atividade primitiva
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+abstract class PrimitiveActivityImpl<C, A> {
+
+    static final byte ACTIVE = 0;
+
+    static final byte FAILED = 1;
+
+    static final byte OVER = 2;
+
+    PrimitiveActivityImpl(final C contract, final byte state) {
+
+        this.contract = contract;
+
+        this.state = state;
+
+    }
+
+    final C contract;
+
+    /**
+     * ACTIVE possui valor, FAILED não possui valor e ainda está sujeito a um otherwise, OVER é fim de fluxo definitivo
+     */
+    final byte state;
+
+    /**
+     * @param contract contrato da nova atividade
+     * @param state    estado da nova atividade
+     * @return nova atividade com a mesma entrada e o mesmo valor
+     */
+    abstract A with(final C contract, final byte state);
+
+    @SuppressWarnings("unchecked")
+    final A self() {
+        return (A) this;
+    }
+
+    final A over() {
+        return state == OVER ? self() : with(contract, OVER);
+    }
+
+    final A decided(final boolean satisfied) {
+        return satisfied ? self() : with(contract, FAILED);
+    }
+
+    /**
+     * @param c contrato produzido por um otherwise
+     * @return a própria atividade quando o contrato é nulo, senão fim de fluxo com o contrato
+     */
+    final A over(final C c) {
+
+        if (c == null) return self();
+
+        return with(c, OVER);
+
+    }
+
+    public final A otherwise(final Supplier<? extends C> supplier) {
+
+        Objects.requireNonNull(supplier, Messages.OTHERWISE_SUPPLIER);
+
+        if (state != FAILED) return self();
+
+        return over(supplier.get());
+
+    }
+
+    /**
+     * @param c       contrato produzido por um otherwiseChannel
+     * @param channel canal que recebe o contrato
+     * @return a própria atividade quando o contrato é nulo, senão fim de fluxo com o contrato atual
+     */
+    final A commit(final C c, final Channel<? super C> channel) {
+
+        if (c == null) return self();
+
+        channel.commit(c);
+
+        return over();
+
+    }
+
+    /**
+     * @param c contrato produzido pela função de exit
+     * @return o contrato produzido ou, caso nulo, o contrato atual
+     */
+    final C exit(final C c) {
+        return c == null ? contract : c;
+    }
+
+}
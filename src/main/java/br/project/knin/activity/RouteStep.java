@@ -0,0 +1,212 @@
+package br.project.knin.activity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * RouteStep escolhe um sub-fluxo pela chave produzida pelo classificador e executa os seus passos sobre o mesmo
+ * cursor. Um ramo que encerra o fluxo encerra também o fluxo principal.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class RouteStep extends Step {
+
+    @SuppressWarnings("unchecked")
+    RouteStep(final Function<?, ?> classifier, final Table table, final Step[] fallback) {
+
+        this.classifier = (Function<Object, Object>) classifier;
+
+        this.table = table;
+
+        this.fallback = fallback;
+
+    }
+
+    private final Function<Object, Object> classifier;
+
+    private final Table table;
+
+    private final Step[] fallback;
+
+    @Override
+    void execute(final Cursor cursor) {
+
+        if (cursor.value == null) {
+            cursor.end();
+            return;
+        }
+
+        final Step[] branch = branch(cursor.value);
+
+        if (branch == null) cursor.value = null;
+
+        else Step.run(branch, cursor);
+
+    }
+
+    /**
+     * Mesmo efeito de execute, com os passos do ramo executados por committed
+     *
+     * @return verdadeiro quando algum passo do ramo encaminhou uma mensagem a um canal
+     */
+    @Override
+    boolean committed(final Cursor cursor) {
+
+        if (cursor.value == null) {
+            cursor.end();
+            return false;
+        }
+
+        final Step[] branch = branch(cursor.value);
+
+        if (branch == null) {
+            cursor.value = null;
+            return false;
+        }
+
+        boolean committed = false;
+
+        for (final Step step : branch) {
+            if (cursor.over) break;
+            if (cursor.deadline != 0 && cursor.expire() && step.transforms()) continue;
+            committed |= step.committed(cursor);
+        }
+
+        return committed;
+
+    }
+
+    private Step[] branch(final Object value) {
+
+        final Object key = classifier.apply(value);
+
+        final Step[] branch = key == null ? null : table.get(key);
+
+        return branch == null ? fallback : branch;
+
+    }
+
+    @Override
+    StepKind kind() {
+        return StepKind.ROUTE;
+    }
+
+    /**
+     * Tabela de ramos, escolhida uma única vez a partir das chaves registradas
+     */
+    abstract static class Table {
+
+        /**
+         * Enums de um mesmo tipo usam o ordinal, inteiros em um intervalo de até quatro vezes a quantidade de chaves
+         * usam um vetor, e as demais chaves usam um {@link HashMap}
+         *
+         * @param branches ramos por chave
+         * @return tabela indexada
+         */
+        static Table of(final Map<Object, Step[]> branches) {
+
+            if (branches.isEmpty()) return new Hashed(branches);
+
+            final Object first = branches.keySet().iterator().next();
+
+            if (first instanceof Enum) {
+
+                final Class<?> type = ((Enum<?>) first).getDeclaringClass();
+
+                if (branches.keySet().stream().allMatch(key -> key instanceof Enum && ((Enum<?>) key).getDeclaringClass() == type)) {
+                    return new Ordinal(type, branches);
+                }
+
+            }
+
+            if (branches.keySet().stream().allMatch(Integer.class::isInstance)) {
+
+                final int min = branches.keySet().stream().mapToInt(Integer.class::cast).min().getAsInt();
+
+                final int max = branches.keySet().stream().mapToInt(Integer.class::cast).max().getAsInt();
+
+                if ((long) max - min < 4L * branches.size() + 16) return new Dense(min, max, branches);
+
+            }
+
+            return new Hashed(branches);
+
+        }
+
+        abstract Step[] get(final Object key);
+
+    }
+
+    static final class Ordinal extends Table {
+
+        private Ordinal(final Class<?> type, final Map<Object, Step[]> branches) {
+
+            this.type = type;
+
+            this.branches = new Step[type.getEnumConstants().length][];
+
+            branches.forEach((key, steps) -> this.branches[((Enum<?>) key).ordinal()] = steps);
+
+        }
+
+        private final Class<?> type;
+
+        private final Step[][] branches;
+
+        @Override
+        Step[] get(final Object key) {
+
+            if (!(key instanceof Enum) || ((Enum<?>) key).getDeclaringClass() != type) return null;
+
+            return branches[((Enum<?>) key).ordinal()];
+
+        }
+
+    }
+
+    static final class Dense extends Table {
+
+        private Dense(final int min, final int max, final Map<Object, Step[]> branches) {
+
+            this.min = min;
+
+            this.branches = new Step[max - min + 1][];
+
+            branches.forEach((key, steps) -> this.branches[(Integer) key - min] = steps);
+
+        }
+
+        private final int min;
+
+        private final Step[][] branches;
+
+        @Override
+        Step[] get(final Object key) {
+
+            if (!(key instanceof Integer)) return null;
+
+            final int index = (Integer) key - min;
+
+            return index >= 0 && index < branches.length ? branches[index] : null;
+
+        }
+
+    }
+
+    static final class Hashed extends Table {
+
+        private Hashed(final Map<Object, Step[]> branches) {
+            this.branches = new HashMap<>(branches);
+        }
+
+        private final Map<Object, Step[]> branches;
+
+        @Override
+        Step[] get(final Object key) {
+            return branches.get(key);
+        }
+
+    }
+
+}
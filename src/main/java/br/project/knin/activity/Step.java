@@ -0,0 +1,432 @@
+package br.project.knin.activity;
+
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Step é uma operação registrada em uma {@link ActivityDefinition}. Cada passo altera o {@link Cursor} da mesma forma
+ * que a operação equivalente de {@link ActivityImpl} produziria uma nova atividade.
+ * <p>
+ * Passos não guardam estado de execução e podem ser compartilhados entre threads.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+abstract class Step {
+
+    /**
+     * Executa os passos até o fim do fluxo
+     *
+     * @param steps  passos compilados
+     * @param cursor estado da execução
+     */
+    static void run(final Step[] steps, final Cursor cursor) {
+        for (final Step step : steps) {
+            if (cursor.over) return;
+            if (cursor.deadline != 0 && cursor.expire() && step.transforms()) continue;
+            step.execute(cursor);
+        }
+    }
+
+    /**
+     * Funde sequências de decisões e ações em um único passo. Cada sequência é avaliada por uma função composta, sem
+     * escrita intermediária no cursor e com uma única chamada de execute.
+     *
+     * @param steps passos na ordem em que foram definidos
+     * @return passos fundidos, ou o mesmo array quando não há o que fundir
+     */
+    static Step[] fuse(final Step[] steps) {
+
+        final Step[] fused = new Step[steps.length];
+
+        int size = 0;
+
+        for (int i = 0; i < steps.length; i++) {
+
+            final Unit unit = steps[i] instanceof Unit ? (Unit) steps[i] : null;
+
+            if (unit != null && size > 0 && fused[size - 1] instanceof Unit) fused[size - 1] = Fused.of((Unit) fused[size - 1], unit);
+
+            else fused[size++] = steps[i];
+
+        }
+
+        return size == steps.length ? steps : Arrays.copyOf(fused, size);
+
+    }
+
+    /**
+     * Nunca é chamado quando o cursor está em fim de fluxo definitivo
+     *
+     * @param cursor estado da execução
+     */
+    abstract void execute(final Cursor cursor);
+
+    /**
+     * Mesmo efeito de {@link #execute(Cursor)}. Usado apenas pela instrumentação, que não pode contar os commits no
+     * cursor sem onerar os planos sem listener
+     *
+     * @param cursor estado da execução
+     * @return verdadeiro quando o passo encaminhou uma mensagem a um canal
+     */
+    boolean committed(final Cursor cursor) {
+        execute(cursor);
+        return false;
+    }
+
+    /**
+     * @return operação que originou o passo
+     */
+    abstract StepKind kind();
+
+    /**
+     * @return verdadeiro para decisões e ações, que são ignoradas após o fim do prazo da execução para que o fluxo
+     * alcance o próximo otherwise
+     */
+    final boolean transforms() {
+
+        final StepKind kind = kind();
+
+        return kind == StepKind.DECISION || kind == StepKind.ACTION;
+
+    }
+
+    /**
+     * Unit é um passo que apenas transforma o valor encapsulado e pode ser fundido aos passos vizinhos do mesmo tipo.
+     * Valor nulo na entrada representa fim de fluxo, e resultado nulo representa fim de ação.
+     */
+    abstract static class Unit extends Step {
+
+        /**
+         * @return função de E (entry) e V (value) para o novo valor, chamada apenas com valor diferente de nulo
+         */
+        abstract BiFunction<Object, Object, Object> unit();
+
+        @Override
+        final void execute(final Cursor cursor) {
+
+            if (cursor.value == null) {
+                cursor.end();
+                return;
+            }
+
+            final Object w = apply(cursor.entry, cursor.value);
+
+            if (w == Fused.OVER) cursor.end();
+
+            else cursor.value = w;
+
+        }
+
+        abstract Object apply(final Object entry, final Object value);
+
+    }
+
+    /**
+     * Fused é uma sequência de decisões e ações avaliada por uma função composta. Quando um passo intermediário
+     * produz nulo, o passo seguinte encerraria o fluxo; a função composta sinaliza esse fim com {@link #OVER}, de
+     * modo que otherwise posteriores não são executados, como na sequência original.
+     */
+    static final class Fused extends Unit {
+
+        static final Object OVER = new Object();
+
+        static Fused of(final Unit first, final Unit second) {
+
+            final BiFunction<Object, Object, Object> before = first.unit();
+
+            final BiFunction<Object, Object, Object> after = second.unit();
+
+            return new Fused((entry, value) -> {
+
+                final Object w = before.apply(entry, value);
+
+                return w == null || w == OVER ? OVER : after.apply(entry, w);
+
+            });
+
+        }
+
+        private Fused(final BiFunction<Object, Object, Object> function) {
+            this.function = function;
+        }
+
+        private final BiFunction<Object, Object, Object> function;
+
+        @Override
+        BiFunction<Object, Object, Object> unit() {
+            return function;
+        }
+
+        @Override
+        Object apply(final Object entry, final Object value) {
+            return function.apply(entry, value);
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.ACTION;
+        }
+
+    }
+
+    static final class Decision extends Unit {
+
+        @SuppressWarnings("unchecked")
+        Decision(final Predicate<?> predicate) {
+            this.predicate = (Predicate<Object>) predicate;
+        }
+
+        private final Predicate<Object> predicate;
+
+        Predicate<Object> predicate() {
+            return predicate;
+        }
+
+        @Override
+        BiFunction<Object, Object, Object> unit() {
+            return this::apply;
+        }
+
+        @Override
+        Object apply(final Object entry, final Object value) {
+            return predicate.test(value) ? value : null;
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.DECISION;
+        }
+
+    }
+
+    static final class Action extends Unit {
+
+        @SuppressWarnings("unchecked")
+        Action(final Function<?, ?> function) {
+            this.function = (Function<Object, Object>) function;
+        }
+
+        private final Function<Object, Object> function;
+
+        Function<Object, Object> function() {
+            return function;
+        }
+
+        @Override
+        BiFunction<Object, Object, Object> unit() {
+            return this::apply;
+        }
+
+        @Override
+        Object apply(final Object entry, final Object value) {
+            return function.apply(value);
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.ACTION;
+        }
+
+    }
+
+    static final class ActionZ extends Unit {
+
+        @SuppressWarnings("unchecked")
+        ActionZ(final BiFunction<?, ?, ?> function) {
+            this.function = (BiFunction<Object, Object, Object>) function;
+        }
+
+        private final BiFunction<Object, Object, Object> function;
+
+        @Override
+        BiFunction<Object, Object, Object> unit() {
+            return function;
+        }
+
+        @Override
+        Object apply(final Object entry, final Object value) {
+            return function.apply(entry, value);
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.ACTION;
+        }
+
+    }
+
+    static final class OtherwiseSupplier extends Step {
+
+        OtherwiseSupplier(final Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        private final Supplier<?> supplier;
+
+        @Override
+        void execute(final Cursor cursor) {
+
+            if (cursor.value != null) return;
+
+            final Object c = supplier.get();
+
+            if (c != null) cursor.end(c);
+
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.OTHERWISE;
+        }
+
+    }
+
+    static final class OtherwiseFunction extends Step {
+
+        @SuppressWarnings("unchecked")
+        OtherwiseFunction(final Function<?, ?> function) {
+            this.function = (Function<Object, Object>) function;
+        }
+
+        private final Function<Object, Object> function;
+
+        @Override
+        void execute(final Cursor cursor) {
+
+            if (cursor.value != null) return;
+
+            final Object c = function.apply(cursor.entry);
+
+            if (c != null) cursor.end(c);
+
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.OTHERWISE;
+        }
+
+    }
+
+    static final class ChannelStep extends Step {
+
+        @SuppressWarnings("unchecked")
+        ChannelStep(final Channel<?> channel) {
+            this.channel = (Channel<Object>) channel;
+        }
+
+        private final Channel<Object> channel;
+
+        @Override
+        void execute(final Cursor cursor) {
+            committed(cursor);
+        }
+
+        @Override
+        boolean committed(final Cursor cursor) {
+
+            if (cursor.value == null) {
+                cursor.end();
+                return false;
+            }
+
+            cursor.commit(channel, cursor.value);
+
+            return true;
+
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.CHANNEL;
+        }
+
+    }
+
+    static final class MappedChannel extends Step {
+
+        @SuppressWarnings("unchecked")
+        MappedChannel(final BiFunction<?, ?, ?> function, final Channel<?> channel) {
+            this.function = (BiFunction<Object, Object, Object>) function;
+            this.channel = (Channel<Object>) channel;
+        }
+
+        private final BiFunction<Object, Object, Object> function;
+
+        private final Channel<Object> channel;
+
+        @Override
+        void execute(final Cursor cursor) {
+            committed(cursor);
+        }
+
+        @Override
+        boolean committed(final Cursor cursor) {
+
+            if (cursor.value == null) {
+                cursor.end();
+                return false;
+            }
+
+            final Object w = function.apply(cursor.entry, cursor.value);
+
+            if (w == null) return false;
+
+            cursor.commit(channel, w);
+
+            return true;
+
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.CHANNEL;
+        }
+
+    }
+
+    static final class OtherwiseChannel extends Step {
+
+        @SuppressWarnings("unchecked")
+        OtherwiseChannel(final Function<?, ?> function, final Channel<?> channel) {
+            this.function = (Function<Object, Object>) function;
+            this.channel = (Channel<Object>) channel;
+        }
+
+        private final Function<Object, Object> function;
+
+        private final Channel<Object> channel;
+
+        @Override
+        void execute(final Cursor cursor) {
+            committed(cursor);
+        }
+
+        @Override
+        boolean committed(final Cursor cursor) {
+
+            if (cursor.value != null) return false;
+
+            final Object c = function.apply(cursor.entry);
+
+            if (c == null) return false;
+
+            cursor.commit(channel, c);
+
+            cursor.end();
+
+            return true;
+
+        }
+
+        @Override
+        StepKind kind() {
+            return StepKind.OTHERWISE_CHANNEL;
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package br.project.knin.activity;
+
+/**
+ * StepKind identifica a operação que originou um passo de {@link ActivityDefinition}
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public enum StepKind {
+
+    /**
+     * decision, síncrona ou assíncrona
+     */
+    DECISION,
+
+    /**
+     * action, síncrona ou assíncrona
+     */
+    ACTION,
+
+    /**
+     * otherwise por Supplier ou Function
+     */
+    OTHERWISE,
+
+    /**
+     * channel, com ou sem mapeamento
+     */
+    CHANNEL,
+
+    /**
+     * otherwise channel
+     */
+    OTHERWISE_CHANNEL,
+
+    /**
+     * route, medido como um único passo que inclui o ramo escolhido
+     */
+    ROUTE
+
+}
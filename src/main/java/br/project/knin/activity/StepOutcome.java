@@ -0,0 +1,45 @@
+package br.project.knin.activity;
+
+/**
+ * StepOutcome descreve o efeito de uma execução de passo sobre o fluxo
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public enum StepOutcome {
+
+    /**
+     * Decisão satisfeita, ou ação ou roteamento que produziu um valor
+     */
+    PASSED,
+
+    /**
+     * Decisão não satisfeita, ação ou roteamento que produziu nulo, ou otherwise que não produziu contrato
+     */
+    REJECTED,
+
+    /**
+     * Passo não executado porque o fluxo chegou ao fim em um passo anterior
+     */
+    SHORT_CIRCUIT,
+
+    /**
+     * Canal que recebeu uma mensagem, ou roteamento cujo ramo encaminhou uma mensagem a um canal
+     */
+    COMMITTED,
+
+    /**
+     * Otherwise ignorado porque o fluxo está ativo, ou canal cujo mapeamento produziu nulo
+     */
+    SKIPPED,
+
+    /**
+     * Otherwise que produziu o contrato
+     */
+    TAKEN,
+
+    /**
+     * Passo que lançou uma exceção
+     */
+    FAILED
+
+}
@@ -0,0 +1,88 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * TryStep é uma ação cujas exceções do tipo informado têm a mesma semântica de um retorno nulo. As exceções capturadas
+ * são contadas por passo, e as de outros tipos são relançadas.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class TryStep extends Step.Unit {
+
+    /**
+     * @param function mapeamento de V (value) para o novo valor
+     * @param type     tipo das exceções capturadas
+     * @return passo com argumentos validados
+     */
+    @SuppressWarnings("unchecked")
+    static TryStep validated(final Function<?, ?> function, final Class<? extends RuntimeException> type) {
+        Objects.requireNonNull(function, Messages.TRY_ACTION);
+        final Function<Object, Object> action = (Function<Object, Object>) function;
+        return validated((entry, value) -> action.apply(value), type);
+    }
+
+    /**
+     * @param function mapeamento de E (entry) e V (value) para o novo valor
+     * @param type     tipo das exceções capturadas
+     * @return passo com argumentos validados
+     */
+    @SuppressWarnings("unchecked")
+    static TryStep validated(final BiFunction<?, ?, ?> function, final Class<? extends RuntimeException> type) {
+
+        Objects.requireNonNull(function, Messages.TRY_ACTION_Z);
+
+        Objects.requireNonNull(type, Messages.TRY_ACTION_TYPE);
+
+        return new TryStep((BiFunction<Object, Object, Object>) function, type);
+
+    }
+
+    private TryStep(final BiFunction<Object, Object, Object> function, final Class<? extends RuntimeException> type) {
+
+        this.function = function;
+
+        this.type = type;
+
+    }
+
+    private final BiFunction<Object, Object, Object> function;
+
+    private final Class<? extends RuntimeException> type;
+
+    private final LongAdder failures = new LongAdder();
+
+    @Override
+    BiFunction<Object, Object, Object> unit() {
+        return this::apply;
+    }
+
+    @Override
+    Object apply(final Object entry, final Object value) {
+
+        try {
+            return function.apply(entry, value);
+        } catch (final RuntimeException e) {
+            if (!type.isInstance(e)) throw e;
+            failures.increment();
+            return null;
+        }
+
+    }
+
+    /**
+     * @return quantidade de exceções capturadas
+     */
+    long failures() {
+        return failures.sum();
+    }
+
+    @Override
+    StepKind kind() {
+        return StepKind.ACTION;
+    }
+
+}
@@ -0,0 +1,403 @@
+package br.project.knin.activity.action;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * CachedAction memoriza o resultado de uma função pura e custosa, para uso em
+ * {@link br.project.knin.activity.Activity#action(Function)} ou
+ * {@link br.project.knin.activity.ActivityDefinition#action(Function)}.
+ * <p>
+ * O cache é concorrente e limitado. Quando o limite é ultrapassado, as entradas são removidas por CLOCK, uma
+ * aproximação de LRU em que uma entrada lida desde a última passagem recebe uma segunda chance. Opcionalmente as
+ * entradas expiram após um tempo de escrita. Entradas removidas fora do CLOCK, por expiração ou invalidação, são
+ * descartadas do ponteiro quando ele ultrapassa o dobro do tamanho máximo, de modo que a memória fica limitada mesmo
+ * sem remoções por tamanho.
+ * <p>
+ * Resultados nulos não são memorizados, portanto o passo continua com a mesma semântica de uma ação que retorna
+ * nulo. Chamadas concorrentes com o mesmo valor aguardam uma única computação. A função não deve chamar o próprio
+ * cache com o mesmo valor.
+ *
+ * @param <V> tipo do valor, usado como chave e que deve implementar equals e hashCode
+ * @param <W> tipo do resultado
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class CachedAction<V, W> implements Function<V, W> {
+
+    /**
+     * @param function função pura a memorizar
+     * @param <V>      tipo do valor
+     * @param <W>      tipo do resultado
+     * @return new instance of CachedActionBuilder
+     */
+    public static <V, W> CachedActionBuilder<V, W> of(final Function<? super V, ? extends W> function) {
+        Objects.requireNonNull(function, "Função em 'cached action' não deve ser nula");
+        return new CachedActionBuilder<>(function);
+    }
+
+    /**
+     * CachedActionBuilder inicialize a new Instance of CachedAction
+     *
+     * @param <V> tipo do valor
+     * @param <W> tipo do resultado
+     */
+    public static final class CachedActionBuilder<V, W> {
+
+        private CachedActionBuilder(final Function<? super V, ? extends W> function) {
+            this.function = function;
+        }
+
+        private final Function<? super V, ? extends W> function;
+
+        private int maximumSize = 10_000;
+
+        private long expireAfterWrite;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * @param maximumSize quantidade máxima de resultados memorizados. Padrão 10000
+         * @return same instance of builder
+         */
+        public CachedActionBuilder<V, W> maximumSize(final int maximumSize) {
+            if (maximumSize < 1) throw new IllegalArgumentException("Tamanho máximo deve ser maior que zero");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param duration tempo, a partir da computação, em que o resultado é válido. Padrão sem expiração
+         * @return same instance of builder
+         */
+        public CachedActionBuilder<V, W> expireAfterWrite(final Duration duration) {
+            Objects.requireNonNull(duration, "Duração não deve ser nula");
+            if (duration.isNegative() || duration.isZero()) throw new IllegalArgumentException("Duração deve ser maior que zero");
+            expireAfterWrite = duration.toNanos();
+            return this;
+        }
+
+        /**
+         * @param ticker fonte de tempo em nanossegundos
+         * @return same instance of builder
+         */
+        CachedActionBuilder<V, W> ticker(final LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * @return new instance of CachedAction
+         */
+        public CachedAction<V, W> build() {
+            return new CachedAction<>(this);
+        }
+
+    }
+
+    private CachedAction(final CachedActionBuilder<V, W> builder) {
+
+        function = builder.function;
+
+        maximumSize = builder.maximumSize;
+
+        expireAfterWrite = builder.expireAfterWrite;
+
+        ticker = builder.ticker;
+
+    }
+
+    private final Function<? super V, ? extends W> function;
+
+    private final int maximumSize;
+
+    private final long expireAfterWrite;
+
+    private final LongSupplier ticker;
+
+    private final ConcurrentMap<V, Node<V, W>> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * Ponteiro do CLOCK: entradas computadas, da mais antiga para a mais recente
+     */
+    private final Queue<Node<V, W>> clock = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Tamanho do ponteiro do CLOCK, já que {@link ConcurrentLinkedQueue#size()} percorre a fila
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final ReentrantLock eviction = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    @Override
+    public W apply(final V value) {
+
+        Objects.requireNonNull(value);
+
+        while (true) {
+
+            final Node<V, W> node = nodes.get(value);
+
+            if (node != null) {
+
+                if (expired(node)) {
+                    if (nodes.remove(value, node)) expirations.increment();
+                    continue;
+                }
+
+                node.referenced = true;
+
+                hits.increment();
+
+                return await(node);
+
+            }
+
+            final Node<V, W> created = new Node<>(value);
+
+            if (nodes.putIfAbsent(value, created) != null) continue;
+
+            misses.increment();
+
+            return compute(created);
+
+        }
+
+    }
+
+    /**
+     * Uma computação em andamento que termina sem resultado não atende a chamada, portanto o acerto vira falta
+     */
+    private W await(final Node<V, W> node) {
+
+        final W w;
+
+        try {
+            w = node.join();
+        } catch (final RuntimeException | Error e) {
+            miss();
+            throw e;
+        }
+
+        if (w == null) miss();
+
+        return w;
+
+    }
+
+    private void miss() {
+
+        hits.decrement();
+
+        misses.increment();
+
+    }
+
+    private W compute(final Node<V, W> node) {
+
+        final W w;
+
+        try {
+            w = function.apply(node.key);
+        } catch (final RuntimeException | Error e) {
+            nodes.remove(node.key, node);
+            node.future.completeExceptionally(e);
+            throw e;
+        }
+
+        if (w == null) {
+            nodes.remove(node.key, node);
+            node.future.complete(null);
+            return null;
+        }
+
+        node.written = ticker.getAsLong();
+
+        node.future.complete(w);
+
+        clock.offer(node);
+
+        queued.incrementAndGet();
+
+        evict();
+
+        return w;
+
+    }
+
+    private boolean expired(final Node<V, W> node) {
+        return expireAfterWrite > 0 && node.future.isDone() && ticker.getAsLong() - node.written >= expireAfterWrite;
+    }
+
+    private void evict() {
+
+        if ((nodes.size() <= maximumSize && queued.get() <= 2L * maximumSize) || !eviction.tryLock()) return;
+
+        try {
+
+            if (queued.get() > 2L * maximumSize) sweep();
+
+            while (nodes.size() > maximumSize) {
+
+                final Node<V, W> node = clock.poll();
+
+                if (node == null) return;
+
+                queued.decrementAndGet();
+
+                if (nodes.get(node.key) != node) continue;
+
+                if (expired(node)) {
+                    if (nodes.remove(node.key, node)) expirations.increment();
+                    continue;
+                }
+
+                if (node.referenced) {
+                    node.referenced = false;
+                    clock.offer(node);
+                    queued.incrementAndGet();
+                    continue;
+                }
+
+                if (nodes.remove(node.key, node)) evictions.increment();
+
+            }
+
+        } finally {
+            eviction.unlock();
+        }
+
+    }
+
+    /**
+     * Descarta do ponteiro as entradas que já não estão no cache. Chamado com o lock de remoção
+     */
+    private void sweep() {
+        clock.removeIf(node -> {
+            if (nodes.get(node.key) == node) return false;
+            queued.decrementAndGet();
+            return true;
+        });
+    }
+
+    /**
+     * Remove todos os resultados memorizados. Computações em andamento não são interrompidas
+     */
+    public void invalidateAll() {
+
+        nodes.clear();
+
+        eviction.lock();
+
+        try {
+            sweep();
+        } finally {
+            eviction.unlock();
+        }
+
+    }
+
+    /**
+     * @return tamanho do ponteiro do CLOCK, incluindo entradas já removidas do cache
+     */
+    int queued() {
+        return clock.size();
+    }
+
+    /**
+     * @return quantidade de resultados memorizados, incluindo computações em andamento
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return quantidade de chamadas atendidas pelo cache, incluindo as que aguardaram uma computação em andamento
+     * concluída com resultado
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return quantidade de chamadas que computaram o resultado ou aguardaram uma computação sem resultado
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return quantidade de resultados removidos por limite de tamanho
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return quantidade de resultados removidos por expiração
+     */
+    public long expirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * @return proporção, entre 0 e 1, de chamadas atendidas pelo cache. Zero caso não haja chamadas
+     */
+    public double hitRate() {
+
+        final long hits = hits();
+
+        final long total = hits + misses();
+
+        return total == 0 ? 0 : (double) hits / total;
+
+    }
+
+    private static final class Node<V, W> {
+
+        private Node(final V key) {
+            this.key = key;
+        }
+
+        private final V key;
+
+        private final CompletableFuture<W> future = new CompletableFuture<>();
+
+        /**
+         * Escrito antes de completar o futuro, portanto visível para quem observa o futuro completo
+         */
+        private volatile long written;
+
+        private volatile boolean referenced;
+
+        private W join() {
+            try {
+                return future.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                throw e;
+            }
+        }
+
+    }
+
+}
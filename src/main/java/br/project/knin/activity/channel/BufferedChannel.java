@@ -0,0 +1,333 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.BatchChannel;
+import br.project.knin.activity.Channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * BufferedChannel desacopla o fluxo de atividade de um canal lento. O commit apenas insere a mensagem em uma fila
+ * limitada e sem locks, e uma thread consumidora dedicada encaminha as mensagens em lotes ao canal de destino.
+ * <p>
+ * Quando o canal de destino é um {@link BatchChannel}, cada lote é encaminhado com uma única chamada de commitAll.
+ * Exceções lançadas pelo canal de destino não alcançam o fluxo, são apenas contabilizadas em {@link #failed()}.
+ * <p>
+ * Apenas a thread consumidora chama o canal de destino, na ordem dos commits, exceto com
+ * {@link OverflowPolicy#CALLER_RUNS}: a thread que realiza o commit com a fila cheia encaminha a mensagem
+ * concorrentemente com a thread consumidora e antes das mensagens da fila. Com essa política, o canal de destino deve
+ * ser thread-safe e não há garantia de ordem.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class BufferedChannel<E> implements Channel<E>, AutoCloseable {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * @param channel canal de destino
+     * @param <E>     Type Generic E
+     * @return new instance of BufferedChannelBuilder
+     */
+    public static <E> BufferedChannelBuilder<E> of(final Channel<? super E> channel) {
+        Objects.requireNonNull(channel, "Canal de destino não deve ser nulo");
+        return new BufferedChannelBuilder<>(channel);
+    }
+
+    /**
+     * BufferedChannelBuilder inicialize a new Instance of BufferedChannel
+     *
+     * @param <E> Type Generic E
+     */
+    public static final class BufferedChannelBuilder<E> {
+
+        private BufferedChannelBuilder(final Channel<? super E> channel) {
+            this.channel = channel;
+        }
+
+        private final Channel<? super E> channel;
+
+        private int capacity = 1024;
+
+        private int batch = 256;
+
+        private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+
+        /**
+         * @param capacity capacidade da fila, arredondada para a próxima potência de dois, até 2^30. Padrão 1024
+         * @return same instance of builder
+         */
+        public BufferedChannelBuilder<E> capacity(final int capacity) {
+            if (capacity < 1) throw new IllegalArgumentException("Capacidade deve ser maior que zero");
+            if (capacity > RingBuffer.MAXIMUM_CAPACITY) throw new IllegalArgumentException("Capacidade deve ser no máximo 2^30");
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * @param batch quantidade máxima de mensagens encaminhadas por lote. Padrão 256
+         * @return same instance of builder
+         */
+        public BufferedChannelBuilder<E> batch(final int batch) {
+            if (batch < 1) throw new IllegalArgumentException("Lote deve ser maior que zero");
+            this.batch = batch;
+            return this;
+        }
+
+        /**
+         * @param overflow política aplicada quando a fila está cheia. Padrão {@link OverflowPolicy#BLOCK}
+         * @return same instance of builder
+         */
+        public BufferedChannelBuilder<E> overflow(final OverflowPolicy overflow) {
+            this.overflow = Objects.requireNonNull(overflow, "Política de overflow não deve ser nula");
+            return this;
+        }
+
+        /**
+         * @return new instance of BufferedChannel com a thread consumidora iniciada
+         */
+        public BufferedChannel<E> start() {
+            return new BufferedChannel<>(this);
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private BufferedChannel(final BufferedChannelBuilder<E> builder) {
+
+        channel = (Channel<E>) builder.channel;
+
+        queue = new RingBuffer<>(builder.capacity);
+
+        batch = builder.batch;
+
+        overflow = builder.overflow;
+
+        consumer = new Thread(this::consume, "activity-buffered-channel-" + THREADS.incrementAndGet());
+
+        consumer.setDaemon(true);
+
+        consumer.start();
+
+    }
+
+    private final Channel<E> channel;
+
+    private final RingBuffer<E> queue;
+
+    private final int batch;
+
+    private final OverflowPolicy overflow;
+
+    private final Thread consumer;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder committed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Commits em andamento. Após o encerramento, a thread consumidora aguarda que chegue a zero antes de esvaziar a
+     * fila pela última vez, de modo que nenhum commit aceito fica na fila
+     */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private volatile boolean waiting;
+
+    private volatile boolean closed;
+
+    /**
+     * Verdadeiro após o fim da thread consumidora, inclusive quando encerrada por um Error do canal de destino
+     */
+    private volatile boolean stopped;
+
+    @Override
+    public void commit(final E e) {
+
+        producers.incrementAndGet();
+
+        try {
+
+            reject();
+
+            if (!queue.offer(e)) overflow(e);
+
+        } finally {
+            producers.decrementAndGet();
+        }
+
+        if (waiting) LockSupport.unpark(consumer);
+
+    }
+
+    private void overflow(final E e) {
+
+        switch (overflow) {
+
+            case BLOCK:
+                while (!queue.offer(e)) {
+                    reject();
+                    LockSupport.unpark(consumer);
+                    LockSupport.parkNanos(this, BACKOFF_NANOS);
+                }
+                break;
+
+            case DROP_OLDEST:
+                while (!queue.offer(e)) if (queue.poll() != null) dropped.increment();
+                break;
+
+            case DROP_NEWEST:
+                dropped.increment();
+                break;
+
+            case CALLER_RUNS:
+                send(List.of(e));
+                break;
+
+        }
+
+    }
+
+    /**
+     * @throws IllegalStateException caso o canal esteja encerrado ou a thread consumidora tenha terminado
+     */
+    private void reject() {
+
+        if (closed) throw new IllegalStateException("Canal encerrado");
+
+        if (stopped) throw new IllegalStateException("Thread consumidora encerrada");
+
+    }
+
+    private void consume() {
+        try {
+            drain();
+        } finally {
+            stopped = true;
+        }
+    }
+
+    private void drain() {
+
+        List<E> messages = new ArrayList<>(batch);
+
+        while (true) {
+
+            E e;
+
+            while (messages.size() < batch && (e = queue.poll()) != null) messages.add(e);
+
+            if (!messages.isEmpty()) {
+                send(messages);
+                messages = new ArrayList<>(batch);
+                continue;
+            }
+
+            if (closed) {
+                if (producers.get() == 0 && queue.isEmpty()) return;
+                Thread.onSpinWait();
+                continue;
+            }
+
+            waiting = true;
+
+            if (queue.isEmpty() && !closed) LockSupport.parkNanos(this, IDLE_NANOS);
+
+            waiting = false;
+
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private void send(final List<E> messages) {
+
+        try {
+
+            if (channel instanceof BatchChannel) ((BatchChannel<E>) channel).commitAll(messages);
+
+            else for (final E e : messages) channel.commit(e);
+
+            committed.add(messages.size());
+
+        } catch (final RuntimeException exception) {
+            failed.add(messages.size());
+        }
+
+    }
+
+    /**
+     * @return quantidade aproximada de mensagens aguardando na fila
+     */
+    public int depth() {
+        return queue.size();
+    }
+
+    /**
+     * @return capacidade efetiva da fila
+     */
+    public int capacity() {
+        return queue.capacity();
+    }
+
+    /**
+     * @return quantidade de mensagens descartadas pela política de overflow
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return quantidade de mensagens encaminhadas ao canal de destino
+     */
+    public long committed() {
+        return committed.sum();
+    }
+
+    /**
+     * @return quantidade de mensagens cujo encaminhamento lançou uma exceção
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Recusa novos commits, encaminha as mensagens restantes da fila e aguarda o fim da thread consumidora. Chamado
+     * pela própria thread consumidora, por exemplo a partir do canal de destino, não aguarda: a thread encerra após
+     * esvaziar a fila
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+
+        LockSupport.unpark(consumer);
+
+        if (Thread.currentThread() == consumer) return;
+
+        boolean interrupted = false;
+
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Channel;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ExecutorChannel encaminha cada mensagem ao canal de destino em uma tarefa do executor, de modo que um canal
+ * bloqueante não retém a thread do fluxo. Em conjunto com
+ * {@link br.project.knin.activity.ActivityExecutors#virtualThreads()}, cada commit é executado em uma thread virtual.
+ * <p>
+ * Não há garantia de ordem entre as mensagens e o canal de destino deve ser thread-safe. Exceções lançadas pelo
+ * canal de destino são apenas contabilizadas em {@link #failed()}.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class ExecutorChannel<E> implements Channel<E> {
+
+    /**
+     * @param channel  canal de destino
+     * @param executor executor dos commits
+     * @param <E>      Type Generic E
+     * @return new instance of ExecutorChannel
+     */
+    public static <E> ExecutorChannel<E> of(final Channel<? super E> channel, final Executor executor) {
+        Objects.requireNonNull(channel, "Canal de destino não deve ser nulo");
+        Objects.requireNonNull(executor, "Executor não deve ser nulo");
+        return new ExecutorChannel<>(channel, executor);
+    }
+
+    private ExecutorChannel(final Channel<? super E> channel, final Executor executor) {
+
+        this.channel = channel;
+
+        this.executor = executor;
+
+    }
+
+    private final Channel<? super E> channel;
+
+    private final Executor executor;
+
+    private final LongAdder committed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    @Override
+    public void commit(final E e) {
+        executor.execute(() -> {
+            try {
+                channel.commit(e);
+                committed.increment();
+            } catch (final RuntimeException exception) {
+                failed.increment();
+            }
+        });
+    }
+
+    /**
+     * @return quantidade de mensagens encaminhadas ao canal de destino
+     */
+    public long committed() {
+        return committed.sum();
+    }
+
+    /**
+     * @return quantidade de mensagens cujo encaminhamento lançou uma exceção
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+}
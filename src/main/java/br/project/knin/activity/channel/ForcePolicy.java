@@ -0,0 +1,27 @@
+package br.project.knin.activity.channel;
+
+/**
+ * ForcePolicy define quando os registros de um {@link MappedFileChannel} são forçados ao dispositivo de
+ * armazenamento. Sem force, os registros sobrevivem à queda do processo, mas não à queda do sistema operacional.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public enum ForcePolicy {
+
+    /**
+     * O sistema operacional decide quando gravar as páginas alteradas
+     */
+    NEVER,
+
+    /**
+     * Cada segmento é forçado ao ser substituído por um novo segmento e no encerramento do canal
+     */
+    SEGMENT,
+
+    /**
+     * Cada commit é forçado antes de retornar. A partir do Java 13 apenas as páginas do registro são forçadas; em
+     * versões anteriores, todo o segmento mapeado
+     */
+    COMMIT
+
+}
@@ -0,0 +1,353 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Channel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MappedFileChannel acrescenta cada mensagem como um registro em segmentos de arquivo mapeados em memória. O commit
+ * é uma escrita em memória, sem chamada de sistema, e o encoder escreve diretamente na região mapeada.
+ * <p>
+ * Cada segmento tem tamanho fixo e, ao ser preenchido, é substituído por um novo arquivo no mesmo diretório. Ao ser
+ * aberto sobre um diretório existente, o canal inicia um segmento após o último, sem alterar os segmentos anteriores.
+ * Os registros podem ser lidos com {@link MappedFileReader}. Um registro que não cabe no espaço restante é escrito no
+ * próximo segmento antes da troca; caso também não caiba nele, é rejeitado e o segmento corrente continua em uso, e o
+ * próximo segmento, ainda vazio, é aproveitado na troca seguinte ou permanece vazio no diretório.
+ * <p>
+ * O canal não desfaz o mapeamento dos segmentos substituídos, pois a JVM não oferece uma API pública para isso: o
+ * segmento deixa de ser referenciado e o mapeamento é liberado quando o buffer é coletado pelo GC. Com segmentos
+ * pequenos e trocas frequentes, o espaço de endereçamento e a quantidade de mapeamentos do processo
+ * ({@code vm.max_map_count} no Linux) crescem até a próxima coleta.
+ * <p>
+ * Os commits são serializados, portanto o canal pode ser compartilhado entre threads.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class MappedFileChannel<E> implements Channel<E>, AutoCloseable {
+
+    /**
+     * @param directory diretório dos segmentos, criado quando não existe
+     * @param encoder   encoder das mensagens
+     * @param <E>       Type Generic E
+     * @return new instance of MappedFileChannelBuilder
+     */
+    public static <E> MappedFileChannelBuilder<E> of(final Path directory, final RecordEncoder<? super E> encoder) {
+        Objects.requireNonNull(directory, "Diretório não deve ser nulo");
+        Objects.requireNonNull(encoder, "Encoder não deve ser nulo");
+        return new MappedFileChannelBuilder<>(directory, encoder);
+    }
+
+    /**
+     * MappedFileChannelBuilder inicialize a new Instance of MappedFileChannel
+     *
+     * @param <E> Type Generic E
+     */
+    public static final class MappedFileChannelBuilder<E> {
+
+        private MappedFileChannelBuilder(final Path directory, final RecordEncoder<? super E> encoder) {
+            this.directory = directory;
+            this.encoder = encoder;
+        }
+
+        private final Path directory;
+
+        private final RecordEncoder<? super E> encoder;
+
+        private int segmentSize = 64 * 1024 * 1024;
+
+        private ForcePolicy force = ForcePolicy.SEGMENT;
+
+        /**
+         * @param segmentSize tamanho de cada segmento em bytes. Padrão 64 MiB
+         * @return same instance of builder
+         */
+        public MappedFileChannelBuilder<E> segmentSize(final int segmentSize) {
+            if (segmentSize <= Segments.HEADER) throw new IllegalArgumentException("Segmento deve ser maior que o cabeçalho de registro");
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * @param force política de force. Padrão {@link ForcePolicy#SEGMENT}
+         * @return same instance of builder
+         */
+        public MappedFileChannelBuilder<E> force(final ForcePolicy force) {
+            this.force = Objects.requireNonNull(force, "Política de force não deve ser nula");
+            return this;
+        }
+
+        /**
+         * @return new instance of MappedFileChannel com o segmento corrente mapeado
+         */
+        public MappedFileChannel<E> open() {
+            return new MappedFileChannel<>(this);
+        }
+
+    }
+
+    /**
+     * {@code MappedByteBuffer.force(int, int)}, disponível a partir do Java 13, ou nulo em versões anteriores
+     */
+    private static final MethodHandle FORCE_RANGE = forceRange();
+
+    private static MethodHandle forceRange() {
+        try {
+            return MethodHandles
+                    .publicLookup()
+                    .findVirtual(MappedByteBuffer.class, "force", MethodType.methodType(MappedByteBuffer.class, int.class, int.class))
+                    .asType(MethodType.methodType(void.class, MappedByteBuffer.class, int.class, int.class));
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private MappedFileChannel(final MappedFileChannelBuilder<E> builder) {
+
+        directory = builder.directory;
+
+        encoder = (RecordEncoder<E>) builder.encoder;
+
+        segmentSize = builder.segmentSize;
+
+        force = builder.force;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final List<Path> segments = Segments.list(directory);
+
+        index = segments.isEmpty() ? 0 : Segments.index(segments.get(segments.size() - 1)) + 1;
+
+        buffer = map(index);
+
+    }
+
+    private final Path directory;
+
+    private final RecordEncoder<E> encoder;
+
+    private final int segmentSize;
+
+    private final ForcePolicy force;
+
+    private final LongAdder committed = new LongAdder();
+
+    private final LongAdder segments = new LongAdder();
+
+    private long index;
+
+    private MappedByteBuffer buffer;
+
+    private MappedByteBuffer next;
+
+    private boolean closed;
+
+    /**
+     * Mapeia um novo segmento
+     *
+     * @param index índice do segmento
+     * @return segmento mapeado
+     */
+    private MappedByteBuffer map(final long index) {
+
+        final Path path = Segments.path(directory, index);
+
+        final MappedByteBuffer mapped;
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            mapped = file.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        segments.increment();
+
+        return mapped;
+
+    }
+
+    /**
+     * Substitui o segmento corrente pelo próximo, que já contém o registro que não coube no corrente
+     */
+    private void roll() {
+
+        if (force != ForcePolicy.NEVER) buffer.force();
+
+        buffer = next;
+
+        next = null;
+
+        index++;
+
+    }
+
+    /**
+     * @param e mensagem
+     * @throws IllegalArgumentException caso o registro seja vazio ou maior que um segmento
+     * @throws IllegalStateException    caso o canal esteja fechado
+     */
+    @Override
+    public synchronized void commit(final E e) {
+
+        if (closed) throw new IllegalStateException("Canal encerrado");
+
+        int start = buffer.position();
+
+        if (!append(buffer, e)) {
+
+            if (start == 0) throw new IllegalArgumentException("Registro maior que o segmento");
+
+            if (next == null) next = map(index + 1);
+
+            if (!append(next, e)) throw new IllegalArgumentException("Registro maior que o segmento");
+
+            roll();
+
+            start = 0;
+
+        }
+
+        if (force == ForcePolicy.COMMIT) force(start, buffer.position() - start);
+
+        committed.increment();
+
+    }
+
+    /**
+     * O cabeçalho é escrito após o conteúdo, de modo que um registro incompleto nunca é lido
+     *
+     * @param buffer segmento de destino
+     * @param e      mensagem
+     * @return falso quando não há espaço no segmento
+     */
+    private boolean append(final MappedByteBuffer buffer, final E e) {
+
+        final int start = buffer.position();
+
+        if (buffer.remaining() <= Segments.HEADER) return false;
+
+        buffer.position(start + Segments.HEADER);
+
+        try {
+            encoder.encode(e, buffer);
+        } catch (final BufferOverflowException overflow) {
+            discard(buffer, start);
+            return false;
+        } catch (final RuntimeException | Error failure) {
+            discard(buffer, start);
+            throw failure;
+        }
+
+        final int length = buffer.position() - start - Segments.HEADER;
+
+        if (length == 0) {
+            buffer.position(start);
+            throw new IllegalArgumentException("Registro não deve ser vazio");
+        }
+
+        buffer.putInt(start, length);
+
+        return true;
+
+    }
+
+    /**
+     * Apaga o conteúdo escrito parcialmente, para que o próximo registro não seja seguido de bytes inválidos
+     *
+     * @param buffer segmento do registro descartado
+     * @param start  início do registro descartado
+     */
+    private void discard(final MappedByteBuffer buffer, final int start) {
+
+        final int end = buffer.position();
+
+        for (int i = start; i < end; i++) buffer.put(i, (byte) 0);
+
+        buffer.position(start);
+
+    }
+
+    /**
+     * Força apenas as páginas do registro a partir do Java 13. Em versões anteriores, todo o segmento mapeado é
+     * forçado, e o custo de cada commit com {@link ForcePolicy#COMMIT} cresce com as páginas alteradas do segmento
+     *
+     * @param start  início do registro
+     * @param length tamanho do registro com o cabeçalho
+     */
+    private void force(final int start, final int length) {
+
+        if (FORCE_RANGE == null) {
+            buffer.force();
+            return;
+        }
+
+        try {
+            FORCE_RANGE.invokeExact(buffer, start, length);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+
+    }
+
+    /**
+     * Força os registros do segmento corrente ao dispositivo de armazenamento, independente da política de force
+     */
+    public synchronized void force() {
+        if (!closed) buffer.force();
+    }
+
+    /**
+     * @return quantidade de mensagens registradas
+     */
+    public long committed() {
+        return committed.sum();
+    }
+
+    /**
+     * @return quantidade de segmentos mapeados desde a abertura do canal
+     */
+    public long segments() {
+        return segments.sum();
+    }
+
+    /**
+     * Encerra o canal. Com política diferente de {@link ForcePolicy#NEVER}, o segmento corrente é forçado
+     */
+    @Override
+    public synchronized void close() {
+
+        if (closed) return;
+
+        closed = true;
+
+        if (force != ForcePolicy.NEVER) buffer.force();
+
+        buffer = null;
+
+        next = null;
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package br.project.knin.activity.channel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * MappedFileReader percorre os registros escritos por {@link MappedFileChannel}, na ordem em que foram registrados.
+ * Cada segmento é mapeado somente para leitura, e cada registro é uma fatia do segmento mapeado, sem cópia do
+ * conteúdo.
+ * <p>
+ * Cada iteração lista os segmentos existentes no início da iteração. Registros de um canal ainda aberto são lidos
+ * apenas até onde estiverem visíveis; após o encerramento do canal, todos os registros são lidos.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class MappedFileReader implements Iterable<ByteBuffer> {
+
+    /**
+     * @param directory diretório dos segmentos
+     * @return new instance of MappedFileReader
+     */
+    public static MappedFileReader open(final Path directory) {
+        Objects.requireNonNull(directory, "Diretório não deve ser nulo");
+        return new MappedFileReader(directory);
+    }
+
+    private MappedFileReader(final Path directory) {
+        this.directory = directory;
+    }
+
+    private final Path directory;
+
+    /**
+     * @return iterador de registros. Cada registro é uma fatia somente leitura, posicionada no início do conteúdo,
+     * válida enquanto houver referência a ela
+     */
+    @Override
+    public Iterator<ByteBuffer> iterator() {
+        return new Records(Segments.list(directory));
+    }
+
+    private static final class Records implements Iterator<ByteBuffer> {
+
+        private Records(final List<Path> segments) {
+            this.segments = segments.iterator();
+        }
+
+        private final Iterator<Path> segments;
+
+        private ByteBuffer segment;
+
+        private int position;
+
+        private int next = -1;
+
+        @Override
+        public boolean hasNext() {
+
+            while (next == -1) {
+
+                if (segment != null) next = Segments.next(segment, position);
+
+                if (next != -1) break;
+
+                if (!segments.hasNext()) return false;
+
+                segment = map(segments.next());
+
+                position = 0;
+
+            }
+
+            return true;
+
+        }
+
+        @Override
+        public ByteBuffer next() {
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            final ByteBuffer record = segment.duplicate();
+
+            record.position(position + Segments.HEADER).limit(next);
+
+            position = next;
+
+            next = -1;
+
+            return record.slice();
+
+        }
+
+        private static ByteBuffer map(final Path path) {
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+                return file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.project.knin.activity.channel;
+
+/**
+ * OverflowPolicy define o comportamento de um canal com fila limitada quando a fila está cheia.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public enum OverflowPolicy {
+
+    /**
+     * A thread que realiza o commit aguarda até que haja espaço na fila
+     */
+    BLOCK,
+
+    /**
+     * A mensagem mais antiga da fila é descartada para dar lugar à nova mensagem
+     */
+    DROP_OLDEST,
+
+    /**
+     * A nova mensagem é descartada
+     */
+    DROP_NEWEST,
+
+    /**
+     * A thread que realiza o commit encaminha a mensagem diretamente ao canal de destino, fora da ordem da fila
+     */
+    CALLER_RUNS
+
+}
@@ -0,0 +1,247 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Channel;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * PartitionedChannel distribui as mensagens entre faixas independentes pela chave de cada mensagem. Cada faixa é um
+ * {@link BufferedChannel}, com fila sem locks e uma thread consumidora própria, de modo que produtores concorrentes
+ * não disputam um único monitor do canal de destino.
+ * <p>
+ * Mensagens de mesma chave são encaminhadas pela mesma faixa e mantêm a ordem do commit. Não há garantia de ordem
+ * entre chaves distintas. Por isso apenas as políticas de overflow que não reordenam nem descartam mensagens já
+ * aceitas são permitidas: {@link OverflowPolicy#BLOCK} e {@link OverflowPolicy#DROP_NEWEST}.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class PartitionedChannel<E> implements Channel<E>, AutoCloseable {
+
+    /**
+     * @param key     extrator da chave de cada mensagem. Chave nula é encaminhada pela primeira faixa
+     * @param channel canal de destino de cada faixa, criado a partir do índice da faixa
+     * @param <E>     Type Generic E
+     * @return new instance of PartitionedChannelBuilder
+     */
+    public static <E> PartitionedChannelBuilder<E> of(final Function<? super E, ?> key, final IntFunction<? extends Channel<? super E>> channel) {
+        Objects.requireNonNull(key, "Extrator de chave não deve ser nulo");
+        Objects.requireNonNull(channel, "Canal de destino não deve ser nulo");
+        return new PartitionedChannelBuilder<>(key, channel);
+    }
+
+    /**
+     * PartitionedChannelBuilder inicialize a new Instance of PartitionedChannel
+     *
+     * @param <E> Type Generic E
+     */
+    public static final class PartitionedChannelBuilder<E> {
+
+        private PartitionedChannelBuilder(final Function<? super E, ?> key, final IntFunction<? extends Channel<? super E>> channel) {
+            this.key = key;
+            this.channel = channel;
+        }
+
+        private final Function<? super E, ?> key;
+
+        private final IntFunction<? extends Channel<? super E>> channel;
+
+        private int lanes = Runtime.getRuntime().availableProcessors();
+
+        private int capacity = 1024;
+
+        private int batch = 256;
+
+        private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+
+        /**
+         * @param lanes quantidade de faixas. Padrão quantidade de processadores
+         * @return same instance of builder
+         */
+        public PartitionedChannelBuilder<E> lanes(final int lanes) {
+            if (lanes < 1) throw new IllegalArgumentException("Quantidade de faixas deve ser maior que zero");
+            this.lanes = lanes;
+            return this;
+        }
+
+        /**
+         * @param capacity capacidade da fila de cada faixa, arredondada para a próxima potência de dois. Padrão 1024
+         * @return same instance of builder
+         */
+        public PartitionedChannelBuilder<E> capacity(final int capacity) {
+            if (capacity < 1) throw new IllegalArgumentException("Capacidade deve ser maior que zero");
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * @param batch quantidade máxima de mensagens encaminhadas por lote em cada faixa. Padrão 256
+         * @return same instance of builder
+         */
+        public PartitionedChannelBuilder<E> batch(final int batch) {
+            if (batch < 1) throw new IllegalArgumentException("Lote deve ser maior que zero");
+            this.batch = batch;
+            return this;
+        }
+
+        /**
+         * @param overflow política aplicada quando a fila de uma faixa está cheia. Padrão {@link OverflowPolicy#BLOCK}
+         * @return same instance of builder
+         * @throws IllegalArgumentException caso a política seja {@link OverflowPolicy#CALLER_RUNS}, que encaminha a
+         *                                  mensagem antes das que aguardam na fila, ou {@link OverflowPolicy#DROP_OLDEST},
+         *                                  que descarta uma mensagem já aceita
+         */
+        public PartitionedChannelBuilder<E> overflow(final OverflowPolicy overflow) {
+            Objects.requireNonNull(overflow, "Política de overflow não deve ser nula");
+            if (overflow == OverflowPolicy.CALLER_RUNS || overflow == OverflowPolicy.DROP_OLDEST) throw new IllegalArgumentException("Política de overflow não preserva a ordem por chave");
+            this.overflow = overflow;
+            return this;
+        }
+
+        /**
+         * @return new instance of PartitionedChannel com as threads consumidoras iniciadas
+         */
+        public PartitionedChannel<E> start() {
+            return new PartitionedChannel<>(this);
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private PartitionedChannel(final PartitionedChannelBuilder<E> builder) {
+
+        key = builder.key;
+
+        lanes = (BufferedChannel<E>[]) new BufferedChannel<?>[builder.lanes];
+
+        for (int i = 0; i < lanes.length; i++) {
+
+            try {
+                lanes[i] = lane(builder, i);
+            } catch (final RuntimeException e) {
+                for (int started = 0; started < i; started++) lanes[started].close();
+                throw e;
+            }
+
+        }
+
+    }
+
+    private static <E> BufferedChannel<E> lane(final PartitionedChannelBuilder<E> builder, final int index) {
+
+        final Channel<? super E> channel = Objects.requireNonNull(builder.channel.apply(index), "Canal de destino não deve ser nulo");
+
+        return BufferedChannel
+                .<E>of(channel)
+                .capacity(builder.capacity)
+                .batch(builder.batch)
+                .overflow(builder.overflow)
+                .start();
+
+    }
+
+    private final Function<? super E, ?> key;
+
+    private final BufferedChannel<E>[] lanes;
+
+    /**
+     * @param e mensagem
+     * @throws IllegalStateException caso o canal esteja fechado
+     */
+    @Override
+    public void commit(final E e) {
+        lanes[lane(e)].commit(e);
+    }
+
+    /**
+     * @param e mensagem
+     * @return índice da faixa da mensagem
+     */
+    public int lane(final E e) {
+
+        final Object k = key.apply(e);
+
+        if (k == null) return 0;
+
+        final int h = k.hashCode();
+
+        return Math.floorMod(h ^ (h >>> 16), lanes.length);
+
+    }
+
+    /**
+     * @return quantidade de faixas
+     */
+    public int lanes() {
+        return lanes.length;
+    }
+
+    /**
+     * @param lane índice da faixa
+     * @return quantidade aproximada de mensagens aguardando na fila da faixa
+     */
+    public int depth(final int lane) {
+        return lanes[lane].depth();
+    }
+
+    /**
+     * @return quantidade aproximada de mensagens aguardando na fila de cada faixa
+     */
+    public int[] depths() {
+
+        final int[] depths = new int[lanes.length];
+
+        for (int i = 0; i < lanes.length; i++) depths[i] = lanes[i].depth();
+
+        return depths;
+
+    }
+
+    /**
+     * @param lane índice da faixa
+     * @return quantidade de mensagens encaminhadas pela faixa ao canal de destino
+     */
+    public long committed(final int lane) {
+        return lanes[lane].committed();
+    }
+
+    /**
+     * @param lane índice da faixa
+     * @return quantidade de mensagens descartadas pela política de overflow da faixa
+     */
+    public long dropped(final int lane) {
+        return lanes[lane].dropped();
+    }
+
+    /**
+     * @param lane índice da faixa
+     * @return quantidade de mensagens cujo encaminhamento pela faixa lançou uma exceção
+     */
+    public long failed(final int lane) {
+        return lanes[lane].failed();
+    }
+
+    /**
+     * @return quantidade de mensagens encaminhadas por todas as faixas
+     */
+    public long committed() {
+
+        long committed = 0;
+
+        for (final BufferedChannel<E> lane : lanes) committed += lane.committed();
+
+        return committed;
+
+    }
+
+    /**
+     * Recusa novos commits e encerra cada faixa após encaminhar as mensagens restantes
+     */
+    @Override
+    public void close() {
+        for (final BufferedChannel<E> lane : lanes) lane.close();
+    }
+
+}
@@ -0,0 +1,112 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Channel;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PublisherChannel publica as mensagens recebidas por commit para assinantes de {@link Flow}. Cada assinante possui
+ * um buffer limitado. O commit nunca aguarda: quando o buffer de um assinante está cheio a mensagem é descartada
+ * apenas para esse assinante, e uma mensagem sem assinantes é descartada para todos. Os descartes são contados por
+ * {@link #dropped()}, de modo que um assinante lento não bloqueia a thread que executa a atividade, mas também não
+ * perde mensagens silenciosamente.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class PublisherChannel<E> implements Channel<E>, Flow.Publisher<E>, AutoCloseable {
+
+    /**
+     * @param <E> Type Generic E
+     * @return new instance of PublisherChannel com o executor comum e buffer {@link Flow#defaultBufferSize()}
+     */
+    public static <E> PublisherChannel<E> create() {
+        return create(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param executor executor das entregas aos assinantes
+     * @param buffer   capacidade do buffer de cada assinante
+     * @param <E>      Type Generic E
+     * @return new instance of PublisherChannel
+     */
+    public static <E> PublisherChannel<E> create(final Executor executor, final int buffer) {
+        Objects.requireNonNull(executor, "Executor não deve ser nulo");
+        if (buffer < 1) throw new IllegalArgumentException("Buffer deve ser maior que zero");
+        return new PublisherChannel<>(new SubmissionPublisher<>(executor, buffer));
+    }
+
+    private PublisherChannel(final SubmissionPublisher<E> publisher) {
+        this.publisher = publisher;
+    }
+
+    private final SubmissionPublisher<E> publisher;
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Entrega a mensagem aos assinantes com espaço no buffer, sem aguardar demanda. Cada assinante sem espaço, ou a
+     * ausência de assinantes, soma um descarte
+     *
+     * @param e mensagem
+     * @throws IllegalStateException caso o canal esteja fechado
+     */
+    @Override
+    public void commit(final E e) {
+
+        if (publisher.isClosed()) throw new IllegalStateException("Canal encerrado");
+
+        if (publisher.hasSubscribers()) publisher.offer(e, this::drop);
+
+        else dropped.increment();
+
+    }
+
+    private boolean drop(final Flow.Subscriber<? super E> subscriber, final E e) {
+
+        dropped.increment();
+
+        return false;
+
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super E> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * @return quantidade de assinantes
+     */
+    public int subscribers() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    /**
+     * @return maior quantidade de mensagens aguardando entrega entre os assinantes
+     */
+    public int lag() {
+        return publisher.estimateMaximumLag();
+    }
+
+    /**
+     * @return quantidade de entregas descartadas por buffer cheio ou por ausência de assinantes
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Encerra o canal e notifica onComplete aos assinantes após as mensagens pendentes
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.project.knin.activity.channel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * RecordEncoder escreve uma mensagem diretamente na região de destino, a partir da posição corrente do buffer, sem
+ * array de bytes intermediário.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+@FunctionalInterface
+public interface RecordEncoder<E> {
+
+    /**
+     * Quando o espaço restante não é suficiente, o encoder deve deixar {@link java.nio.BufferOverflowException}
+     * escapar, como fazem os métodos put de {@link ByteBuffer}. O canal descarta o que foi escrito e repete a
+     * escrita em um novo segmento.
+     *
+     * @param e      mensagem
+     * @param buffer região de destino, posicionada no início do registro
+     */
+    void encode(final E e, final ByteBuffer buffer);
+
+}
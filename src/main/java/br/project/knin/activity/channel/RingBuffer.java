@@ -0,0 +1,135 @@
+package br.project.knin.activity.channel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RingBuffer é uma fila limitada e sem locks para múltiplos produtores e consumidores. Cada posição possui um número
+ * de sequência que indica se está livre para escrita ou pronta para leitura, de modo que produtores e consumidores
+ * disputam apenas um compare-and-set nos respectivos contadores. A capacidade é arredondada para a próxima potência
+ * de dois, com mínimo de duas posições e máximo de 2^30.
+ *
+ * @param <E> Type Generic E
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class RingBuffer<E> {
+
+    /**
+     * Maior potência de dois representável por um int
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    RingBuffer(final int capacity) {
+
+        if (capacity < 1) throw new IllegalArgumentException("Capacidade deve ser maior que zero");
+
+        if (capacity > MAXIMUM_CAPACITY) throw new IllegalArgumentException("Capacidade deve ser no máximo 2^30");
+
+        final int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+
+        buffer = new Object[length];
+
+        sequences = new AtomicLongArray(length);
+
+        for (int i = 0; i < length; i++) sequences.set(i, i);
+
+        mask = length - 1;
+
+        this.capacity = length;
+
+    }
+
+    private final Object[] buffer;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final int capacity;
+
+    private final AtomicLong enqueue = new AtomicLong();
+
+    private final AtomicLong dequeue = new AtomicLong();
+
+    boolean offer(final E e) {
+
+        long position = enqueue.get();
+
+        for (; ; ) {
+
+            final int index = (int) position & mask;
+
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+
+                if (enqueue.compareAndSet(position, position + 1)) {
+                    buffer[index] = e;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+
+                position = enqueue.get();
+
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueue.get();
+            }
+
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    E poll() {
+
+        long position = dequeue.get();
+
+        for (; ; ) {
+
+            final int index = (int) position & mask;
+
+            final long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+
+                if (dequeue.compareAndSet(position, position + 1)) {
+                    final E e = (E) buffer[index];
+                    buffer[index] = null;
+                    sequences.set(index, position + mask + 1);
+                    return e;
+                }
+
+                position = dequeue.get();
+
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = dequeue.get();
+            }
+
+        }
+
+    }
+
+    /**
+     * @return quantidade aproximada de elementos, exata apenas quando não há operações concorrentes
+     */
+    int size() {
+
+        final long size = enqueue.get() - dequeue.get();
+
+        return (int) Math.max(0, Math.min(size, capacity));
+
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.project.knin.activity.channel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Segments reúne o formato dos arquivos de {@link MappedFileChannel}. Cada registro é um cabeçalho int com o tamanho
+ * do conteúdo, seguido do conteúdo. Um cabeçalho zero, ou um espaço menor que um cabeçalho, marca o fim dos
+ * registros do segmento.
+ *
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class Segments {
+
+    static final int HEADER = Integer.BYTES;
+
+    private static final String SUFFIX = ".segment";
+
+    private Segments() {
+    }
+
+    static Path path(final Path directory, final long index) {
+        return directory.resolve(String.format(Locale.ROOT, "%020d%s", index, SUFFIX));
+    }
+
+    static long index(final Path segment) {
+        final String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * @param directory diretório dos segmentos
+     * @return segmentos existentes, em ordem de criação
+     */
+    static List<Path> list(final Path directory) {
+
+        if (!Files.isDirectory(directory)) return List.of();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().matches("\\d{20}\\" + SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+    }
+
+    /**
+     * @param buffer segmento mapeado
+     * @param from   posição de um registro
+     * @return posição do próximo registro, ou -1 quando não há registro em from
+     */
+    static int next(final ByteBuffer buffer, final int from) {
+
+        if (buffer.limit() - from < HEADER) return -1;
+
+        final int length = buffer.getInt(from);
+
+        if (length <= 0 || length > buffer.limit() - from - HEADER) return -1;
+
+        return from + HEADER + length;
+
+    }
+
+}
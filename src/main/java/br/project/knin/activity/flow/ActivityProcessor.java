@@ -0,0 +1,429 @@
+package br.project.knin.activity.flow;
+
+import br.project.knin.activity.ActivityPlan;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ActivityProcessor executa um {@link ActivityPlan} para cada item recebido de um {@link Flow.Publisher} e publica
+ * os contratos aos seus assinantes.
+ * <p>
+ * A demanda dos assinantes é propagada ao publicador: são solicitados no máximo o menor valor entre a demanda
+ * pendente de cada assinante, o espaço livre no seu buffer e a concorrência. Sem assinantes nada é solicitado, de modo
+ * que nenhum item é executado e descartado; um assinante lento limita todos os demais. As threads do executor nunca
+ * aguardam demanda, pois cada item em execução já possui demanda reservada nos assinantes. Assinantes que chegam com
+ * itens em execução recebem apenas os contratos solicitados após a sua assinatura. Com concorrência maior que um, os
+ * contratos podem ser publicados fora da ordem dos itens.
+ * <p>
+ * A reserva cobre apenas o contrato de cada item. Commits feitos pelos canais do plano, inclusive por
+ * {@link br.project.knin.activity.channel.PublisherChannel}, não participam dessa pressão: o PublisherChannel também
+ * não aguarda demanda, e descarta e conta em {@code dropped()} as mensagens que um assinante não comporta. Uma
+ * exceção do plano cancela a assinatura e encerra os assinantes com onError após os contratos já publicados.
+ *
+ * @param <E> represent entry initial
+ * @param <C> represent contract
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+public final class ActivityProcessor<E, C> implements Flow.Processor<E, C> {
+
+    /**
+     * @param plan plano executado para cada item
+     * @param <E>  represent entry initial
+     * @param <C>  represent contract
+     * @return new instance of ActivityProcessorBuilder
+     */
+    public static <E, C> ActivityProcessorBuilder<E, C> of(final ActivityPlan<C, E> plan) {
+        Objects.requireNonNull(plan, "Plano não deve ser nulo");
+        return new ActivityProcessorBuilder<>(plan);
+    }
+
+    /**
+     * ActivityProcessorBuilder inicialize a new Instance of ActivityProcessor
+     *
+     * @param <E> represent entry initial
+     * @param <C> represent contract
+     */
+    public static final class ActivityProcessorBuilder<E, C> {
+
+        private ActivityProcessorBuilder(final ActivityPlan<C, E> plan) {
+            this.plan = plan;
+        }
+
+        private final ActivityPlan<C, E> plan;
+
+        private int concurrency = 1;
+
+        private int buffer = Flow.defaultBufferSize();
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        /**
+         * @param concurrency quantidade máxima de itens em execução. Padrão 1, que preserva a ordem dos itens
+         * @return same instance of builder
+         */
+        public ActivityProcessorBuilder<E, C> concurrency(final int concurrency) {
+            if (concurrency < 1) throw new IllegalArgumentException("Concorrência deve ser maior que zero");
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param buffer contratos reservados ou aguardando entrega por assinante. Padrão {@link Flow#defaultBufferSize()}
+         * @return same instance of builder
+         */
+        public ActivityProcessorBuilder<E, C> buffer(final int buffer) {
+            if (buffer < 1) throw new IllegalArgumentException("Buffer deve ser maior que zero");
+            this.buffer = buffer;
+            return this;
+        }
+
+        /**
+         * @param executor executor dos itens e das entregas aos assinantes. Padrão {@link ForkJoinPool#commonPool()}
+         * @return same instance of builder
+         */
+        public ActivityProcessorBuilder<E, C> executor(final Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor não deve ser nulo");
+            return this;
+        }
+
+        /**
+         * @return new instance of ActivityProcessor
+         */
+        public ActivityProcessor<E, C> build() {
+            return new ActivityProcessor<>(this);
+        }
+
+    }
+
+    private ActivityProcessor(final ActivityProcessorBuilder<E, C> builder) {
+
+        plan = builder.plan;
+
+        concurrency = builder.concurrency;
+
+        buffer = builder.buffer;
+
+        executor = builder.executor;
+
+    }
+
+    private final ActivityPlan<C, E> plan;
+
+    private final int concurrency;
+
+    private final int buffer;
+
+    private final Executor executor;
+
+    private final List<Downstream> subscribers = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+
+    private int pending;
+
+    private int running;
+
+    private boolean completed;
+
+    private Throwable failure;
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super C> subscriber) {
+
+        final Downstream downstream = new Downstream(Objects.requireNonNull(subscriber));
+
+        subscriber.onSubscribe(downstream);
+
+        final long n;
+
+        synchronized (this) {
+            if (downstream.cancelled) return;
+            subscribers.add(downstream);
+            n = credit();
+        }
+
+        request(n);
+
+        downstream.drain();
+
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+
+        Objects.requireNonNull(subscription);
+
+        final long n;
+
+        synchronized (this) {
+            if (this.subscription != null) n = -1;
+            else {
+                this.subscription = subscription;
+                n = credit();
+            }
+        }
+
+        if (n < 0) subscription.cancel();
+
+        else request(n);
+
+    }
+
+    @Override
+    public void onNext(final E entry) {
+
+        Objects.requireNonNull(entry);
+
+        synchronized (this) {
+            pending--;
+            running++;
+        }
+
+        executor.execute(() -> process(entry));
+
+    }
+
+    private void process(final E entry) {
+
+        final C contract;
+
+        try {
+            contract = plan.apply(entry);
+        } catch (final RuntimeException | Error e) {
+            subscription.cancel();
+            terminate(e);
+            return;
+        }
+
+        final List<Downstream> targets = new ArrayList<>();
+
+        final long n;
+
+        synchronized (this) {
+
+            if (failure != null) return;
+
+            running--;
+
+            for (final Downstream downstream : subscribers) {
+                if (downstream.reserved == 0) continue;
+                downstream.reserved--;
+                downstream.queue.add(contract);
+                targets.add(downstream);
+            }
+
+            if (completed && running == 0) targets.addAll(subscribers);
+
+            n = credit();
+
+        }
+
+        targets.forEach(Downstream::drain);
+
+        request(n);
+
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        terminate(Objects.requireNonNull(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+
+        final List<Downstream> targets;
+
+        synchronized (this) {
+            completed = true;
+            targets = new ArrayList<>(subscribers);
+        }
+
+        targets.forEach(Downstream::drain);
+
+    }
+
+    private void terminate(final Throwable throwable) {
+
+        final List<Downstream> targets;
+
+        synchronized (this) {
+            if (failure != null) return;
+            failure = throwable;
+            targets = new ArrayList<>(subscribers);
+        }
+
+        targets.forEach(Downstream::drain);
+
+    }
+
+    /**
+     * Reserva demanda em todos os assinantes para os próximos itens. Deve ser chamado com o monitor do processador
+     *
+     * @return quantidade de itens a solicitar ao publicador
+     */
+    private long credit() {
+
+        if (subscription == null || completed || failure != null || subscribers.isEmpty()) return 0;
+
+        long n = concurrency - pending - running;
+
+        for (final Downstream downstream : subscribers)
+            n = Math.min(n, Math.min(downstream.demand, buffer - downstream.queue.size() - downstream.reserved));
+
+        if (n <= 0) return 0;
+
+        pending += (int) n;
+
+        for (final Downstream downstream : subscribers) {
+            downstream.demand -= n;
+            downstream.reserved += n;
+        }
+
+        return n;
+
+    }
+
+    private void request(final long n) {
+        if (n > 0) subscription.request(n);
+    }
+
+    /**
+     * @return maior quantidade de contratos aguardando entrega entre os assinantes
+     */
+    public synchronized int lag() {
+        return subscribers.stream().mapToInt(downstream -> downstream.queue.size()).max().orElse(0);
+    }
+
+    /**
+     * Assinatura de um assinante. As entregas são serializadas em uma tarefa do executor por vez
+     */
+    private final class Downstream implements Flow.Subscription {
+
+        private Downstream(final Flow.Subscriber<? super C> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private final Flow.Subscriber<? super C> subscriber;
+
+        private final Queue<C> queue = new ArrayDeque<>();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private long demand;
+
+        private long reserved;
+
+        private boolean cancelled;
+
+        private Throwable error;
+
+        @Override
+        public void request(final long n) {
+
+            final long credit;
+
+            synchronized (ActivityProcessor.this) {
+                if (cancelled) return;
+                if (n <= 0) error = new IllegalArgumentException("Demanda deve ser maior que zero");
+                else demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                credit = credit();
+            }
+
+            if (error != null) drain();
+
+            ActivityProcessor.this.request(credit);
+
+        }
+
+        @Override
+        public void cancel() {
+
+            final long credit;
+
+            synchronized (ActivityProcessor.this) {
+                if (cancelled) return;
+                cancelled = true;
+                queue.clear();
+                subscribers.remove(this);
+                credit = credit();
+            }
+
+            ActivityProcessor.this.request(credit);
+
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) executor.execute(this::deliver);
+        }
+
+        private void deliver() {
+
+            int missed = 1;
+
+            do {
+
+                while (true) {
+
+                    final C contract;
+
+                    final Throwable error;
+
+                    final boolean done;
+
+                    long credit = 0;
+
+                    synchronized (ActivityProcessor.this) {
+                        if (cancelled) return;
+                        contract = this.error == null ? queue.poll() : null;
+                        error = this.error == null ? failure : this.error;
+                        done = contract == null && (error != null || completed && running == 0);
+                        if (done) {
+                            cancelled = true;
+                            subscribers.remove(this);
+                            credit = credit();
+                        }
+                    }
+
+                    if (done) {
+                        ActivityProcessor.this.request(credit);
+                        if (error != null) subscriber.onError(error);
+                        else subscriber.onComplete();
+                        return;
+                    }
+
+                    if (contract == null) break;
+
+                    try {
+                        subscriber.onNext(contract);
+                    } catch (final RuntimeException e) {
+                        cancel();
+                        subscriber.onError(e);
+                        return;
+                    }
+
+                    synchronized (ActivityProcessor.this) {
+                        credit = credit();
+                    }
+
+                    ActivityProcessor.this.request(credit);
+
+                }
+
+                missed = wip.addAndGet(-missed);
+
+            } while (missed != 0);
+
+        }
+
+    }
+
+}
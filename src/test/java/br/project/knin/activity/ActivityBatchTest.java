@@ -0,0 +1,95 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityBatchTest {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    private final List<String> messages = new ArrayList<>();
+
+    private final ActivityPlan<String, Integer> plan = Activity
+            .contract("contract")
+            .<Integer>define()
+            .decision(integer -> integer % 2 == 0)
+            .otherwiseChannel(integer -> "odd-" + integer, messages::add)
+            .channel((BatchChannel<Integer>) batches::add)
+            .action(integer -> integer / 2)
+            .exit(String::valueOf);
+
+    @Test
+    @DisplayName("Lote deve retornar contratos na ordem das entradas")
+    void batchShouldReturnContractsInOrder() {
+
+        final List<Integer> entries = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        final List<String> expected = entries.stream().map(plan).collect(Collectors.toList());
+
+        batches.clear();
+
+        messages.clear();
+
+        Assertions.assertEquals(expected, plan.applyAll(entries));
+
+        Assertions.assertEquals(expected, plan.applyAll(entries.toArray(new Integer[0])));
+
+        Assertions.assertEquals(expected, plan.applyAll(new TreeSet<>(entries)));
+
+    }
+
+    @Test
+    @DisplayName("Canal em lote deve receber todas as mensagens de uma única vez")
+    void batchChannelShouldReceiveOneCommitPerBatch() {
+
+        final List<String> contracts = plan.applyAll(Arrays.asList(1, 2, 3, 4, 6));
+
+        Assertions.assertEquals(List.of("contract", "1", "contract", "2", "3"), contracts);
+
+        Assertions.assertEquals(List.of(List.of(2, 4, 6)), batches);
+
+        Assertions.assertEquals(List.of("odd-1", "odd-3"), messages);
+
+    }
+
+    @Test
+    @DisplayName("Canal em lote deve receber lote unitário fora de uma execução em lote")
+    void batchChannelShouldReceiveSingletonBatchOutsideBatchExecution() {
+
+        plan.apply(2);
+
+        plan.apply(4);
+
+        Assertions.assertEquals(List.of(List.of(2), List.of(4)), batches);
+
+    }
+
+    @Test
+    @DisplayName("Lote vazio não deve encaminhar mensagens")
+    void emptyBatchShouldNotCommit() {
+
+        Assertions.assertTrue(plan.applyAll(Set.of()).isEmpty());
+
+        Assertions.assertTrue(batches.isEmpty());
+
+    }
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseEntryValueIsNull() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> plan.applyAll(Arrays.asList(2, null)));
+
+        Assertions.assertEquals(List.of(List.of(2)), batches);
+
+    }
+
+}
@@ -0,0 +1,287 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityCompileTest {
+
+    private static final List<Integer> ENTRIES = IntStream.rangeClosed(-30, 30).boxed().collect(Collectors.toList());
+
+    private final List<String> log = new ArrayList<>();
+
+    /**
+     * Fluxo aleatório com todos os tipos de passo. As funções dependem apenas dos parâmetros sorteados, de modo que o
+     * mesmo fluxo pode ser executado interpretado e compilado
+     */
+    private ActivityPlan<String, Integer> flow(final Random random) {
+
+        ActivityDefinition<String, Integer, Integer> definition = Activity.contract("contract").define();
+
+        final int size = 1 + random.nextInt(12);
+
+        for (int i = 0; i < size; i++) {
+
+            final int id = i;
+
+            final int a = 2 + random.nextInt(5);
+
+            final int b = random.nextInt(7);
+
+            switch (random.nextInt(12)) {
+
+                case 0:
+                    definition = definition.decision(value -> Math.floorMod(value, a) != b % a);
+                    break;
+
+                case 1:
+                    definition = definition.action(value -> value % (a + 3) == 0 ? null : Math.floorMod(value * a + b, 97));
+                    break;
+
+                case 2:
+                    definition = definition.action((entry, value) -> Math.floorMod(entry * b + value, 89));
+                    break;
+
+                case 3:
+                    definition = definition.otherwise(() -> id % 3 == 0 ? null : "supplier-" + id);
+                    break;
+
+                case 4:
+                    definition = definition.otherwise(entry -> entry % a == 0 ? "function-" + id + "-" + entry : null);
+                    break;
+
+                case 5:
+                    definition = definition.channel(value -> log.add(id + ":" + value));
+                    break;
+
+                case 6:
+                    definition = definition.channel((entry, value) -> value % a == 0 ? null : entry + "/" + value, message -> log.add(id + ":" + message));
+                    break;
+
+                case 7:
+                    definition = definition.otherwiseChannel(entry -> entry % 2 == 0 ? "oc-" + entry : null, message -> log.add(id + ":" + message));
+                    break;
+
+                case 8:
+                    definition = definition.tryAction(value -> {
+                        if (value % a == 0) throw new IllegalArgumentException();
+                        return value + b;
+                    });
+                    break;
+
+                case 9:
+                    definition = definition.decisions(List.of(value -> value != b, value -> Math.floorMod(value, a) != 1));
+                    break;
+
+                case 10:
+                    definition = definition
+                            .route(value -> Math.floorMod(value, 3))
+                            .when(0, branch -> branch.action(value -> value + a))
+                            .when(1, branch -> branch.decision(value -> value > b))
+                            .end();
+                    break;
+
+                default:
+                    definition = definition.action(value -> {
+                        if (value == 17 + b) throw new IllegalStateException("falha-" + id);
+                        return value;
+                    });
+
+            }
+
+        }
+
+        return definition.exit(value -> value % 5 == 0 ? null : "exit-" + value);
+
+    }
+
+    private List<String> run(final Function<Integer, String> plan) {
+
+        log.clear();
+
+        final List<String> results = new ArrayList<>();
+
+        for (final Integer entry : ENTRIES) {
+            try {
+                results.add(plan.apply(entry));
+            } catch (final IllegalStateException e) {
+                results.add("exceção-" + e.getMessage());
+            }
+        }
+
+        results.addAll(log);
+
+        return results;
+
+    }
+
+    @Test
+    @DisplayName("Plano compilado deve produzir os mesmos contratos e commits do plano interpretado")
+    void compiledShouldMatchInterpreted() {
+
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 300; i++) {
+
+            final ActivityPlan<String, Integer> interpreted = flow(random);
+
+            final ActivityPlan<String, Integer> compiled = interpreted.compile();
+
+            final List<String> expected = run(interpreted);
+
+            Assertions.assertEquals(expected, run(compiled), "fluxo " + i);
+
+            Assertions.assertEquals(expected, run(compiled.cursor()::apply), "fluxo " + i);
+
+        }
+
+    }
+
+    @Test
+    @DisplayName("Execução em lote do plano compilado deve manter contratos e commits")
+    void compiledBatchShouldMatchInterpreted() {
+
+        final ActivityPlan<String, Integer> interpreted = Activity
+                .contract("contract")
+                .<Integer>define()
+                .decision(integer -> integer > 0)
+                .action(integer -> integer % 3 == 0 ? null : integer)
+                .otherwiseChannel(entry -> "rejeitado-" + entry, log::add)
+                .channel(integer -> log.add("aceito-" + integer))
+                .exit(String::valueOf);
+
+        final List<String> expected = interpreted.applyAll(ENTRIES);
+
+        final List<String> commits = List.copyOf(log);
+
+        log.clear();
+
+        Assertions.assertEquals(expected, interpreted.compile().applyAll(ENTRIES));
+
+        Assertions.assertEquals(commits, log);
+
+    }
+
+    @Test
+    @DisplayName("Plano compilado deve manter prazo, listener e contagem de exceções")
+    void compiledShouldKeepPlanFeatures() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .tryAction(integer -> 10 / integer)
+                .named("divisão")
+                .otherwise(() -> "zero")
+                .action(integer -> {
+                    try {
+                        Thread.sleep(integer == 5 ? 100 : 0);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return integer;
+                })
+                .action(integer -> integer + 1)
+                .otherwise(() -> "timeout")
+                .exit(String::valueOf);
+
+        final ActivityPlan<String, Integer> compiled = plan.compile();
+
+        Assertions.assertSame(compiled, compiled.compile());
+
+        final ActivityPlan<String, Integer> deadline = compiled.deadline(Duration.ofMillis(20));
+
+        Assertions.assertEquals(List.of("zero", "11", "timeout"), deadline.applyAll(List.of(0, 1, 2)));
+
+        Assertions.assertEquals(1, deadline.timeouts());
+
+        Assertions.assertEquals(List.of("zero", "11"), compiled.listen(new FlightRecorder()).applyAll(List.of(0, 1)));
+
+        Assertions.assertEquals(2L, compiled.failures().get("divisão"));
+
+    }
+
+    @Test
+    @DisplayName("Plano compilado deve informar se executa classes próprias")
+    void compiledShouldBeObservable() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> integer + 1)
+                .exit(String::valueOf);
+
+        Assertions.assertFalse(plan.compiled());
+
+        Assertions.assertTrue(plan.compile().compiled());
+
+        Assertions.assertTrue(plan.compile().deadline(Duration.ofSeconds(1)).compiled());
+
+    }
+
+    @Test
+    @DisplayName("Plano compilado deve percorrer os nós sem crescer a pilha")
+    void compiledShouldNotRecurse() throws Exception {
+
+        ActivityDefinition<String, Integer, Integer> definition = Activity.contract("contract").define();
+
+        for (int i = 0; i < 2_000; i++) definition = definition.action(integer -> integer + 1);
+
+        final ActivityPlan<String, Integer> plan = definition.exit(String::valueOf).compile();
+
+        final CompletableFuture<String> result = new CompletableFuture<>();
+
+        final Thread thread = new Thread(null, () -> {
+            try {
+                result.complete(plan.apply(0));
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, "compiled", 32 * 1024);
+
+        thread.start();
+
+        Assertions.assertEquals("2000", result.get());
+
+    }
+
+    @Test
+    @DisplayName("Planos compilados aninhados na mesma thread devem utilizar cursores próprios")
+    void nestedCompiledPlansShouldNotShareCursor() {
+
+        final ActivityPlan<String, Integer> inner = Activity
+                .contract("inner")
+                .<Integer>define()
+                .decision(integer -> integer > 0)
+                .exit(integer -> "inner-" + integer)
+                .deadline(Duration.ofNanos(1))
+                .compile();
+
+        final ActivityPlan<String, Integer> outer = Activity
+                .contract("outer")
+                .<Integer>define()
+                .action(integer -> integer + 1)
+                .channel(integer -> log.add(inner.apply(integer)))
+                .action(integer -> integer * 10)
+                .exit(integer -> "outer-" + integer)
+                .compile();
+
+        Assertions.assertEquals("inner", inner.apply(5));
+
+        Assertions.assertEquals(List.of("outer-20", "outer-0"), outer.applyAll(List.of(1, -1)));
+
+        Assertions.assertEquals("outer-20", outer.apply(1));
+
+        Assertions.assertEquals(List.of("inner", "inner", "inner"), log);
+
+    }
+
+}
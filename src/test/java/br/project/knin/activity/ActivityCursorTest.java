@@ -0,0 +1,107 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ActivityCursorTest {
+
+    private static final int EXECUTIONS = 100_000;
+
+    private static final String[] ENTRIES = {"activity", "cursor", "a", "plan", "allocation", "no"};
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseEntryValueIsNull() {
+
+        final ActivityCursor<String, String> cursor = Activity
+                .contract("")
+                .<String>define()
+                .exit(String::valueOf)
+                .cursor();
+
+        Assertions.assertThrows(NullPointerException.class, () -> cursor.apply(null));
+
+    }
+
+    @Test
+    @DisplayName("Cursor deve ser reutilizado sem carregar estado da execução anterior")
+    void cursorShouldNotKeepStateOfPreviousExecution() {
+
+        final ActivityCursor<String, String> cursor = Activity
+                .contract("contract")
+                .<String>define()
+                .decision(s -> s.length() > 2)
+                .otherwise(s -> s.isEmpty() ? null : "short")
+                .exit(String::toUpperCase)
+                .cursor();
+
+        Assertions.assertEquals("short", cursor.apply("a"));
+
+        Assertions.assertEquals("CURSOR", cursor.apply("cursor"));
+
+        Assertions.assertEquals("contract", cursor.apply(""));
+
+        Assertions.assertEquals("PLAN", cursor.apply("plan"));
+
+    }
+
+    @Test
+    @DisplayName("Execução por cursor não deve alocar objetos por passo")
+    void cursorShouldNotAllocate() {
+
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+
+        Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final AtomicLong committed = new AtomicLong();
+
+        final ActivityCursor<String, String> cursor = Activity
+                .contract("contract")
+                .<String>define()
+                .decision(s -> s.length() > 1)
+                .otherwiseChannel(s -> s, s -> committed.incrementAndGet())
+                .action(String::trim)
+                .action((entry, value) -> value.length() > 3 ? value : null)
+                .otherwise(() -> "otherwise")
+                .channel(s -> committed.incrementAndGet())
+                .decision(s -> !s.isEmpty())
+                .exit(s -> s)
+                .cursor();
+
+        long checksum = execute(cursor);
+
+        final long thread = Thread.currentThread().getId();
+
+        final long before = threadMXBean.getThreadAllocatedBytes(thread);
+
+        checksum += execute(cursor);
+
+        final long allocated = threadMXBean.getThreadAllocatedBytes(thread) - before;
+
+        Assertions.assertTrue(checksum > 0);
+
+        Assertions.assertTrue(allocated < 1024, () -> "bytes alocados: " + allocated);
+
+    }
+
+    private static long execute(final ActivityCursor<String, String> cursor) {
+
+        long checksum = 0;
+
+        for (int i = 0; i < EXECUTIONS; i++) checksum += cursor.apply(ENTRIES[i % ENTRIES.length]).length();
+
+        return checksum;
+
+    }
+
+}
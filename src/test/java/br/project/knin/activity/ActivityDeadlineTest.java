@@ -0,0 +1,255 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ActivityDeadlineTest {
+
+    private final ExecutorService executor = ActivityExecutors.virtualThreads();
+
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Integer sleep(final Integer value, final long millis) {
+        try {
+            Thread.sleep(millis);
+            return value;
+        } catch (final InterruptedException e) {
+            interrupted.countDown();
+            return null;
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        final ActivityDefinition<String, Integer, Integer> definition = Activity.contract("contract").define();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> definition.deadline(Duration.ofSeconds(1), executor));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> definition.channel(integer -> {
+        }).deadline(Duration.ofSeconds(1), executor));
+
+        final ActivityDefinition<String, Integer, Integer> action = definition.action(integer -> integer);
+
+        Assertions.assertThrows(NullPointerException.class, () -> action.deadline(null, executor));
+
+        Assertions.assertThrows(NullPointerException.class, () -> action.deadline(Duration.ofSeconds(1), null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> action.deadline(Duration.ZERO, executor));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> action.exit(String::valueOf).deadline(Duration.ofMillis(-1)));
+
+    }
+
+    @Test
+    @DisplayName("Passo dentro do prazo deve produzir o mesmo resultado")
+    void stepWithinDeadlineShouldKeepResult() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .decision(integer -> integer > 0)
+                .deadline(Duration.ofSeconds(10), executor)
+                .action(integer -> integer * 2)
+                .deadline(Duration.ofSeconds(10), executor)
+                .exit(String::valueOf);
+
+        Assertions.assertEquals(List.of("4", "contract", "6"), plan.applyAll(List.of(2, -1, 3)));
+
+        Assertions.assertEquals(0, plan.timeouts());
+
+    }
+
+    @Test
+    @DisplayName("Passo que excede o prazo deve ser interrompido e seguir o fluxo de otherwise")
+    void stepOverDeadlineShouldTakeOtherwise() throws InterruptedException {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> sleep(integer, 10_000))
+                .deadline(Duration.ofMillis(50), executor)
+                .otherwise(entry -> "timeout-" + entry)
+                .exit(String::valueOf);
+
+        final long start = System.nanoTime();
+
+        Assertions.assertEquals("timeout-1", plan.apply(1));
+
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(1, plan.timeouts());
+
+    }
+
+    @Test
+    @DisplayName("Exceção lançada dentro do prazo deve ser relançada na thread chamadora")
+    void exceptionWithinDeadlineShouldBeRethrown() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> {
+                    throw new IllegalStateException("falha");
+                })
+                .deadline(Duration.ofSeconds(10), executor)
+                .exit(String::valueOf);
+
+        Assertions.assertEquals("falha", Assertions.assertThrows(IllegalStateException.class, () -> plan.apply(1)).getMessage());
+
+        Assertions.assertEquals(0, plan.timeouts());
+
+    }
+
+    @Test
+    @DisplayName("Fim do prazo do plano deve seguir o fluxo de otherwise channel")
+    void flowOverDeadlineShouldTakeOtherwiseChannel() {
+
+        final AtomicReference<String> channel = new AtomicReference<>();
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> sleep(integer, 100))
+                .action(integer -> integer * 2)
+                .otherwiseChannel(entry -> "timeout-" + entry, channel::set)
+                .exit(String::valueOf);
+
+        Assertions.assertEquals("2", plan.apply(1));
+
+        final ActivityPlan<String, Integer> deadline = plan.deadline(Duration.ofMillis(10));
+
+        Assertions.assertEquals("contract", deadline.apply(1));
+
+        Assertions.assertEquals("timeout-1", channel.get());
+
+        Assertions.assertEquals(1, deadline.timeouts());
+
+        Assertions.assertEquals(1, plan.timeouts());
+
+    }
+
+    @Test
+    @DisplayName("Fim do prazo no meio de uma sequência de ações deve ignorar as ações restantes")
+    void flowOverDeadlineShouldSkipRemainingActionsOfSequence() {
+
+        final AtomicInteger after = new AtomicInteger();
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> integer + 1)
+                .action(integer -> sleep(integer, 100))
+                .action(integer -> {
+                    after.incrementAndGet();
+                    return integer * 2;
+                })
+                .decision(integer -> integer > 0)
+                .otherwise(entry -> "timeout-" + entry)
+                .exit(String::valueOf)
+                .deadline(Duration.ofMillis(20));
+
+        Assertions.assertEquals("timeout-1", plan.apply(1));
+
+        Assertions.assertEquals("timeout-1", plan.compile().apply(1));
+
+        Assertions.assertEquals("timeout-1", plan.listen(new FlightRecorder()).apply(1));
+
+        Assertions.assertEquals(0, after.get());
+
+        Assertions.assertEquals(3, plan.timeouts());
+
+    }
+
+    @Test
+    @DisplayName("Prazo de passo concluído deve ser cancelado")
+    void completedStepShouldCancelItsDeadline() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> integer * 2)
+                .deadline(Duration.ofHours(1), executor)
+                .exit(String::valueOf);
+
+        for (int i = 0; i < 1_000; i++) Assertions.assertEquals(String.valueOf(i * 2), plan.apply(i));
+
+        Assertions.assertTrue(DeadlineStep.scheduled() < 100, () -> DeadlineStep.scheduled() + " prazos agendados");
+
+    }
+
+    @Test
+    @DisplayName("Interrupção de passo abandonado não deve alcançar a tarefa seguinte do executor")
+    void interruptShouldNotLeakToNextTask() throws Exception {
+
+        final ExecutorService single = Executors.newSingleThreadExecutor();
+
+        try {
+
+            final ActivityPlan<String, Integer> plan = Activity
+                    .contract("contract")
+                    .<Integer>define()
+                    .action(integer -> {
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return integer;
+                    })
+                    .deadline(Duration.ofMillis(20), single)
+                    .otherwise(() -> "timeout")
+                    .exit(String::valueOf);
+
+            Assertions.assertEquals("timeout", plan.apply(1));
+
+            Assertions.assertFalse(single.submit(() -> Thread.currentThread().isInterrupted()).get(5, TimeUnit.SECONDS));
+
+        } finally {
+            single.shutdownNow();
+        }
+
+    }
+
+    @Test
+    @DisplayName("Prazo do plano deve limitar o prazo do passo")
+    void flowDeadlineShouldBoundStepDeadline() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> sleep(integer, 10_000))
+                .deadline(Duration.ofSeconds(30), executor)
+                .otherwise(() -> "timeout")
+                .exit(String::valueOf)
+                .deadline(Duration.ofMillis(50));
+
+        final long start = System.nanoTime();
+
+        Assertions.assertEquals(List.of("timeout", "timeout"), plan.applyAll(List.of(1, 2)));
+
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+        Assertions.assertEquals(2, plan.timeouts());
+
+    }
+
+}
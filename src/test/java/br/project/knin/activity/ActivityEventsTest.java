@@ -0,0 +1,173 @@
+package br.project.knin.activity;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class ActivityEventsTest {
+
+    private final AtomicInteger committed = new AtomicInteger();
+
+    private final ActivityPlan<String, Integer> plan = Activity
+            .contract("contract")
+            .<Integer>define()
+            .decision(integer -> integer > 0)
+            .named("positivo")
+            .action(integer -> integer * 2)
+            .named("dobro")
+            .channel(integer -> committed.incrementAndGet())
+            .exit(String::valueOf);
+
+    private static List<RecordedEvent> record(final Runnable runnable) throws IOException {
+
+        final Path file = Files.createTempFile("activity", ".jfr");
+
+        try (final Recording recording = new Recording()) {
+
+            recording.enable(ActivityEvents.FlowEvent.class).withThreshold(Duration.ZERO);
+
+            recording.enable(ActivityEvents.StepEvent.class).withThreshold(Duration.ZERO);
+
+            recording.enable(ActivityEvents.CommitEvent.class).withThreshold(Duration.ZERO);
+
+            recording.start();
+
+            runnable.run();
+
+            recording.stop();
+
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+    }
+
+    private static List<RecordedEvent> named(final List<RecordedEvent> events, final String name) {
+        return events
+                .stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldThrowExceptionBecauseFlowIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> plan.events(null));
+    }
+
+    @Test
+    @DisplayName("Plano com eventos deve produzir os mesmos contratos")
+    void eventsShouldNotChangeResults() {
+
+        final ActivityPlan<String, Integer> events = plan.events("dobro");
+
+        Assertions.assertEquals("4", events.apply(2));
+
+        Assertions.assertEquals("contract", events.apply(-2));
+
+        Assertions.assertEquals(List.of("2", "contract", "6"), events.applyAll(List.of(1, -1, 3)));
+
+        Assertions.assertEquals(3, committed.get());
+
+    }
+
+    @Test
+    @DisplayName("Execução, passos e commits devem ser registrados quando habilitados")
+    void shouldRecordFlowStepsAndCommits() throws IOException {
+
+        final ActivityPlan<String, Integer> events = plan.events("dobro");
+
+        final List<RecordedEvent> recorded = record(() -> {
+            events.apply(2);
+            events.apply(-2);
+        });
+
+        final List<RecordedEvent> flows = named(recorded, "br.project.knin.activity.Flow");
+
+        Assertions.assertEquals(2, flows.size());
+
+        Assertions.assertTrue(flows.stream().allMatch(event -> "dobro".equals(event.getString("flow"))));
+
+        Assertions.assertEquals(List.of(true, false), flows.stream().map(event -> event.getBoolean("completed")).collect(Collectors.toList()));
+
+        final List<RecordedEvent> steps = named(recorded, "br.project.knin.activity.Step");
+
+        Assertions.assertEquals(5, steps.size());
+
+        Assertions.assertEquals(
+                List.of("positivo", "dobro", "channel#2"),
+                steps.subList(0, 3).stream().map(event -> event.getString("step")).collect(Collectors.toList())
+        );
+
+        Assertions.assertEquals(
+                List.of("DECISION", "ACTION", "CHANNEL"),
+                steps.subList(0, 3).stream().map(event -> event.getString("kind")).collect(Collectors.toList())
+        );
+
+        final List<RecordedEvent> commits = named(recorded, "br.project.knin.activity.Commit");
+
+        Assertions.assertEquals(1, commits.size());
+
+        Assertions.assertEquals("dobro", commits.get(0).getString("flow"));
+
+    }
+
+    @Test
+    @DisplayName("Eventos não devem ser registrados abaixo do threshold padrão")
+    void fastExecutionsShouldNotBeRecordedByDefault() throws IOException {
+
+        final ActivityPlan<String, Integer> events = plan.events("dobro");
+
+        final Path file = Files.createTempFile("activity", ".jfr");
+
+        try (final Recording recording = new Recording()) {
+
+            recording.enable(ActivityEvents.StepEvent.class);
+
+            recording.start();
+
+            events.apply(2);
+
+            recording.stop();
+
+            recording.dump(file);
+
+            Assertions.assertTrue(named(RecordingFile.readAllEvents(file), "br.project.knin.activity.Step").isEmpty());
+
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+    }
+
+    @Test
+    @DisplayName("Plano com eventos deve manter o listener")
+    void eventsShouldKeepListener() {
+
+        final FlightRecorder recorder = new FlightRecorder();
+
+        final ActivityPlan<String, Integer> events = plan.listen(recorder).events("dobro");
+
+        events.apply(2);
+
+        plan.events("dobro").listen(recorder).apply(3);
+
+        Assertions.assertEquals(2, recorder.dump().size());
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package br.project.knin.activity;
+
+import br.project.knin.activity.channel.ExecutorChannel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityExecutorsTest {
+
+    @Test
+    @DisplayName("Entradas bloqueantes devem ser executadas concorrentemente, mantendo a ordem dos contratos")
+    void submitAllShouldRunBlockingEntriesConcurrently() throws InterruptedException {
+
+        final int size = 500;
+
+        final CountDownLatch started = new CountDownLatch(size);
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> {
+                    started.countDown();
+                    try {
+                        // cada entrada só termina quando todas estiverem em execução
+                        return started.await(10, TimeUnit.SECONDS) ? integer : null;
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                })
+                .exit(String::valueOf);
+
+        final List<Integer> entries = IntStream.range(0, size).boxed().collect(Collectors.toList());
+
+        final ExecutorService executor = ActivityExecutors.virtualThreads();
+
+        try {
+
+            final List<String> contracts = plan.submitAll(entries, executor).join();
+
+            Assertions.assertEquals(
+                    entries.stream().map(String::valueOf).collect(Collectors.toList()),
+                    contracts
+            );
+
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+    }
+
+    @Test
+    @DisplayName("Exceção de uma entrada deve completar o futuro excepcionalmente")
+    void submitAllShouldCompleteExceptionally() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> {
+                    if (integer == 2) throw new IllegalStateException("falha");
+                    return integer;
+                })
+                .exit(String::valueOf);
+
+        final ExecutorService executor = ActivityExecutors.virtualThreads();
+
+        try {
+
+            final CompletionException exception = Assertions.assertThrows(
+                    CompletionException.class,
+                    () -> plan.submitAll(List.of(1, 2, 3), executor).join()
+            );
+
+            Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+
+            Assertions.assertEquals("3", plan.submit(3, executor).join());
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    @Test
+    @DisplayName("Canal de executor deve encaminhar mensagens fora da thread do fluxo")
+    void executorChannelShouldCommitOutsideCallerThread() throws InterruptedException {
+
+        final ConcurrentLinkedQueue<Thread> threads = new ConcurrentLinkedQueue<>();
+
+        final CountDownLatch committed = new CountDownLatch(3);
+
+        final ExecutorService executor = ActivityExecutors.virtualThreads();
+
+        try {
+
+            final ExecutorChannel<Integer> channel = ExecutorChannel.of(integer -> {
+                if (integer < 0) throw new IllegalArgumentException();
+                threads.add(Thread.currentThread());
+                committed.countDown();
+            }, executor);
+
+            final ActivityPlan<String, Integer> plan = Activity
+                    .contract("contract")
+                    .<Integer>define()
+                    .channel(channel)
+                    .exit(String::valueOf);
+
+            plan.applyAll(List.of(1, 2, -1, 3));
+
+            Assertions.assertTrue(committed.await(10, TimeUnit.SECONDS));
+
+            Assertions.assertFalse(threads.contains(Thread.currentThread()));
+
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+    }
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseArgumentsAreNull() {
+
+        final ActivityPlan<String, Integer> plan = Activity.contract("contract").<Integer>define().exit(String::valueOf);
+
+        Assertions.assertThrows(NullPointerException.class, () -> plan.submit(1, null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> plan.submitAll(List.of(1), null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> ExecutorChannel.of(null, Runnable::run));
+
+        Assertions.assertThrows(NullPointerException.class, () -> ExecutorChannel.of(integer -> {}, null));
+
+    }
+
+}
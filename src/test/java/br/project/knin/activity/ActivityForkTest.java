@@ -0,0 +1,209 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityForkTest {
+
+    private final ExecutorService executor = ActivityExecutors.virtualThreads();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Ramos devem ser executados concorrentemente e combinados pela junção")
+    void branchesShouldRunConcurrently() {
+
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .fork(
+                        (entry, value) -> await(barrier, value * 2),
+                        (entry, value) -> await(barrier, "entry-" + entry),
+                        (integer, string) -> string + ":" + integer,
+                        executor
+                )
+                .exit(value -> value);
+
+        Assertions.assertEquals("entry-3:6", plan.apply(3));
+
+        Assertions.assertEquals("entry-5:10", plan.apply(5));
+
+    }
+
+    @Test
+    @DisplayName("Resultados devem ser entregues à junção na ordem dos ramos")
+    void joinShouldReceiveResultsInBranchOrder() {
+
+        final List<BiFunction<Integer, Integer, Integer>> branches = IntStream
+                .range(0, 8)
+                .mapToObj(index -> (BiFunction<Integer, Integer, Integer>) (entry, value) -> value * 10 + index)
+                .collect(Collectors.toList());
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .fork(branches, results -> results.stream().map(String::valueOf).collect(Collectors.joining(",")), executor)
+                .exit(value -> value);
+
+        Assertions.assertEquals("10,11,12,13,14,15,16,17", plan.apply(1));
+
+    }
+
+    @Test
+    @DisplayName("Ramo nulo deve desviar o fluxo para otherwise sem chamar a junção")
+    void nullBranchShouldBehaveAsNullAction() {
+
+        final AtomicBoolean joined = new AtomicBoolean();
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .fork(
+                        (entry, value) -> value,
+                        (entry, value) -> value % 2 == 0 ? value : null,
+                        (first, second) -> {
+                            joined.set(true);
+                            return first + second;
+                        },
+                        executor
+                )
+                .otherwise(entry -> "otherwise-" + entry)
+                .exit(String::valueOf);
+
+        Assertions.assertEquals("otherwise-3", plan.apply(3));
+
+        Assertions.assertFalse(joined.get());
+
+        Assertions.assertEquals("8", plan.apply(4));
+
+        Assertions.assertTrue(joined.get());
+
+    }
+
+    @Test
+    @DisplayName("Fork não deve ser executado após fim de fluxo")
+    void forkShouldNotRunAfterEndOfFlux() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .decision(integer -> false)
+                .fork(
+                        (entry, value) -> {
+                            throw new IllegalCallerException("Should not be here");
+                        },
+                        (entry, value) -> value,
+                        (first, second) -> second,
+                        executor
+                )
+                .otherwise(() -> "Should not be here")
+                .exit(String::valueOf);
+
+        Assertions.assertEquals("contract", plan.apply(1));
+
+    }
+
+    @Test
+    @DisplayName("Exceção de um ramo deve ser relançada pelo plano")
+    void branchExceptionShouldBeRethrown() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .fork(
+                        (entry, value) -> value,
+                        (entry, value) -> {
+                            throw new IllegalStateException("falha");
+                        },
+                        (first, second) -> first,
+                        executor
+                )
+                .exit(String::valueOf);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> plan.apply(1));
+
+    }
+
+    @Test
+    @DisplayName("Fork em atividade assíncrona não deve bloquear a thread chamadora")
+    void asyncForkShouldNotBlock() {
+
+        final CompletableFuture<Void> release = new CompletableFuture<>();
+
+        final CompletableFuture<String> exit = AsyncActivity
+                .contract("contract")
+                .entry(2)
+                .fork(
+                        (entry, value) -> {
+                            release.join();
+                            return value + 1;
+                        },
+                        (entry, value) -> value * 10,
+                        Integer::sum,
+                        executor
+                )
+                .exit(String::valueOf);
+
+        Assertions.assertFalse(exit.isDone());
+
+        release.complete(null);
+
+        Assertions.assertEquals("23", exit.join());
+
+        final CompletableFuture<String> failed = AsyncActivity
+                .contract("contract")
+                .entry(2)
+                .<Integer, Integer>fork(List.of((entry, value) -> {
+                    throw new IllegalStateException("falha");
+                }), results -> results.get(0), executor)
+                .exit(String::valueOf);
+
+        Assertions.assertTrue(Assertions.assertThrows(CompletionException.class, failed::join).getCause() instanceof IllegalStateException);
+
+    }
+
+    @Test
+    void shouldThrowExceptionsBecauseArgumentsAreInvalid() {
+
+        final ActivityDefinition<String, Integer, Integer> definition = Activity.contract("contract").define();
+
+        final BiFunction<Integer, Integer, Integer> branch = (entry, value) -> value;
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.fork(null, branch, Integer::sum, executor));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.fork(branch, branch, null, executor));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.fork(branch, branch, Integer::sum, null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> definition.fork(List.<BiFunction<Integer, Integer, Integer>>of(), results -> 1, executor));
+
+    }
+
+    private static <T> T await(final CyclicBarrier barrier, final T value) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+            return value;
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
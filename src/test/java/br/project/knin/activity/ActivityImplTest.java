@@ -24,6 +24,32 @@ class ActivityImplTest {
 
     }
 
+    @Test
+    @DisplayName("Argumentos nulos devem ser rejeitados em qualquer estado da atividade, sem proxy")
+    void shouldThrowNullPointerExceptionBecauseArgumentIsNullEvenAfterEndOfFlux() {
+
+        final Activity<Integer, Integer, Integer> active = Activity.contract(1).entry(1);
+
+        final Activity<Integer, Integer, Integer> over = active.decision(integer -> false).action(Function.identity());
+
+        Assertions.assertFalse(active instanceof ActivityProxy);
+
+        for (final Activity<Integer, Integer, Integer> activity : List.of(active, over)) {
+
+            final NullPointerException exception = Assertions.assertThrows(NullPointerException.class, () -> activity.decision(null));
+
+            Assertions.assertEquals(Messages.DECISION, exception.getMessage());
+
+            Assertions.assertThrows(NullPointerException.class, () -> activity.channel(null));
+
+            Assertions.assertThrows(NullPointerException.class, () -> activity.otherwiseChannel(integer -> 1, null));
+
+            Assertions.assertThrows(NullPointerException.class, () -> activity.exit(null));
+
+        }
+
+    }
+
     @Test
     void shouldReturnInitialContractBecausePredicateIsFalse() {
 
@@ -541,4 +567,4 @@ class ActivityImplTest {
                 );
 
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,237 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ActivityListenerTest {
+
+    private static final class Recorder implements ActivityListener {
+
+        private final List<String> steps = new ArrayList<>();
+
+        private final List<Boolean> exits = new ArrayList<>();
+
+        @Override
+        public void onStep(final String name, final StepKind kind, final StepOutcome outcome, final long nanos) {
+            steps.add(name + ":" + kind + ":" + outcome);
+        }
+
+        @Override
+        public void onExit(final boolean completed, final long nanos) {
+            exits.add(completed);
+        }
+
+    }
+
+    private final AtomicLong channel = new AtomicLong();
+
+    private final ActivityPlan<String, Integer> plan = Activity
+            .contract("contract")
+            .<Integer>define()
+            .decision(integer -> integer > 0)
+            .named("positive")
+            .otherwise(integer -> integer < -5 ? null : "otherwise")
+            .action(integer -> integer % 2 == 0 ? integer : null)
+            .channel((entry, integer) -> integer > 10 ? (long) integer : null, channel::set)
+            .exit(String::valueOf);
+
+    @Test
+    @DisplayName("Cada passo executado deve ser notificado com o seu efeito sobre o fluxo")
+    void listenerShouldReceiveStepOutcomes() {
+
+        final Recorder recorder = new Recorder();
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        Assertions.assertEquals("12", listened.apply(12));
+
+        Assertions.assertEquals(
+                List.of("positive:DECISION:PASSED", "otherwise#1:OTHERWISE:SKIPPED", "action#2:ACTION:PASSED", "channel#3:CHANNEL:COMMITTED"),
+                recorder.steps
+        );
+
+        recorder.steps.clear();
+
+        Assertions.assertEquals("4", listened.apply(4));
+
+        Assertions.assertEquals("channel#3:CHANNEL:SKIPPED", recorder.steps.get(3));
+
+        recorder.steps.clear();
+
+        Assertions.assertEquals("contract", listened.apply(3));
+
+        Assertions.assertEquals(
+                List.of("positive:DECISION:PASSED", "otherwise#1:OTHERWISE:SKIPPED", "action#2:ACTION:REJECTED", "channel#3:CHANNEL:SHORT_CIRCUIT"),
+                recorder.steps
+        );
+
+        recorder.steps.clear();
+
+        Assertions.assertEquals("otherwise", listened.apply(-1));
+
+        Assertions.assertEquals(List.of("positive:DECISION:REJECTED", "otherwise#1:OTHERWISE:TAKEN"), recorder.steps);
+
+        recorder.steps.clear();
+
+        Assertions.assertEquals("contract", listened.apply(-7));
+
+        Assertions.assertEquals(
+                List.of("positive:DECISION:REJECTED", "otherwise#1:OTHERWISE:REJECTED", "action#2:ACTION:SHORT_CIRCUIT"),
+                recorder.steps
+        );
+
+        Assertions.assertEquals(List.of(true, true, false, false, false), recorder.exits);
+
+    }
+
+    @Test
+    @DisplayName("Roteamento cujo ramo encaminha uma mensagem deve ser notificado como COMMITTED")
+    void routeWithCommittingBranchShouldBeNotifiedAsCommitted() {
+
+        final Recorder recorder = new Recorder();
+
+        final ActivityPlan<String, Integer> routed = Activity
+                .contract("contract")
+                .<Integer>define()
+                .route(integer -> integer % 2)
+                .when(0, branch -> branch.channel(integer -> channel.set(integer)))
+                .when(1, branch -> branch.action(integer -> integer + 1))
+                .end()
+                .named("route")
+                .exit(String::valueOf)
+                .listen(recorder);
+
+        Assertions.assertEquals("4", routed.apply(4));
+
+        Assertions.assertEquals("4", routed.apply(3));
+
+        Assertions.assertEquals(4, channel.get());
+
+        Assertions.assertEquals(List.of("route:ROUTE:COMMITTED", "route:ROUTE:PASSED"), recorder.steps);
+
+    }
+
+    @Test
+    @DisplayName("Plano original não deve ser instrumentado")
+    void originalPlanShouldNotBeListened() {
+
+        final Recorder recorder = new Recorder();
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        plan.apply(12);
+
+        plan.cursor().apply(12);
+
+        Assertions.assertTrue(recorder.steps.isEmpty());
+
+        listened.applyAll(List.of(12, 4));
+
+        listened.cursor().apply(12);
+
+        Assertions.assertEquals(3, recorder.exits.size());
+
+        final Recorder other = new Recorder();
+
+        listened.listen(other).apply(12);
+
+        Assertions.assertEquals(3, recorder.exits.size());
+
+        Assertions.assertEquals(4, other.steps.size());
+
+    }
+
+    @Test
+    @DisplayName("Exceção de um passo deve ser notificada como FAILED e relançada")
+    void failedStepShouldBeNotified() {
+
+        final Recorder recorder = new Recorder();
+
+        final ActivityPlan<String, Integer> listened = Activity
+                .contract("contract")
+                .<Integer>define()
+                .<Integer>action(integer -> {
+                    throw new IllegalStateException("falha");
+                })
+                .exit(String::valueOf)
+                .listen(recorder);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> listened.apply(1));
+
+        Assertions.assertEquals(List.of("action#0:ACTION:FAILED"), recorder.steps);
+
+        Assertions.assertTrue(recorder.exits.isEmpty());
+
+    }
+
+    @Test
+    @DisplayName("ActivityMetrics deve acumular contagens e latências por passo")
+    void metricsShouldAggregateByStep() {
+
+        final ActivityMetrics metrics = new ActivityMetrics();
+
+        final ActivityPlan<String, Integer> listened = plan.listen(metrics);
+
+        for (int i = -10; i < 30; i++) listened.apply(i);
+
+        Assertions.assertEquals(40, metrics.flows());
+
+        Assertions.assertEquals(14, metrics.completed());
+
+        final ActivityMetrics.StepMetrics positive = metrics.step("positive");
+
+        Assertions.assertEquals(StepKind.DECISION, positive.kind());
+
+        Assertions.assertEquals(40, positive.count());
+
+        Assertions.assertEquals(29, positive.count(StepOutcome.PASSED));
+
+        Assertions.assertEquals(11, positive.count(StepOutcome.REJECTED));
+
+        Assertions.assertEquals(29.0 / 40, positive.ratio(StepOutcome.PASSED));
+
+        final ActivityMetrics.StepMetrics otherwise = metrics.step("otherwise#1");
+
+        Assertions.assertEquals(29, otherwise.count(StepOutcome.SKIPPED));
+
+        Assertions.assertEquals(6, otherwise.count(StepOutcome.TAKEN));
+
+        Assertions.assertEquals(5, otherwise.count(StepOutcome.REJECTED));
+
+        Assertions.assertEquals(5, metrics.step("action#2").count(StepOutcome.SHORT_CIRCUIT));
+
+        Assertions.assertEquals(9, metrics.step("channel#3").count(StepOutcome.COMMITTED));
+
+        Assertions.assertEquals(28, channel.get());
+
+        Assertions.assertEquals(4, metrics.steps().size());
+
+        Assertions.assertEquals(40, positive.latency().count());
+
+        Assertions.assertTrue(positive.latency().percentile(0.5) <= positive.latency().percentile(0.99));
+
+        Assertions.assertEquals(0, new ActivityMetrics().latency().percentile(0.99));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> positive.latency().percentile(2));
+
+    }
+
+    @Test
+    void shouldThrowExceptionsBecauseArgumentsAreInvalid() {
+
+        final ActivityDefinition<String, Integer, Integer> definition = Activity.contract("contract").define();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> definition.named("empty"));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.decision(integer -> true).named(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> plan.listen(null));
+
+    }
+
+}
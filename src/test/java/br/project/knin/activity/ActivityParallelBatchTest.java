@@ -0,0 +1,197 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityParallelBatchTest {
+
+    private static final int SIZE = 10_000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final List<Integer> entries = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ActivityPlan<String, Integer> plan(final Channel<? super Integer> channel) {
+        return Activity
+                .contract("odd")
+                .<Integer>define()
+                .decision(integer -> integer % 2 == 0)
+                .channel(channel)
+                .action(integer -> integer * 3)
+                .exit(String::valueOf);
+    }
+
+    @Test
+    @DisplayName("Lote paralelo deve retornar contratos na ordem das entradas")
+    void parallelBatchShouldReturnContractsInOrder() {
+
+        final ActivityPlan<String, Integer> plan = plan(integer -> {
+        });
+
+        final List<String> expected = plan.applyAll(entries);
+
+        Assertions.assertEquals(expected, plan.applyAllParallel(entries));
+
+        Assertions.assertEquals(expected, plan.applyAllParallel(entries, executor, CommitOrder.UNORDERED));
+
+    }
+
+    @Test
+    @DisplayName("Mensagens devem ser encaminhadas na ordem das entradas pela thread chamadora")
+    void orderedCommitsShouldFollowEntries() {
+
+        final List<Integer> committed = new ArrayList<>();
+
+        final Thread caller = Thread.currentThread();
+
+        final ActivityPlan<String, Integer> plan = plan(integer -> {
+            Assertions.assertSame(caller, Thread.currentThread());
+            committed.add(integer);
+        });
+
+        plan.applyAllParallel(entries, executor, CommitOrder.ORDERED);
+
+        Assertions.assertEquals(entries.stream().filter(integer -> integer % 2 == 0).collect(Collectors.toList()), committed);
+
+    }
+
+    @Test
+    @DisplayName("Canal em lote deve receber uma única chamada com mensagens ordenadas")
+    void orderedBatchChannelShouldReceiveOneCommit() {
+
+        final List<List<Integer>> batches = new ArrayList<>();
+
+        plan((BatchChannel<Integer>) batches::add).applyAllParallel(entries, executor, CommitOrder.ORDERED);
+
+        Assertions.assertEquals(1, batches.size());
+
+        Assertions.assertEquals(entries.stream().filter(integer -> integer % 2 == 0).collect(Collectors.toList()), batches.get(0));
+
+    }
+
+    @Test
+    @DisplayName("Mensagens fora de ordem devem ser todas encaminhadas")
+    void unorderedCommitsShouldBeComplete() {
+
+        final Queue<Integer> committed = new ConcurrentLinkedQueue<>();
+
+        plan(committed::add).applyAllParallel(entries, executor, CommitOrder.UNORDERED);
+
+        Assertions.assertEquals(SIZE / 2, committed.size());
+
+        Assertions.assertEquals
+                (
+                        entries.stream().filter(integer -> integer % 2 == 0).collect(Collectors.toSet()),
+                        committed.stream().collect(Collectors.toSet())
+                );
+
+    }
+
+    @Test
+    @DisplayName("Falha deve ser relançada e apenas mensagens anteriores à falha devem ser encaminhadas")
+    void failureShouldBeRethrownAndCommitsBeforeFailureKept() {
+
+        final List<Integer> committed = new ArrayList<>();
+
+        final ActivityPlan<Integer, Integer> plan = Activity
+                .contract(0)
+                .<Integer>define()
+                .channel(committed::add)
+                .action(integer -> {
+                    if (integer == SIZE / 2) throw new IllegalStateException("falha");
+                    return integer;
+                })
+                .exit(integer -> integer);
+
+        final IllegalStateException exception = Assertions.assertThrows
+                (
+                        IllegalStateException.class,
+                        () -> plan.applyAllParallel(entries, executor, CommitOrder.ORDERED)
+                );
+
+        Assertions.assertEquals("falha", exception.getMessage());
+
+        Assertions.assertEquals(entries.subList(0, SIZE / 2 + 1), committed);
+
+    }
+
+    @Test
+    void emptyBatchShouldReturnEmptyList() {
+        Assertions.assertTrue(plan(integer -> {
+        }).applyAllParallel(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Erro no primeiro bloco deve ser relançado apenas após o fim dos demais blocos")
+    void errorShouldBeRethrownAfterEveryChunk() throws InterruptedException {
+
+        final Queue<Integer> commits = new ConcurrentLinkedQueue<>();
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> {
+                    if (integer == 0) throw new AssertionError("falha");
+                    sleep();
+                    return integer;
+                })
+                .channel(commits::add)
+                .exit(String::valueOf);
+
+        final List<Integer> slow = IntStream.range(0, 64).boxed().collect(Collectors.toList());
+
+        Assertions.assertThrows(AssertionError.class, () -> plan.applyAllParallel(slow, executor, CommitOrder.UNORDERED));
+
+        final int committed = commits.size();
+
+        Thread.sleep(50);
+
+        Assertions.assertEquals(committed, commits.size());
+
+    }
+
+    @Test
+    @DisplayName("Exceção verificada de um bloco deve ser relançada sem envoltório")
+    void checkedExceptionShouldBeRethrownUnwrapped() {
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> integer == SIZE - 1 ? ActivityParallelBatchTest.<Integer, RuntimeException>sneaky(new IOException("falha")) : integer)
+                .exit(String::valueOf);
+
+        Assertions.assertThrows(IOException.class, () -> plan.applyAllParallel(entries, executor, CommitOrder.UNORDERED));
+
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(2);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <W, T extends Throwable> W sneaky(final Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+
+}
@@ -0,0 +1,166 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityPlanTest {
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseEntryValueIsNull() {
+
+        final ActivityPlan<Integer, Integer> plan = Activity
+                .contract(0)
+                .<Integer>define()
+                .exit(Function.identity());
+
+        Assertions.assertThrows(NullPointerException.class, () -> plan.apply(null));
+
+    }
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseArgumentsAreNull() {
+
+        final ActivityDefinition<Integer, String, String> definition = Activity.contract(0).define();
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.decision(null));
+        Assertions.assertThrows(NullPointerException.class, () -> definition.action((Function<String, Integer>) null));
+        Assertions.assertThrows(NullPointerException.class, () -> definition.channel(null));
+        Assertions.assertThrows(NullPointerException.class, () -> definition.channel((s, s2) -> 1, null));
+        Assertions.assertThrows(NullPointerException.class, () -> definition.otherwiseChannel(Integer::parseInt, null));
+        Assertions.assertThrows(NullPointerException.class, () -> definition.exit(null));
+
+    }
+
+    @Test
+    @DisplayName("Plano deve produzir o mesmo resultado que a atividade para qualquer entrada")
+    void planShouldMatchActivityForEveryEntry() {
+
+        final AtomicLong planChannel = new AtomicLong(-1);
+
+        final AtomicLong activityChannel = new AtomicLong(-1);
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .decision(integer -> integer % 3 != 0)
+                .otherwiseChannel(String::valueOf, s -> planChannel.set(Long.parseLong(s)))
+                .action(integer -> integer % 5 == 0 ? null : integer * 2)
+                .otherwise(integer -> "otherwise-" + integer)
+                .channel((integer, value) -> (long) integer + value, planChannel::set)
+                .exit(String::valueOf);
+
+        for (int entry = 0; entry < 30; entry++) {
+
+            final String expected = Activity
+                    .contract("contract")
+                    .entry(entry)
+                    .decision(integer -> integer % 3 != 0)
+                    .otherwiseChannel(String::valueOf, s -> activityChannel.set(Long.parseLong(s)))
+                    .action(integer -> integer % 5 == 0 ? null : integer * 2)
+                    .otherwise(integer -> "otherwise-" + integer)
+                    .channel((integer, value) -> (long) integer + value, activityChannel::set)
+                    .exit(String::valueOf);
+
+            Assertions.assertEquals(expected, plan.apply(entry));
+
+            Assertions.assertEquals(activityChannel.get(), planChannel.get());
+
+        }
+
+    }
+
+    @Test
+    @DisplayName("Decisão falsa seguida de ação encerra o fluxo e otherwise não deve ser executado")
+    void otherwiseShouldNotBeCalledAfterActionOnFailedDecision() {
+
+        final ActivityPlan<Integer, Integer> plan = Activity
+                .contract(0)
+                .<Integer>define()
+                .decision(integer -> integer > 10)
+                .action(integer -> integer * 2)
+                .otherwise(() -> {
+                    throw new IllegalCallerException("Should not be here");
+                })
+                .exit(Function.identity());
+
+        Assertions.assertEquals(0, plan.apply(1));
+
+        Assertions.assertEquals(40, plan.apply(20));
+
+    }
+
+    @Test
+    @DisplayName("Definição parcial pode ser reutilizada como prefixo de outras definições")
+    void partialDefinitionShouldBeReusable() {
+
+        final ActivityDefinition<String, Integer, Integer> prefix = Activity
+                .contract("0")
+                .<Integer>define()
+                .action(integer -> integer + 1);
+
+        final ActivityPlan<String, Integer> twice = prefix.action(integer -> integer * 2).exit(String::valueOf);
+
+        final ActivityPlan<String, Integer> identity = prefix.exit(String::valueOf);
+
+        Assertions.assertEquals("4", twice.apply(1));
+
+        Assertions.assertEquals("2", identity.apply(1));
+
+    }
+
+    @Test
+    @DisplayName("Plano deve ser compartilhado entre threads")
+    void planShouldBeSharedBetweenThreads() {
+
+        final AtomicInteger commits = new AtomicInteger();
+
+        final ActivityPlan<Integer, Integer> plan = Activity
+                .contract(-1)
+                .<Integer>define()
+                .decision(integer -> integer % 2 == 0)
+                .channel(integer -> commits.incrementAndGet())
+                .action(integer -> integer / 2)
+                .exit(Function.identity());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            for (int entry = 0; entry < 1_000; entry++) {
+                final int value = entry;
+                futures.add(CompletableFuture.supplyAsync(() -> plan.apply(value), executor));
+            }
+
+            final List<Integer> results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+            final List<Integer> expected = IntStream
+                    .range(0, 1_000)
+                    .map(integer -> integer % 2 == 0 ? integer / 2 : -1)
+                    .boxed()
+                    .collect(Collectors.toList());
+
+            Assertions.assertEquals(expected, results);
+
+            Assertions.assertEquals(500, commits.get());
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package br.project.knin.activity;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ActivityProxy valida os argumentos e decora cada atividade produzida pela atividade decorada, de modo que toda
+ * a cadeia passa pela validação. Era o desenho de {@link ActivityImpl} antes da validação ser feita diretamente
+ * em cada operação.
+ *
+ * @param <C> type Generic to type of contract
+ * @param <E> type Generic to entry value
+ * @param <V> type Generic to value
+ * @author Jefferson Lisboa (lisboa.jeff@gmail.com)
+ */
+final class ActivityProxy<C, E, V> implements Activity<C, E, V> {
+
+    ActivityProxy(final Activity<C, E, V> activity) {
+        this.activity = activity;
+    }
+
+    private final Activity<C, E, V> activity;
+
+    @Override
+    public Activity<C, E, V> decision(final Predicate<? super V> predicate) {
+        Objects.requireNonNull(predicate, Messages.DECISION);
+        return new ActivityProxy<>(activity.decision(predicate));
+    }
+
+    @Override
+    public <W> Activity<C, E, W> action(final Function<? super V, ? extends W> function) {
+        Objects.requireNonNull(function, Messages.ACTION);
+        return new ActivityProxy<>(activity.action(function));
+    }
+
+    @Override
+    public <W> Activity<C, E, W> action(final BiFunction<? super E, ? super V, ? extends W> function) {
+        Objects.requireNonNull(function, Messages.ACTION_Z);
+        return new ActivityProxy<>(activity.action(function));
+    }
+
+    @Override
+    public Activity<C, E, V> otherwise(final Supplier<? extends C> supplier) {
+        Objects.requireNonNull(supplier, Messages.OTHERWISE_SUPPLIER);
+        return new ActivityProxy<>(activity.otherwise(supplier));
+    }
+
+    @Override
+    public Activity<C, E, V> otherwise(final Function<? super E, ? extends C> function) {
+        Objects.requireNonNull(function, Messages.OTHERWISE_FUNCTION);
+        return new ActivityProxy<>(activity.otherwise(function));
+    }
+
+    @Override
+    public Activity<C, E, V> channel(final Channel<? super V> channel) {
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+        return new ActivityProxy<>(activity.channel(channel));
+    }
+
+    @Override
+    public <W> Activity<C, E, V> channel(final BiFunction<? super E, ? super V, ? extends W> function, final Channel<? super W> channel) {
+        Objects.requireNonNull(function, Messages.CHANNEL_FUNCTION);
+        Objects.requireNonNull(channel, Messages.CHANNEL);
+        return new ActivityProxy<>(activity.channel(function, channel));
+    }
+
+    @Override
+    public Activity<C, E, V> otherwiseChannel(final Function<? super E, ? extends C> function, final Channel<? super C> channel) {
+        Objects.requireNonNull(function, Messages.OTHERWISE_CHANNEL_FUNCTION);
+        Objects.requireNonNull(channel, Messages.OTHERWISE_CHANNEL);
+        return new ActivityProxy<>(activity.otherwiseChannel(function, channel));
+    }
+
+    @Override
+    public C exit(final Function<? super V, ? extends C> function) {
+        Objects.requireNonNull(function, Messages.EXIT);
+        return activity.exit(function);
+    }
+
+}
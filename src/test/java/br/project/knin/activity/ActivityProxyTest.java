@@ -9,7 +9,7 @@ import java.util.function.Supplier;
 
 public class ActivityProxyTest {
 
-    private static final Activity<Integer, String, String> ACTIVITY_PROXY = new ActivityImpl.ActivityProxy<>(null);
+    private static final Activity<Integer, String, String> ACTIVITY_PROXY = new ActivityProxy<>(null);
 
     @Test
     void decision() {
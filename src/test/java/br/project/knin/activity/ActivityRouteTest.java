@@ -0,0 +1,223 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ActivityRouteTest {
+
+    @Test
+    @DisplayName("Chave enum deve escolher o ramo e continuar o fluxo principal")
+    void enumKeyShouldChooseBranch() {
+
+        final List<String> channel = new ArrayList<>();
+
+        final ActivityPlan<String, DayOfWeek> plan = Activity
+                .contract("contract")
+                .<DayOfWeek>define()
+                .route(day -> day)
+                .when(DayOfWeek.SATURDAY, branch -> branch.action(day -> "weekend"))
+                .when(DayOfWeek.SUNDAY, branch -> branch.action(day -> "weekend").channel(channel::add))
+                .when(DayOfWeek.MONDAY, branch -> branch.decision(day -> false).action(day -> "never"))
+                .byDefault(branch -> branch.action(day -> "weekday"))
+                .end()
+                .action(value -> value.toUpperCase())
+                .exit(value -> value);
+
+        Assertions.assertEquals("WEEKEND", plan.apply(DayOfWeek.SATURDAY));
+
+        Assertions.assertEquals("WEEKEND", plan.apply(DayOfWeek.SUNDAY));
+
+        Assertions.assertEquals("WEEKDAY", plan.apply(DayOfWeek.FRIDAY));
+
+        Assertions.assertEquals("contract", plan.apply(DayOfWeek.MONDAY));
+
+        Assertions.assertEquals(List.of("weekend"), channel);
+
+    }
+
+    @Test
+    @DisplayName("Chave sem ramo e sem ramo padrão deve seguir para otherwise")
+    void missingBranchShouldBehaveAsRejectedDecision() {
+
+        final ActivityPlan<String, String> plan = Activity
+                .contract("contract")
+                .<String>define()
+                .route(String::length)
+                .when(1, branch -> branch.action(value -> "one"))
+                .when(3, branch -> branch.action(value -> "three"))
+                .end()
+                .otherwise(entry -> "otherwise-" + entry)
+                .exit(value -> value);
+
+        Assertions.assertEquals("one", plan.apply("a"));
+
+        Assertions.assertEquals("three", plan.apply("abc"));
+
+        Assertions.assertEquals("otherwise-ab", plan.apply("ab"));
+
+        Assertions.assertEquals("otherwise-", plan.apply(""));
+
+    }
+
+    @Test
+    @DisplayName("Classificador nulo ou chave de outro tipo deve seguir o ramo padrão")
+    void nullKeyShouldUseDefaultBranch() {
+
+        final ActivityPlan<String, String> plan = Activity
+                .contract("contract")
+                .<String>define()
+                .route(value -> value.isEmpty() ? null : (Object) value)
+                .when("a", branch -> branch.action(value -> "A"))
+                .when(1, branch -> branch.action(value -> "1"))
+                .byDefault(branch -> branch)
+                .end()
+                .exit(value -> value);
+
+        Assertions.assertEquals("A", plan.apply("a"));
+
+        Assertions.assertEquals("b", plan.apply("b"));
+
+        Assertions.assertEquals("", plan.apply(""));
+
+    }
+
+    @Test
+    @DisplayName("Roteamento deve produzir o mesmo resultado da cadeia de decisões equivalente")
+    void routeShouldMatchChainedDecisions() {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        ActivityRoute<String, Integer, Integer, Integer, String> route = Activity
+                .contract("contract")
+                .<Integer>define()
+                .route((Integer integer) -> {
+                    calls.incrementAndGet();
+                    return integer % 40;
+                })
+                .when(0, branch -> branch.action(integer -> "branch-0"));
+
+        for (int key = 1; key < 40; key += 2) {
+            final int branchKey = key;
+            route = route.when(key, branch -> branch.decision(integer -> integer > 100).action(integer -> "branch-" + branchKey));
+        }
+
+        final ActivityPlan<String, Integer> plan = route.end().otherwise(() -> "otherwise").exit(value -> value);
+
+        for (int entry = 0; entry < 400; entry++) {
+
+            final int key = entry % 40;
+
+            final Activity<String, Integer, Integer> activity = Activity.contract("contract").entry(entry);
+
+            final String expected;
+
+            if (key == 0) expected = activity.action(integer -> "branch-0").exit(value -> value);
+
+            else if (key % 2 == 1) expected = activity.decision(integer -> integer > 100).action(integer -> "branch-" + key).otherwise(() -> "otherwise").exit(value -> value);
+
+            else expected = activity.decision(integer -> false).otherwise(() -> "otherwise").exit(String::valueOf);
+
+            Assertions.assertEquals(expected, plan.apply(entry));
+
+        }
+
+        Assertions.assertEquals(400, calls.get());
+
+    }
+
+    @Test
+    @DisplayName("Tabela deve ser escolhida pelo tipo das chaves")
+    void tableShouldBeChosenByKeys() {
+
+        final Step[] steps = new Step[0];
+
+        final Map<Object, Step[]> enums = new LinkedHashMap<>();
+
+        enums.put(DayOfWeek.MONDAY, steps);
+
+        Assertions.assertTrue(RouteStep.Table.of(enums) instanceof RouteStep.Ordinal);
+
+        Assertions.assertNull(RouteStep.Table.of(enums).get(java.time.Month.JANUARY));
+
+        final Map<Object, Step[]> dense = new LinkedHashMap<>();
+
+        for (int i = -10; i < 30; i++) dense.put(i, steps);
+
+        Assertions.assertTrue(RouteStep.Table.of(dense) instanceof RouteStep.Dense);
+
+        Assertions.assertSame(steps, RouteStep.Table.of(dense).get(-10));
+
+        Assertions.assertNull(RouteStep.Table.of(dense).get(30));
+
+        final Map<Object, Step[]> sparse = new LinkedHashMap<>();
+
+        sparse.put(1, steps);
+
+        sparse.put(1_000_000, steps);
+
+        Assertions.assertTrue(RouteStep.Table.of(sparse) instanceof RouteStep.Hashed);
+
+        Assertions.assertTrue(RouteStep.Table.of(Map.of("a", steps)) instanceof RouteStep.Hashed);
+
+    }
+
+    @Test
+    @DisplayName("Roteamento parcial deve ser reaproveitado como prefixo sem ser alterado")
+    void routePrefixShouldBeReusable() {
+
+        final ActivityRoute<String, String, String, Integer, String> prefix = Activity
+                .contract("contract")
+                .<String>define()
+                .route(String::length)
+                .when(1, branch -> branch.action(value -> "one"));
+
+        final ActivityPlan<String, String> two = prefix
+                .when(2, branch -> branch.action(value -> "two"))
+                .end()
+                .exit(value -> value);
+
+        final ActivityPlan<String, String> other = prefix
+                .when(2, branch -> branch.action(value -> "dois"))
+                .byDefault(branch -> branch.action(value -> "default"))
+                .end()
+                .exit(value -> value);
+
+        final ActivityPlan<String, String> single = prefix.end().exit(value -> value);
+
+        Assertions.assertEquals(List.of("one", "two", "contract"), two.applyAll(List.of("a", "bb", "ccc")));
+
+        Assertions.assertEquals(List.of("one", "dois", "default"), other.applyAll(List.of("a", "bb", "ccc")));
+
+        Assertions.assertEquals(List.of("one", "contract", "contract"), single.applyAll(List.of("a", "bb", "ccc")));
+
+    }
+
+    @Test
+    void shouldThrowExceptionsBecauseArgumentsAreInvalid() {
+
+        final ActivityDefinition<String, Integer, Integer> definition = Activity.contract("contract").define();
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.route(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.route(integer -> integer).when(null, branch -> branch));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.route(integer -> integer).when(1, null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.route(integer -> integer).when(1, branch -> null));
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> definition.route(integer -> integer).when(1, branch -> branch).when(1, branch -> branch)
+        );
+
+    }
+
+}
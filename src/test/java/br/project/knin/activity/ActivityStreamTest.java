@@ -0,0 +1,127 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ActivityStreamTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final ActivityPlan<String, Integer> plan = Activity
+            .contract("odd")
+            .<Integer>define()
+            .action(integer -> {
+                calls.incrementAndGet();
+                return integer;
+            })
+            .decision(integer -> integer % 2 == 0)
+            .exit(integer -> "even-" + integer);
+
+    @Test
+    @DisplayName("Entradas devem ser executadas apenas quando consumidas")
+    void streamShouldBeLazy() {
+
+        final Stream<String> stream = plan.stream(IntStream.range(0, 1_000).boxed());
+
+        Assertions.assertEquals(0, calls.get());
+
+        Assertions.assertEquals(List.of("even-0", "odd", "even-2"), stream.limit(3).collect(Collectors.toList()));
+
+        Assertions.assertEquals(3, calls.get());
+
+    }
+
+    @Test
+    @DisplayName("Stream paralelo deve produzir os contratos na ordem das entradas")
+    void parallelStreamShouldPreserveOrder() {
+
+        final List<Integer> entries = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        final List<String> expected = entries.stream().map(plan).collect(Collectors.toList());
+
+        final Stream<String> parallel = plan.stream(entries.parallelStream());
+
+        Assertions.assertTrue(parallel.isParallel());
+
+        Assertions.assertEquals(expected, parallel.collect(Collectors.toList()));
+
+    }
+
+    @Test
+    @DisplayName("Características da origem devem ser preservadas, exceto DISTINCT e SORTED")
+    void spliteratorShouldReportCharacteristics() {
+
+        final Spliterator<String> list = plan.spliterator(List.of(1, 2, 3).spliterator());
+
+        Assertions.assertTrue(list.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL));
+
+        Assertions.assertEquals(3, list.getExactSizeIfKnown());
+
+        final Spliterator<String> sorted = plan.spliterator(new TreeSet<>(List.of(3, 1, 2)).spliterator());
+
+        Assertions.assertFalse(sorted.hasCharacteristics(Spliterator.SORTED));
+
+        Assertions.assertFalse(sorted.hasCharacteristics(Spliterator.DISTINCT));
+
+        Assertions.assertTrue(sorted.hasCharacteristics(Spliterator.ORDERED));
+
+        Assertions.assertEquals(0, calls.get());
+
+        final Spliterator<String> split = plan.spliterator(IntStream.range(0, 100).boxed().collect(Collectors.toList()).spliterator());
+
+        final Spliterator<String> prefix = split.trySplit();
+
+        Assertions.assertNotNull(prefix);
+
+        Assertions.assertEquals(100, prefix.estimateSize() + split.estimateSize());
+
+    }
+
+    @Test
+    @DisplayName("Coletor deve entregar os contratos ao coletor de destino")
+    void collectorShouldFeedDownstream() {
+
+        final Map<String, Long> counts = IntStream
+                .range(0, 1_000)
+                .boxed()
+                .parallel()
+                .collect(plan.collector(Collectors.groupingBy(contract -> contract.startsWith("even") ? "even" : contract, Collectors.counting())));
+
+        Assertions.assertEquals(Map.of("even", 500L, "odd", 500L), counts);
+
+        Assertions.assertEquals(
+                "even-0,odd,even-2",
+                Stream.of(0, 1, 2).collect(plan.collector(Collectors.joining(",")))
+        );
+
+        Assertions.assertFalse(plan.collector(Collectors.toConcurrentMap(c -> c, c -> 1, Integer::sum)).characteristics().contains(Collector.Characteristics.CONCURRENT));
+
+    }
+
+    @Test
+    @DisplayName("Fechar o stream deve fechar a origem")
+    void closeShouldPropagate() {
+
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        try (final Stream<String> stream = plan.stream(Stream.of(1).onClose(() -> closed.set(true)))) {
+            Assertions.assertEquals(List.of("odd"), stream.collect(Collectors.toList()));
+        }
+
+        Assertions.assertTrue(closed.get());
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+class ActivityTryActionTest {
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        final ActivityDefinition<String, String, String> definition = Activity.contract("contract").define();
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.tryAction((Function<String, String>) null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.tryAction((BiFunction<String, String, String>) null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.tryAction((String string) -> Integer.parseInt(string), null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> definition.tryAction((entry, value) -> value, null));
+
+    }
+
+    @Test
+    @DisplayName("Exceção capturada deve seguir o fluxo de otherwise com a entrada")
+    void caughtExceptionShouldTakeOtherwise() {
+
+        final ActivityPlan<String, String> plan = Activity
+                .contract("contract")
+                .<String>define()
+                .decision(string -> !string.isEmpty())
+                .tryAction((String string) -> Integer.parseInt(string))
+                .named("parse")
+                .otherwise(entry -> "inválido-" + entry)
+                .action(integer -> integer * 2)
+                .exit(String::valueOf);
+
+        Assertions.assertEquals(List.of("4", "inválido-a", "contract", "inválido-b"), plan.applyAll(List.of("2", "a", "", "b")));
+
+        Assertions.assertEquals(Map.of("parse", 2L), plan.failures());
+
+    }
+
+    @Test
+    @DisplayName("Apenas exceções do tipo informado devem ser capturadas")
+    void onlyGivenTypeShouldBeCaught() {
+
+        final ActivityPlan<String, String> plan = Activity
+                .contract("contract")
+                .<String>define()
+                .tryAction(string -> {
+                    if (string.equals("estado")) throw new IllegalStateException(string);
+                    return Integer.parseInt(string);
+                }, NumberFormatException.class)
+                .exit(String::valueOf);
+
+        Assertions.assertEquals("contract", plan.apply("a"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> plan.apply("estado"));
+
+        Assertions.assertEquals(List.of(1L), List.copyOf(plan.failures().values()));
+
+    }
+
+    @Test
+    @DisplayName("Rejeição deve seguir o fluxo de otherwise channel sem pilha de chamadas")
+    void rejectionShouldTakeOtherwiseChannel() {
+
+        final AtomicReference<String> channel = new AtomicReference<>();
+
+        final AtomicReference<ActivityRejection> rejection = new AtomicReference<>();
+
+        final ActivityPlan<String, String> plan = Activity
+                .contract("contract")
+                .<String>define()
+                .tryAction((entry, value) -> {
+                    if (value.startsWith("-")) {
+                        rejection.set(new ActivityRejection("negativo"));
+                        throw rejection.get();
+                    }
+                    if (value.isBlank()) throw ActivityRejection.instance();
+                    return entry + value;
+                }, ActivityRejection.class)
+                .named("rejeição")
+                .otherwiseChannel(entry -> "rejeitado-" + entry, channel::set)
+                .exit(value -> value);
+
+        Assertions.assertEquals("11", plan.apply("1"));
+
+        Assertions.assertEquals("contract", plan.apply("-1"));
+
+        Assertions.assertEquals("rejeitado--1", channel.get());
+
+        Assertions.assertEquals("contract", plan.apply(" "));
+
+        Assertions.assertEquals("rejeitado- ", channel.get());
+
+        Assertions.assertEquals(0, rejection.get().getStackTrace().length);
+
+        Assertions.assertSame(ActivityRejection.instance(), ActivityRejection.instance());
+
+        Assertions.assertEquals(Map.of("rejeição", 2L), plan.failures());
+
+    }
+
+    @Test
+    @DisplayName("Contagem deve ser compartilhada pelos planos derivados")
+    void failuresShouldBeSharedByDerivedPlans() {
+
+        final ActivityPlan<String, String> plan = Activity
+                .contract("contract")
+                .<String>define()
+                .tryAction((String string) -> Integer.parseInt(string))
+                .exit(String::valueOf);
+
+        plan.apply("a");
+
+        plan.listen(new FlightRecorder()).apply("b");
+
+        Assertions.assertEquals(Map.of("action#0", 2L), plan.failures());
+
+    }
+
+}
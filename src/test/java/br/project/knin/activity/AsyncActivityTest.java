@@ -0,0 +1,157 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+class AsyncActivityTest {
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseArgumentsAreNull() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> AsyncActivity.contract(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> AsyncActivity.contract(1).entry(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> AsyncActivity.contract(1).entry(1).decisionAsync(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> AsyncActivity.contract(1).entry(1).exit(null));
+
+    }
+
+    @Test
+    @DisplayName("Exit não deve bloquear enquanto a ação assíncrona não for completada")
+    void exitShouldNotBlockWhileActionIsPending() {
+
+        final CompletableFuture<Integer> pending = new CompletableFuture<>();
+
+        final CompletableFuture<String> exit = AsyncActivity
+                .contract("contract")
+                .entry(10)
+                .actionAsync(integer -> pending)
+                .action(integer -> integer * 2)
+                .exit(String::valueOf);
+
+        Assertions.assertFalse(exit.isDone());
+
+        pending.complete(21);
+
+        Assertions.assertEquals("42", exit.join());
+
+    }
+
+    @Test
+    @DisplayName("Decisão assíncrona falsa deve desviar o fluxo para otherwise")
+    void falseAsyncDecisionShouldCallOtherwise() {
+
+        final String contract = AsyncActivity
+                .contract("contract")
+                .entry(3)
+                .decisionAsync(integer -> CompletableFuture.supplyAsync(() -> integer % 2 == 0))
+                .otherwise(integer -> "odd-" + integer)
+                .exit(String::valueOf)
+                .join();
+
+        Assertions.assertEquals("odd-3", contract);
+
+    }
+
+    @Test
+    @DisplayName("Resultado nulo de ação assíncrona deve desviar o fluxo para otherwise channel")
+    void nullAsyncActionShouldCallOtherwiseChannel() {
+
+        final AtomicReference<String> channel = new AtomicReference<>();
+
+        final String contract = AsyncActivity
+                .contract("contract")
+                .entry(5)
+                .actionAsync((entry, value) -> CompletableFuture.<Integer>supplyAsync(() -> null))
+                .otherwiseChannel(integer -> "channel-" + integer, channel::set)
+                .otherwise(() -> "should not be here")
+                .exit(String::valueOf)
+                .join();
+
+        Assertions.assertEquals("contract", contract);
+
+        Assertions.assertEquals("channel-5", channel.get());
+
+    }
+
+    @Test
+    @DisplayName("CompletionStage nulo tem a mesma semântica de resultado nulo")
+    void nullStageShouldBehaveAsNullResult() {
+
+        final String contract = AsyncActivity
+                .contract("contract")
+                .entry(5)
+                .<Integer>actionAsync(integer -> null)
+                .otherwise(() -> "otherwise")
+                .exit(String::valueOf)
+                .join();
+
+        Assertions.assertEquals("otherwise", contract);
+
+    }
+
+    @Test
+    @DisplayName("Ação assíncrona não deve ser executada após fim de fluxo")
+    void asyncActionShouldNotRunAfterEndOfFlux() {
+
+        final String contract = AsyncActivity
+                .contract("contract")
+                .entry(1)
+                .decision(integer -> integer > 1)
+                .actionAsync(integer -> {
+                    throw new IllegalCallerException("Should not be here");
+                })
+                .otherwise(() -> {
+                    throw new IllegalCallerException("Should not be here");
+                })
+                .exit(String::valueOf)
+                .join();
+
+        Assertions.assertEquals("contract", contract);
+
+    }
+
+    @Test
+    @DisplayName("Exceção de uma operação deve completar o futuro excepcionalmente")
+    void exceptionShouldCompleteFutureExceptionally() {
+
+        final CompletableFuture<String> exit = AsyncActivity
+                .contract("contract")
+                .entry(1)
+                .actionAsync(integer -> CompletableFuture.supplyAsync(() -> integer + 1))
+                .action(integer -> {
+                    throw new IllegalStateException("falha");
+                })
+                .exit(String::valueOf);
+
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, exit::join);
+
+        Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+
+    }
+
+    @Test
+    @DisplayName("Atividade assíncrona sem passos assíncronos deve completar imediatamente")
+    void synchronousFlowShouldCompleteImmediately() {
+
+        final CompletableFuture<String> exit = AsyncActivity
+                .contract("contract")
+                .entry(4)
+                .decision(integer -> integer % 2 == 0)
+                .action(integer -> integer / 2)
+                .exit(String::valueOf);
+
+        Assertions.assertTrue(exit.isDone());
+
+        Assertions.assertEquals("2", exit.join());
+
+    }
+
+}
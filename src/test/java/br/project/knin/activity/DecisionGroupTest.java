@@ -0,0 +1,88 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+class DecisionGroupTest {
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> Activity.contract(1).<Integer>define().decisions(null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Activity.contract(1).<Integer>define().decisions(List.of()));
+
+        Assertions.assertThrows(NullPointerException.class, () -> Activity.contract(1).<Integer>define().decisions(Arrays.asList(integer -> true, null)));
+
+    }
+
+    @Test
+    @DisplayName("Grupo de decisões deve ter a mesma semântica de uma decisão com a conjunção dos predicados")
+    void groupShouldMatchConjunction() {
+
+        final Predicate<Integer> even = integer -> integer % 2 == 0;
+
+        final Predicate<Integer> positive = integer -> integer > 0;
+
+        final Predicate<Integer> small = integer -> integer < 500;
+
+        final ActivityPlan<String, Integer> group = Activity
+                .contract("contract")
+                .<Integer>define()
+                .decisions(List.of(even, positive, small))
+                .otherwise(entry -> "otherwise-" + entry)
+                .exit(integer -> "passed-" + integer);
+
+        final ActivityPlan<String, Integer> conjunction = Activity
+                .contract("contract")
+                .<Integer>define()
+                .decision(even.and(positive).and(small))
+                .otherwise(entry -> "otherwise-" + entry)
+                .exit(integer -> "passed-" + integer);
+
+        IntStream.range(-1_000, 1_000).boxed().forEach(entry -> Assertions.assertEquals(conjunction.apply(entry), group.apply(entry)));
+
+    }
+
+    @Test
+    @DisplayName("Predicado barato e seletivo deve ser avaliado antes de predicado caro e permissivo")
+    void cheapSelectivePredicateShouldMoveFirst() {
+
+        final Predicate<Integer> expensive = integer -> {
+            long spin = System.nanoTime() + 20_000;
+            while (System.nanoTime() < spin) Thread.onSpinWait();
+            return true;
+        };
+
+        final Predicate<Integer> selective = integer -> integer % 10 == 0;
+
+        final DecisionGroup group = new DecisionGroup(List.of(expensive, selective), 1, 8);
+
+        Assertions.assertArrayEquals(new int[]{0, 1}, group.order());
+
+        for (int i = 0; i < 8; i++) group.apply(null, i);
+
+        Assertions.assertArrayEquals(new int[]{1, 0}, group.order());
+
+    }
+
+    @Test
+    @DisplayName("Grupo de decisões deve ser fundido aos passos vizinhos")
+    void groupShouldBeFused() {
+
+        final Step[] steps = Step.fuse(new Step[]{
+                DecisionGroup.validated(List.of(value -> true)),
+                new Step.Action(value -> value)
+        });
+
+        Assertions.assertEquals(1, steps.length);
+
+    }
+
+}
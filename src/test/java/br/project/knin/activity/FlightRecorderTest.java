@@ -0,0 +1,201 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class FlightRecorderTest {
+
+    private final AtomicReference<String> channel = new AtomicReference<>();
+
+    private final ActivityPlan<String, Integer> plan = Activity
+            .contract("contract")
+            .<Integer>define()
+            .decision(integer -> integer > 0)
+            .named("positivo")
+            .action(integer -> integer % 3 == 0 ? null : integer)
+            .named("não múltiplo de 3")
+            .otherwiseChannel(entry -> "rejeitado-" + entry, channel::set)
+            .channel(integer -> channel.set("aceito-" + integer))
+            .exit(String::valueOf);
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FlightRecorder(0, 1));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FlightRecorder(16, 0));
+
+    }
+
+    @Test
+    @DisplayName("Caminho registrado deve indicar o passo que encerrou o fluxo")
+    void traceShouldExplainEndOfFlux() {
+
+        final FlightRecorder recorder = new FlightRecorder();
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        listened.apply(-1);
+
+        listened.apply(3);
+
+        listened.apply(4);
+
+        final List<FlightRecorder.Trace> traces = recorder.dump();
+
+        Assertions.assertEquals(3, traces.size());
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L), traces.stream().map(FlightRecorder.Trace::entry).collect(Collectors.toList()));
+
+        Assertions.assertEquals("positivo", traces.get(0).cause().name());
+
+        Assertions.assertEquals(StepOutcome.SHORT_CIRCUIT, traces.get(0).last().outcome());
+
+        Assertions.assertEquals(
+                List.of(StepOutcome.PASSED, StepOutcome.REJECTED, StepOutcome.COMMITTED),
+                traces.get(1).events().stream().map(FlightRecorder.Event::outcome).collect(Collectors.toList())
+        );
+
+        Assertions.assertEquals("não múltiplo de 3", traces.get(1).cause().name());
+
+        Assertions.assertEquals(StepKind.OTHERWISE_CHANNEL, traces.get(1).last().kind());
+
+        Assertions.assertEquals(
+                List.of(StepOutcome.PASSED, StepOutcome.PASSED, StepOutcome.SKIPPED, StepOutcome.COMMITTED),
+                traces.get(2).events().stream().map(FlightRecorder.Event::outcome).collect(Collectors.toList())
+        );
+
+        Assertions.assertNull(traces.get(2).cause());
+
+        Assertions.assertTrue(traces.get(2).events().get(0).timestamp() <= traces.get(2).last().timestamp());
+
+        Assertions.assertTrue(traces.get(2).toString().contains("positivo PASSED"));
+
+    }
+
+    @Test
+    @DisplayName("Apenas uma a cada sample entradas deve ser registrada")
+    void onlySampledEntriesShouldBeRecorded() {
+
+        final FlightRecorder recorder = new FlightRecorder(1024, 10);
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        IntStream.range(0, 100).boxed().forEach(listened::apply);
+
+        final List<FlightRecorder.Trace> traces = recorder.dump();
+
+        Assertions.assertEquals(10, traces.size());
+
+        traces.forEach(trace -> Assertions.assertEquals(0, trace.entry() % 10));
+
+    }
+
+    @Test
+    @DisplayName("Buffer cheio deve manter apenas os passos mais recentes")
+    void fullBufferShouldKeepMostRecentSteps() {
+
+        final FlightRecorder recorder = new FlightRecorder(8, 1);
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        IntStream.rangeClosed(1, 10).map(i -> i * 3 + 1).boxed().forEach(listened::apply);
+
+        final List<FlightRecorder.Trace> traces = recorder.dump();
+
+        Assertions.assertEquals(8, traces.stream().mapToInt(trace -> trace.events().size()).sum());
+
+        Assertions.assertEquals(10, traces.get(traces.size() - 1).entry());
+
+        Assertions.assertEquals(4, traces.get(traces.size() - 1).events().size());
+
+    }
+
+    @Test
+    @DisplayName("Exceção deve encerrar o caminho da entrada")
+    void exceptionShouldEndTrace() {
+
+        final FlightRecorder recorder = new FlightRecorder();
+
+        final ActivityPlan<String, Integer> failing = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> {
+                    if (integer == 1) throw new IllegalStateException("falha");
+                    return integer;
+                })
+                .exit(String::valueOf)
+                .listen(recorder);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> failing.apply(1));
+
+        failing.apply(2);
+
+        final List<FlightRecorder.Trace> traces = recorder.dump();
+
+        Assertions.assertEquals(2, traces.size());
+
+        Assertions.assertEquals(StepOutcome.FAILED, traces.get(0).cause().outcome());
+
+        Assertions.assertEquals(StepOutcome.PASSED, traces.get(1).last().outcome());
+
+    }
+
+    @Test
+    @DisplayName("Entradas de cada thread devem ser registradas com o nome da thread")
+    void eachThreadShouldBeRecordedWithItsName() throws InterruptedException {
+
+        final FlightRecorder recorder = new FlightRecorder();
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        IntStream.range(0, 4).forEach(thread -> executor.execute(() -> IntStream.range(0, 25).boxed().forEach(listened::apply)));
+
+        executor.shutdown();
+
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        final List<FlightRecorder.Trace> traces = recorder.dump();
+
+        Assertions.assertEquals(100, traces.size());
+
+        Assertions.assertEquals(4, traces.stream().map(FlightRecorder.Trace::thread).distinct().count());
+
+    }
+
+    @Test
+    @DisplayName("Uma thread por tarefa deve ser amostrada e registrada em buffers limitados")
+    void threadPerTaskShouldBeSampledIntoBoundedBuffers() throws InterruptedException {
+
+        final FlightRecorder recorder = new FlightRecorder(8, 10);
+
+        final ActivityPlan<String, Integer> listened = plan.listen(recorder);
+
+        for (int i = 1; i <= 200; i++) {
+            final Thread thread = new Thread(() -> listened.apply(1), "tarefa-" + i);
+            thread.start();
+            thread.join();
+        }
+
+        final List<FlightRecorder.Trace> traces = recorder.dump();
+
+        Assertions.assertFalse(traces.isEmpty());
+
+        traces.forEach(trace -> Assertions.assertEquals(0, trace.entry() % 10));
+
+        Assertions.assertTrue(traces.stream().mapToInt(trace -> trace.events().size()).sum() <= FlightRecorder.STRIPES * 8);
+
+    }
+
+}
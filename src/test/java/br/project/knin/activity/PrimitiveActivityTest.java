@@ -0,0 +1,136 @@
+package br.project.knin.activity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+class PrimitiveActivityTest {
+
+    @Test
+    @DisplayName("IntActivity deve produzir o mesmo resultado de Activity para o mesmo fluxo")
+    void intActivityShouldMatchActivity() {
+
+        for (int entry = -20; entry <= 20; entry++) {
+
+            final List<Object> expectedChannel = new ArrayList<>();
+
+            final List<Object> channel = new ArrayList<>();
+
+            final String expected = Activity
+                    .contract("contract")
+                    .entry(entry)
+                    .decision(integer -> integer % 3 != 0)
+                    .otherwiseChannel(integer -> "rejected-" + integer, expectedChannel::add)
+                    .action(integer -> integer * 2)
+                    .channel(expectedChannel::add)
+                    .decision(integer -> integer > 0)
+                    .otherwise(integer -> integer < -10 ? null : "otherwise-" + integer)
+                    .channel((e, integer) -> integer > 20 ? "big-" + integer : null, expectedChannel::add)
+                    .exit(integer -> "value-" + integer);
+
+            final String actual = Activity
+                    .contract("contract")
+                    .intEntry(entry)
+                    .decision(integer -> integer % 3 != 0)
+                    .otherwiseChannel(integer -> "rejected-" + integer, channel::add)
+                    .action(integer -> integer * 2)
+                    .channel(channel::add)
+                    .decision(integer -> integer > 0)
+                    .otherwise(integer -> integer < -10 ? null : "otherwise-" + integer)
+                    .channel(integer -> integer > 20 ? "big-" + integer : null, channel::add)
+                    .exit(integer -> "value-" + integer);
+
+            Assertions.assertEquals(expected, actual, "entry " + entry);
+
+            Assertions.assertEquals(expectedChannel, channel, "entry " + entry);
+
+        }
+
+    }
+
+    @Test
+    @DisplayName("Otherwise deve ser executado apenas após uma decisão não satisfeita")
+    void otherwiseShouldRunOnlyAfterFailedDecision() {
+
+        Assertions.assertEquals(
+                "otherwise",
+                Activity.contract("contract").longEntry(5L).decision(value -> value > 10).otherwise(() -> "otherwise").exit(String::valueOf)
+        );
+
+        Assertions.assertEquals(
+                "contract",
+                Activity.contract("contract").longEntry(5L).decision(value -> value > 10).action(value -> value + 1).otherwise(() -> "otherwise").exit(String::valueOf)
+        );
+
+        Assertions.assertEquals(
+                "10",
+                Activity.contract("contract").longEntry(5L).otherwise(() -> "otherwise").action(value -> value * 2).exit(String::valueOf)
+        );
+
+    }
+
+    @Test
+    @DisplayName("Uma atividade intermediária deve poder ser reutilizada em mais de um ramo")
+    void intermediateActivityShouldBeReusable() {
+
+        final IntActivity<String> prefix = Activity.contract("contract").intEntry(5).action(value -> value * 2);
+
+        final IntActivity<String> failed = prefix.decision(value -> value > 10);
+
+        final IntActivity<String> doubled = prefix.action(value -> value * 2);
+
+        Assertions.assertEquals("otherwise", failed.otherwise(() -> "otherwise").exit(String::valueOf));
+
+        Assertions.assertEquals("20", doubled.exit(String::valueOf));
+
+        Assertions.assertEquals("10", prefix.exit(String::valueOf));
+
+        Assertions.assertEquals("contract", failed.exit(String::valueOf));
+
+    }
+
+    @Test
+    @DisplayName("mapToObj deve retornar ao tipo genérico com a mesma semântica de action")
+    void mapToObjShouldContinueAsActivity() {
+
+        final AtomicReference<String> channel = new AtomicReference<>();
+
+        Assertions.assertEquals(
+                "1.5!",
+                Activity.contract("contract").doubleEntry(0.75).action(value -> value * 2).mapToObj(String::valueOf).channel(channel::set).exit(value -> value + "!")
+        );
+
+        Assertions.assertEquals("1.5", channel.get());
+
+        Assertions.assertEquals(
+                "otherwise-0.75",
+                Activity.contract("contract").doubleEntry(0.75).<String>mapToObj(value -> null).otherwise(entry -> "otherwise-" + entry).exit(value -> value)
+        );
+
+        Assertions.assertEquals(
+                "contract",
+                Activity.contract("contract").doubleEntry(0.75).decision(value -> false).mapToObj(String::valueOf).otherwise(() -> "otherwise").exit(value -> value)
+        );
+
+    }
+
+    @Test
+    void shouldThrowNullPointerExceptionBecauseArgumentsAreNull() {
+
+        final IntActivity<String> activity = Activity.contract("contract").intEntry(1);
+
+        Assertions.assertThrows(NullPointerException.class, () -> activity.decision(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> activity.action(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> activity.decision(integer -> false).channel(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> activity.exit(null));
+
+    }
+
+}
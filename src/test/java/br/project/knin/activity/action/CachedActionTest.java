@@ -0,0 +1,296 @@
+package br.project.knin.activity.action;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CachedActionTest {
+
+    @Test
+    @DisplayName("Resultado deve ser computado uma única vez por valor")
+    void resultShouldBeComputedOncePerValue() {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final CachedAction<Integer, String> cached = CachedAction
+                .<Integer, String>of(integer -> {
+                    calls.incrementAndGet();
+                    return "tariff-" + integer;
+                })
+                .build();
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(cached)
+                .exit(value -> value);
+
+        for (int i = 0; i < 10; i++) Assertions.assertEquals("tariff-" + (i % 2), plan.apply(i % 2));
+
+        Assertions.assertEquals(2, calls.get());
+
+        Assertions.assertEquals(2, cached.misses());
+
+        Assertions.assertEquals(8, cached.hits());
+
+        Assertions.assertEquals(0.8, cached.hitRate());
+
+        Assertions.assertEquals(2, cached.size());
+
+    }
+
+    @Test
+    @DisplayName("Resultado nulo não deve ser memorizado e deve desviar o fluxo para otherwise")
+    void nullResultShouldNotBeCached() {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final CachedAction<Integer, String> cached = CachedAction
+                .<Integer, String>of(integer -> {
+                    calls.incrementAndGet();
+                    return null;
+                })
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(
+                    "otherwise",
+                    Activity.contract("contract").entry(1).action(cached).otherwise(() -> "otherwise").exit(value -> value)
+            );
+        }
+
+        Assertions.assertEquals(3, calls.get());
+
+        Assertions.assertEquals(0, cached.size());
+
+    }
+
+    @Test
+    @DisplayName("Entrada lida desde a última passagem do CLOCK deve receber segunda chance")
+    void referencedEntryShouldSurviveEviction() {
+
+        final List<Integer> computed = new ArrayList<>();
+
+        final CachedAction<Integer, Integer> cached = CachedAction
+                .<Integer, Integer>of(integer -> {
+                    computed.add(integer);
+                    return integer;
+                })
+                .maximumSize(2)
+                .build();
+
+        cached.apply(1);
+
+        cached.apply(2);
+
+        cached.apply(1);
+
+        cached.apply(3);
+
+        Assertions.assertEquals(2, cached.size());
+
+        Assertions.assertEquals(1, cached.evictions());
+
+        cached.apply(1);
+
+        cached.apply(2);
+
+        Assertions.assertEquals(List.of(1, 2, 3, 2), computed);
+
+    }
+
+    @Test
+    @DisplayName("Resultado deve expirar após o tempo de escrita")
+    void resultShouldExpireAfterWrite() {
+
+        final AtomicLong now = new AtomicLong();
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final CachedAction<Integer, Integer> cached = CachedAction
+                .<Integer, Integer>of(integer -> calls.incrementAndGet())
+                .expireAfterWrite(Duration.ofSeconds(10))
+                .ticker(now::get)
+                .build();
+
+        Assertions.assertEquals(1, cached.apply(7));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+
+        Assertions.assertEquals(1, cached.apply(7));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        Assertions.assertEquals(2, cached.apply(7));
+
+        Assertions.assertEquals(1, cached.expirations());
+
+    }
+
+    @Test
+    @DisplayName("Entradas expiradas não devem acumular no ponteiro do CLOCK")
+    void expiredEntriesShouldNotAccumulateInClock() {
+
+        final AtomicLong now = new AtomicLong();
+
+        final CachedAction<Integer, Integer> cached = CachedAction
+                .<Integer, Integer>of(integer -> integer)
+                .maximumSize(16)
+                .expireAfterWrite(Duration.ofSeconds(1))
+                .ticker(now::get)
+                .build();
+
+        for (int i = 0; i < 10_000; i++) {
+            cached.apply(i % 4);
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        Assertions.assertTrue(cached.size() <= 4);
+
+        Assertions.assertTrue(cached.queued() <= 32 + 1, () -> "ponteiro com " + cached.queued() + " entradas");
+
+        Assertions.assertEquals(0, cached.evictions());
+
+        cached.invalidateAll();
+
+        Assertions.assertEquals(0, cached.queued());
+
+    }
+
+    @Test
+    @DisplayName("Chamada que aguardou uma computação sem resultado deve contar como falta")
+    void waiterOnNullResultShouldCountAsMiss() throws InterruptedException {
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CachedAction<Integer, Integer> cached = CachedAction
+                .<Integer, Integer>of(integer -> {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                })
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 2; i++) futures.add(CompletableFuture.supplyAsync(() -> cached.apply(21), executor));
+
+            while (cached.hits() + cached.misses() < 2) Thread.onSpinWait();
+
+            release.countDown();
+
+            for (final CompletableFuture<Integer> future : futures) Assertions.assertNull(future.join());
+
+            Assertions.assertEquals(0, cached.hits());
+
+            Assertions.assertEquals(2, cached.misses());
+
+            Assertions.assertEquals(0, cached.hitRate());
+
+        } finally {
+            executor.shutdownNow();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+    }
+
+    @Test
+    @DisplayName("Chamadas concorrentes com o mesmo valor devem aguardar uma única computação")
+    void concurrentCallsShouldCoalesce() throws InterruptedException {
+
+        final int threads = 8;
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CachedAction<Integer, Integer> cached = CachedAction
+                .<Integer, Integer>of(integer -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return integer * 2;
+                })
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) futures.add(CompletableFuture.supplyAsync(() -> cached.apply(21), executor));
+
+            while (cached.hits() + cached.misses() < threads) Thread.onSpinWait();
+
+            release.countDown();
+
+            for (final CompletableFuture<Integer> future : futures) Assertions.assertEquals(42, future.join());
+
+            Assertions.assertEquals(1, calls.get());
+
+            Assertions.assertEquals(1, cached.misses());
+
+        } finally {
+            executor.shutdownNow();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+    }
+
+    @Test
+    @DisplayName("Exceção não deve ser memorizada")
+    void exceptionShouldNotBeCached() {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        final CachedAction<Integer, Integer> cached = CachedAction
+                .<Integer, Integer>of(integer -> {
+                    if (calls.incrementAndGet() == 1) throw new IllegalStateException("falha");
+                    return integer;
+                })
+                .build();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> cached.apply(1));
+
+        Assertions.assertEquals(1, cached.apply(1));
+
+        Assertions.assertEquals(2, calls.get());
+
+    }
+
+    @Test
+    void shouldThrowExceptionsBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> CachedAction.of(null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CachedAction.of(integer -> integer).maximumSize(0));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CachedAction.of(integer -> integer).expireAfterWrite(Duration.ZERO));
+
+    }
+
+}
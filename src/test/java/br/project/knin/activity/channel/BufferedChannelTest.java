@@ -0,0 +1,360 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import br.project.knin.activity.BatchChannel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class BufferedChannelTest {
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> BufferedChannel.of(null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BufferedChannel.of(e -> {
+        }).capacity(0));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BufferedChannel.of(e -> {
+        }).batch(0));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BufferedChannel.of(e -> {
+        }).capacity(RingBuffer.MAXIMUM_CAPACITY + 1));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(Integer.MAX_VALUE));
+
+    }
+
+    @Test
+    @DisplayName("Mensagens devem ser encaminhadas na ordem do commit por uma thread dedicada")
+    void messagesShouldBeCommittedInOrderByConsumerThread() {
+
+        final List<Integer> committed = Collections.synchronizedList(new ArrayList<>());
+
+        final Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(integer -> {
+            threads.add(Thread.currentThread());
+            committed.add(integer);
+        }).capacity(16).start();
+
+        final ActivityPlan<Integer, Integer> plan = Activity
+                .contract(0)
+                .<Integer>define()
+                .channel(channel)
+                .exit(Function.identity());
+
+        final List<Integer> entries = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+        plan.applyAll(entries);
+
+        channel.close();
+
+        Assertions.assertEquals(entries, committed);
+
+        Assertions.assertEquals(1_000, channel.committed());
+
+        Assertions.assertEquals(0, channel.depth());
+
+        Assertions.assertFalse(threads.contains(Thread.currentThread()));
+
+    }
+
+    @Test
+    @DisplayName("Canal em lote deve receber lotes limitados pelo tamanho configurado")
+    void batchChannelShouldReceiveBoundedBatches() {
+
+        final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        final BufferedChannel<Integer> channel = BufferedChannel
+                .of((BatchChannel<Integer>) batches::add)
+                .batch(8)
+                .start();
+
+        for (int i = 0; i < 100; i++) channel.commit(i);
+
+        channel.close();
+
+        Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 8));
+
+        Assertions.assertEquals
+                (
+                        IntStream.range(0, 100).boxed().collect(Collectors.toList()),
+                        batches.stream().flatMap(List::stream).collect(Collectors.toList())
+                );
+
+    }
+
+    @Test
+    @DisplayName("Mensagens mais recentes devem ser descartadas quando a fila está cheia")
+    void dropNewestShouldDiscardNewMessages() throws InterruptedException {
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final List<Integer> committed = Collections.synchronizedList(new ArrayList<>());
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(integer -> {
+            blocked.countDown();
+            await(release);
+            committed.add(integer);
+        }).capacity(4).batch(1).overflow(OverflowPolicy.DROP_NEWEST).start();
+
+        channel.commit(-1);
+
+        Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 10; i++) channel.commit(i);
+
+        Assertions.assertEquals(4, channel.depth());
+
+        Assertions.assertEquals(6, channel.dropped());
+
+        release.countDown();
+
+        channel.close();
+
+        Assertions.assertEquals(List.of(-1, 0, 1, 2, 3), committed);
+
+    }
+
+    @Test
+    @DisplayName("Mensagens mais antigas devem ser descartadas quando a fila está cheia")
+    void dropOldestShouldDiscardOldMessages() throws InterruptedException {
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final List<Integer> committed = Collections.synchronizedList(new ArrayList<>());
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(integer -> {
+            blocked.countDown();
+            await(release);
+            committed.add(integer);
+        }).capacity(4).batch(1).overflow(OverflowPolicy.DROP_OLDEST).start();
+
+        channel.commit(-1);
+
+        Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 10; i++) channel.commit(i);
+
+        Assertions.assertEquals(6, channel.dropped());
+
+        release.countDown();
+
+        channel.close();
+
+        Assertions.assertEquals(List.of(-1, 6, 7, 8, 9), committed);
+
+    }
+
+    @Test
+    @DisplayName("Thread chamadora deve encaminhar a mensagem quando a fila está cheia")
+    void callerRunsShouldCommitOnCallerThread() throws InterruptedException {
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Thread caller = Thread.currentThread();
+
+        final List<Integer> callerCommits = Collections.synchronizedList(new ArrayList<>());
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(integer -> {
+            if (Thread.currentThread() == caller) {
+                callerCommits.add(integer);
+                return;
+            }
+            blocked.countDown();
+            await(release);
+        }).capacity(2).batch(1).overflow(OverflowPolicy.CALLER_RUNS).start();
+
+        channel.commit(-1);
+
+        Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) channel.commit(i);
+
+        release.countDown();
+
+        channel.close();
+
+        Assertions.assertEquals(List.of(2, 3, 4), callerCommits);
+
+        Assertions.assertEquals(0, channel.dropped());
+
+    }
+
+    @Test
+    @DisplayName("Produtores devem aguardar espaço na fila sem perder mensagens")
+    void blockShouldNotLoseMessagesWithManyProducers() throws InterruptedException {
+
+        final Queue<Integer> committed = new ConcurrentLinkedQueue<>();
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(committed::add).capacity(8).start();
+
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+
+        for (int producer = 0; producer < 4; producer++) {
+            final int offset = producer * 10_000;
+            producers.execute(() -> {
+                for (int i = 0; i < 10_000; i++) channel.commit(offset + i);
+            });
+        }
+
+        producers.shutdown();
+
+        Assertions.assertTrue(producers.awaitTermination(30, TimeUnit.SECONDS));
+
+        channel.close();
+
+        Assertions.assertEquals(40_000, committed.size());
+
+        Assertions.assertEquals(40_000, committed.stream().distinct().count());
+
+        Assertions.assertEquals(0, channel.dropped());
+
+    }
+
+    @Test
+    @DisplayName("Falha do canal de destino deve ser contabilizada e commit após close deve falhar")
+    void failuresShouldBeCountedAndCommitAfterCloseShouldFail() {
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(integer -> {
+            throw new IllegalStateException("falha");
+        }).start();
+
+        channel.commit(1);
+
+        channel.close();
+
+        Assertions.assertEquals(1, channel.failed());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> channel.commit(2));
+
+    }
+
+    @Test
+    @DisplayName("Commits aceitos durante o close devem ser encaminhados")
+    void commitsAcceptedDuringCloseShouldBeCommitted() throws InterruptedException {
+
+        for (int round = 0; round < 50; round++) {
+
+            final Queue<Integer> committed = new ConcurrentLinkedQueue<>();
+
+            final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(committed::add).capacity(8).start();
+
+            final ExecutorService producers = Executors.newFixedThreadPool(4);
+
+            final LongAdder accepted = new LongAdder();
+
+            final CountDownLatch started = new CountDownLatch(4);
+
+            for (int producer = 0; producer < 4; producer++) {
+                producers.execute(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0; ; i++) {
+                            channel.commit(i);
+                            accepted.increment();
+                        }
+                    } catch (final IllegalStateException closed) {
+                        // canal encerrado
+                    }
+                });
+            }
+
+            await(started);
+
+            channel.close();
+
+            producers.shutdown();
+
+            Assertions.assertTrue(producers.awaitTermination(30, TimeUnit.SECONDS));
+
+            Assertions.assertEquals(accepted.sum(), committed.size());
+
+            Assertions.assertEquals(accepted.sum(), channel.committed());
+
+        }
+
+    }
+
+    @Test
+    @DisplayName("Close chamado pelo canal de destino não deve aguardar a própria thread consumidora")
+    void closeFromConsumerThreadShouldNotDeadlock() {
+
+        final List<Integer> committed = Collections.synchronizedList(new ArrayList<>());
+
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        final BufferedChannel<Integer>[] holder = new BufferedChannel[1];
+
+        holder[0] = BufferedChannel.<Integer>of(integer -> {
+            committed.add(integer);
+            if (integer == 1) {
+                holder[0].close();
+                closed.countDown();
+            }
+        }).start();
+
+        holder[0].commit(1);
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> await(closed));
+
+        holder[0].close();
+
+        Assertions.assertEquals(List.of(1), committed);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> holder[0].commit(2));
+
+    }
+
+    @Test
+    @DisplayName("Commit bloqueante deve falhar quando a thread consumidora termina com Error")
+    void blockedCommitShouldFailWhenConsumerDies() {
+
+        final BufferedChannel<Integer> channel = BufferedChannel.<Integer>of(integer -> {
+            throw new AssertionError("falha");
+        }).capacity(2).overflow(OverflowPolicy.BLOCK).start();
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            final IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> {
+                for (int i = 0; i < 1_000; i++) channel.commit(i);
+            });
+            Assertions.assertEquals("Thread consumidora encerrada", exception.getMessage());
+        });
+
+        channel.close();
+
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
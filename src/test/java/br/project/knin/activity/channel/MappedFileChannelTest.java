@@ -0,0 +1,201 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class MappedFileChannelTest {
+
+    private static final RecordEncoder<String> UTF_8 = (text, buffer) -> buffer.put(text.getBytes(StandardCharsets.UTF_8));
+
+    private static final List<Long> VALUES = List.of(1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 42L, 7L, 1_000_000L);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> MappedFileChannel.of(null, UTF_8));
+
+        Assertions.assertThrows(NullPointerException.class, () -> MappedFileChannel.of(directory, null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MappedFileChannel.of(directory, UTF_8).segmentSize(4));
+
+        Assertions.assertThrows(NullPointerException.class, () -> MappedFileChannel.of(directory, UTF_8).force(null));
+
+        Assertions.assertThrows(NullPointerException.class, () -> MappedFileReader.open(null));
+
+    }
+
+    @Test
+    @DisplayName("Registros devem ser lidos na ordem do commit, inclusive entre segmentos")
+    void recordsShouldBeReadInOrderAcrossSegments() {
+
+        final List<String> messages = IntStream.range(0, 100).mapToObj(i -> "message-" + i).collect(Collectors.toList());
+
+        try (MappedFileChannel<String> channel = MappedFileChannel.of(directory, UTF_8).segmentSize(128).open()) {
+
+            messages.forEach(channel::commit);
+
+            Assertions.assertEquals(100, channel.committed());
+
+            Assertions.assertTrue(channel.segments() > 1);
+
+        }
+
+        Assertions.assertEquals(messages, read(directory));
+
+    }
+
+    @Test
+    @DisplayName("Encoder deve escrever diretamente no segmento mapeado")
+    void encoderShouldWriteIntoMappedSegment() {
+
+        final RecordEncoder<Long> encoder = (value, buffer) -> buffer.putLong(value).putInt(Long.hashCode(value));
+
+        try (MappedFileChannel<Long> channel = MappedFileChannel.of(directory, encoder).segmentSize(64).open()) {
+            VALUES.forEach(channel::commit);
+        }
+
+        final List<Long> values = new ArrayList<>();
+
+        for (final ByteBuffer record : MappedFileReader.open(directory)) {
+
+            Assertions.assertEquals(Long.BYTES + Integer.BYTES, record.remaining());
+
+            Assertions.assertTrue(record.isReadOnly());
+
+            final long value = record.getLong();
+
+            Assertions.assertEquals(Long.hashCode(value), record.getInt());
+
+            values.add(value);
+
+        }
+
+        Assertions.assertEquals(VALUES, values);
+
+    }
+
+    @Test
+    @DisplayName("Registro vazio, maior que o segmento ou com falha no encoder não deve ser registrado")
+    void invalidRecordsShouldNotBeWritten() {
+
+        try (MappedFileChannel<String> channel = MappedFileChannel.of(directory, (String text, ByteBuffer buffer) -> {
+            buffer.put(text.getBytes(StandardCharsets.UTF_8));
+            if (text.startsWith("fail")) throw new IllegalStateException("falha");
+        }).segmentSize(32).open()) {
+
+            channel.commit("first");
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> channel.commit(""));
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> channel.commit("x".repeat(64)));
+
+            Assertions.assertThrows(IllegalStateException.class, () -> channel.commit("fail-with-long-content"));
+
+            channel.commit("last");
+
+        }
+
+        Assertions.assertEquals(List.of("first", "last"), read(directory));
+
+    }
+
+    @Test
+    @DisplayName("Registro maior que o segmento não deve substituir o segmento corrente")
+    void oversizedRecordShouldNotRollSegment() throws Exception {
+
+        try (MappedFileChannel<String> channel = MappedFileChannel.of(directory, UTF_8).segmentSize(32).force(ForcePolicy.COMMIT).open()) {
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> channel.commit("x".repeat(64)));
+
+            Assertions.assertEquals(1, channel.segments());
+
+            channel.commit("first");
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> channel.commit("x".repeat(64)));
+
+            channel.commit("last");
+
+        }
+
+        Assertions.assertEquals(List.of("first", "last"), read(directory));
+
+        Assertions.assertTrue(new String(Files.readAllBytes(Segments.path(directory, 0)), StandardCharsets.UTF_8).contains("last"));
+
+    }
+
+    @Test
+    @DisplayName("Canal reaberto deve iniciar um novo segmento sem alterar os registros anteriores")
+    void reopenedChannelShouldAppendNewSegment() throws Exception {
+
+        try (MappedFileChannel<String> channel = MappedFileChannel.of(directory, UTF_8).force(ForcePolicy.COMMIT).open()) {
+            channel.commit("before");
+        }
+
+        try (MappedFileChannel<String> channel = MappedFileChannel.of(directory, UTF_8).force(ForcePolicy.NEVER).open()) {
+            channel.commit("after");
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assertions.assertEquals(2, files.count());
+        }
+
+        Assertions.assertEquals(List.of("before", "after"), read(directory));
+
+    }
+
+    @Test
+    @DisplayName("Canal de arquivo deve registrar os commits de um plano executado em paralelo")
+    void channelShouldRecordParallelCommits() {
+
+        final List<String> expected;
+
+        try (MappedFileChannel<String> channel = MappedFileChannel.of(directory, UTF_8).segmentSize(1024).open()) {
+
+            final ActivityPlan<String, Integer> plan = Activity
+                    .contract("odd")
+                    .<Integer>define()
+                    .decision(integer -> integer % 2 == 0)
+                    .channel((entry, integer) -> "even-" + integer, channel)
+                    .exit(String::valueOf);
+
+            IntStream.range(0, 1_000).boxed().parallel().forEach(plan::apply);
+
+            expected = IntStream.range(0, 1_000).filter(i -> i % 2 == 0).mapToObj(i -> "even-" + i).sorted().collect(Collectors.toList());
+
+            Assertions.assertThrows(IllegalStateException.class, () -> {
+                channel.close();
+                channel.commit("closed");
+            });
+
+        }
+
+        Assertions.assertEquals(expected, read(directory).stream().sorted().collect(Collectors.toList()));
+
+    }
+
+    private static List<String> read(final Path directory) {
+        return StreamSupport
+                .stream(MappedFileReader.open(directory).spliterator(), false)
+                .map(record -> StandardCharsets.UTF_8.decode(record).toString())
+                .collect(Collectors.toList());
+    }
+
+}
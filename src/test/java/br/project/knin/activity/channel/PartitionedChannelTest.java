@@ -0,0 +1,175 @@
+package br.project.knin.activity.channel;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class PartitionedChannelTest {
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> PartitionedChannel.<String>of(null, lane -> e -> {
+        }));
+
+        Assertions.assertThrows(NullPointerException.class, () -> PartitionedChannel.<String>of(e -> e, null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionedChannel.<String>of(e -> e, lane -> e -> {
+        }).lanes(0));
+
+        Assertions.assertThrows(NullPointerException.class, () -> PartitionedChannel.<String>of(e -> e, lane -> null).lanes(2).start());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionedChannel.<String>of(e -> e, lane -> e -> {
+        }).overflow(OverflowPolicy.CALLER_RUNS));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionedChannel.<String>of(e -> e, lane -> e -> {
+        }).overflow(OverflowPolicy.DROP_OLDEST));
+
+    }
+
+    @Test
+    @DisplayName("Mensagens de mesma chave devem manter a ordem do commit mesmo com produtores concorrentes")
+    void messagesWithSameKeyShouldKeepOrder() throws InterruptedException {
+
+        final int producers = 8;
+
+        final int messages = 2_000;
+
+        final Map<Integer, List<int[]>> lanes = new ConcurrentHashMap<>();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try (PartitionedChannel<int[]> channel = PartitionedChannel
+                .<int[]>of(message -> message[0], lane -> message -> lanes.computeIfAbsent(lane, ignored -> Collections.synchronizedList(new ArrayList<>())).add(message))
+                .lanes(4)
+                .capacity(64)
+                .start()) {
+
+            Assertions.assertEquals(4, channel.lanes());
+
+            for (int producer = 0; producer < producers; producer++) {
+                final int key = producer;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int sequence = 0; sequence < messages; sequence++) channel.commit(new int[]{key, sequence});
+                });
+            }
+
+            start.countDown();
+
+            executor.shutdown();
+
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        }
+
+        final Map<Integer, List<Integer>> sequences = lanes
+                .values()
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.groupingBy(message -> message[0], Collectors.mapping(message -> message[1], Collectors.toList())));
+
+        final List<Integer> expected = IntStream.range(0, messages).boxed().collect(Collectors.toList());
+
+        Assertions.assertEquals(producers, sequences.size());
+
+        sequences.values().forEach(sequence -> Assertions.assertEquals(expected, sequence));
+
+        lanes.forEach((lane, received) -> received.forEach(message -> Assertions.assertEquals(lane, laneOf(message[0], 4))));
+
+    }
+
+    @Test
+    @DisplayName("Métricas devem ser registradas por faixa")
+    void metricsShouldBeReportedPerLane() throws InterruptedException {
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final PartitionedChannel<Integer> channel = PartitionedChannel
+                .<Integer>of(integer -> integer % 2, lane -> integer -> {
+                    if (lane == 0) await(release);
+                    if (integer == 3) throw new IllegalStateException("falha");
+                })
+                .lanes(2)
+                .batch(1)
+                .start();
+
+        final ActivityPlan<String, Integer> plan = Activity
+                .contract("contract")
+                .<Integer>define()
+                .channel(channel)
+                .exit(String::valueOf);
+
+        IntStream.range(0, 10).boxed().forEach(plan::apply);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        Assertions.assertTrue(channel.depth(0) >= 3, () -> "profundidade " + channel.depth(0));
+
+        Assertions.assertEquals(0, channel.depth(1));
+
+        Assertions.assertEquals(2, channel.depths().length);
+
+        release.countDown();
+
+        channel.close();
+
+        Assertions.assertEquals(5, channel.committed(0));
+
+        Assertions.assertEquals(4, channel.committed(1));
+
+        Assertions.assertEquals(1, channel.failed(1));
+
+        Assertions.assertEquals(0, channel.dropped(0));
+
+        Assertions.assertEquals(9, channel.committed());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> channel.commit(0));
+
+    }
+
+    @Test
+    @DisplayName("Chave nula deve ser encaminhada pela primeira faixa")
+    void nullKeyShouldUseFirstLane() {
+
+        try (PartitionedChannel<String> channel = PartitionedChannel.<String>of(text -> null, lane -> text -> {
+        }).lanes(3).start()) {
+            Assertions.assertEquals(0, channel.lane("any"));
+        }
+
+    }
+
+    private static int laneOf(final int key, final int lanes) {
+        final int h = Integer.hashCode(key);
+        return Math.floorMod(h ^ (h >>> 16), lanes);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,387 @@
+package br.project.knin.activity.flow;
+
+import br.project.knin.activity.Activity;
+import br.project.knin.activity.ActivityPlan;
+import br.project.knin.activity.channel.PublisherChannel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ActivityProcessorTest {
+
+    private final ActivityPlan<String, Integer> plan = Activity
+            .contract("odd")
+            .<Integer>define()
+            .decision(integer -> integer % 2 == 0)
+            .exit(integer -> "even-" + integer);
+
+    @Test
+    void shouldThrowExceptionBecauseArgumentsAreInvalid() {
+
+        Assertions.assertThrows(NullPointerException.class, () -> ActivityProcessor.of(null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ActivityProcessor.of(plan).concurrency(0));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ActivityProcessor.of(plan).buffer(0));
+
+        Assertions.assertThrows(NullPointerException.class, () -> ActivityProcessor.of(plan).executor(null));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PublisherChannel.create(Runnable::run, 0));
+
+    }
+
+    @Test
+    @DisplayName("Processador com concorrência unitária deve publicar os contratos na ordem dos itens")
+    void processorShouldPublishContractsInOrder() {
+
+        final ActivityProcessor<Integer, String> processor = ActivityProcessor.of(plan).build();
+
+        final Collector<String> collector = new Collector<>(Long.MAX_VALUE);
+
+        processor.subscribe(collector);
+
+        publish(processor, 100);
+
+        final List<String> expected = IntStream.range(0, 100).boxed().map(plan).collect(Collectors.toList());
+
+        Assertions.assertEquals(expected, collector.completion.join());
+
+    }
+
+    @Test
+    @DisplayName("Itens não devem ser solicitados além da concorrência e da demanda dos assinantes")
+    void processorShouldRespectDemand() throws InterruptedException {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+
+            final ActivityProcessor<Integer, String> processor = ActivityProcessor
+                    .of(plan)
+                    .concurrency(2)
+                    .buffer(1)
+                    .executor(executor)
+                    .build();
+
+            final Collector<String> collector = new Collector<>(0);
+
+            processor.subscribe(collector);
+
+            final Source source = new Source(1_000);
+
+            source.subscribe(processor);
+
+            TimeUnit.MILLISECONDS.sleep(200);
+
+            Assertions.assertTrue(source.requested.get() <= 4, () -> "solicitados " + source.requested.get());
+
+            Assertions.assertTrue(collector.contracts.isEmpty());
+
+            collector.subscription.request(Long.MAX_VALUE);
+
+            final List<String> contracts = collector.completion.join();
+
+            Assertions.assertEquals(1_000, contracts.size());
+
+            Assertions.assertEquals(new TreeSet<>(IntStream.range(0, 1_000).boxed().map(plan).collect(Collectors.toList())), new TreeSet<>(contracts));
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    @Test
+    @DisplayName("Assinante lento deve limitar a demanda sem bloquear as threads do executor")
+    void slowSubscriberShouldNotBlockExecutor() throws InterruptedException {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+
+            final ActivityProcessor<Integer, String> processor = ActivityProcessor
+                    .of(plan)
+                    .concurrency(2)
+                    .buffer(4)
+                    .executor(executor)
+                    .build();
+
+            final Collector<String> fast = new Collector<>(Long.MAX_VALUE);
+
+            final Collector<String> slow = new Collector<>(1);
+
+            processor.subscribe(fast);
+
+            processor.subscribe(slow);
+
+            final Source source = new Source(100);
+
+            source.subscribe(processor);
+
+            TimeUnit.MILLISECONDS.sleep(200);
+
+            Assertions.assertEquals(1, source.requested.get());
+
+            Assertions.assertEquals(1, fast.contracts.size());
+
+            Assertions.assertEquals(1, slow.contracts.size());
+
+            Assertions.assertDoesNotThrow(() -> CompletableFuture.runAsync(() -> { }, executor).get(1, TimeUnit.SECONDS));
+
+            slow.subscription.request(Long.MAX_VALUE);
+
+            Assertions.assertEquals(100, fast.completion.join().size());
+
+            Assertions.assertEquals(100, slow.completion.join().size());
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    @Test
+    @DisplayName("Itens não devem ser solicitados nem descartados sem assinantes")
+    void processorWithoutSubscribersShouldNotRequest() throws InterruptedException {
+
+        final ActivityProcessor<Integer, String> processor = ActivityProcessor.of(plan).build();
+
+        final Source source = new Source(10);
+
+        source.subscribe(processor);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        Assertions.assertEquals(0, source.requested.get());
+
+        final Collector<String> collector = new Collector<>(Long.MAX_VALUE);
+
+        processor.subscribe(collector);
+
+        Assertions.assertEquals(IntStream.range(0, 10).boxed().map(plan).collect(Collectors.toList()), collector.completion.join());
+
+    }
+
+    @Test
+    @DisplayName("Exceção do plano deve cancelar a assinatura e encerrar os assinantes com onError")
+    void exceptionShouldCancelUpstreamAndSignalError() throws InterruptedException {
+
+        final ActivityPlan<String, Integer> failing = Activity
+                .contract("contract")
+                .<Integer>define()
+                .action(integer -> {
+                    if (integer == 3) throw new IllegalStateException("falha");
+                    return integer;
+                })
+                .exit(String::valueOf);
+
+        final ActivityProcessor<Integer, String> processor = ActivityProcessor.of(failing).build();
+
+        final Collector<String> collector = new Collector<>(Long.MAX_VALUE);
+
+        processor.subscribe(collector);
+
+        final Source source = new Source(100);
+
+        source.subscribe(processor);
+
+        final Throwable throwable = Assertions.assertThrows(Exception.class, collector.completion::join);
+
+        Assertions.assertTrue(throwable.getCause() instanceof IllegalStateException);
+
+        Assertions.assertTrue(source.cancelled.await(5, TimeUnit.SECONDS));
+
+    }
+
+    @Test
+    @DisplayName("Erro do publicador deve ser propagado aos assinantes")
+    void upstreamErrorShouldBePropagated() {
+
+        final ActivityProcessor<Integer, String> processor = ActivityProcessor.of(plan).build();
+
+        final Collector<String> collector = new Collector<>(Long.MAX_VALUE);
+
+        processor.subscribe(collector);
+
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            publisher.closeExceptionally(new IllegalArgumentException("upstream"));
+        }
+
+        final Throwable throwable = Assertions.assertThrows(Exception.class, collector.completion::join);
+
+        Assertions.assertTrue(throwable.getCause() instanceof IllegalArgumentException);
+
+    }
+
+    @Test
+    @DisplayName("Canal de publicação deve entregar os commits do plano aos assinantes")
+    void publisherChannelShouldDeliverCommits() {
+
+        final PublisherChannel<Integer> channel = PublisherChannel.create();
+
+        final Collector<Integer> collector = new Collector<>(Long.MAX_VALUE);
+
+        channel.subscribe(collector);
+
+        Assertions.assertEquals(1, channel.subscribers());
+
+        final ActivityPlan<String, Integer> committing = Activity
+                .contract("odd")
+                .<Integer>define()
+                .decision(integer -> integer % 2 == 0)
+                .channel(channel)
+                .exit(String::valueOf);
+
+        final ActivityProcessor<Integer, String> processor = ActivityProcessor.of(committing).build();
+
+        final Collector<String> contracts = new Collector<>(Long.MAX_VALUE);
+
+        processor.subscribe(contracts);
+
+        publish(processor, 10);
+
+        Assertions.assertEquals(10, contracts.completion.join().size());
+
+        channel.close();
+
+        Assertions.assertEquals(List.of(0, 2, 4, 6, 8), collector.completion.join());
+
+    }
+
+    @Test
+    @DisplayName("Canal de publicação não deve aguardar demanda e deve contar as mensagens descartadas")
+    void publisherChannelShouldCountDroppedCommits() {
+
+        final PublisherChannel<Integer> channel = PublisherChannel.create(Runnable::run, 1);
+
+        IntStream.range(0, 3).forEach(channel::commit);
+
+        Assertions.assertEquals(3, channel.dropped());
+
+        final Collector<Integer> idle = new Collector<>(0);
+
+        channel.subscribe(idle);
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> IntStream.range(0, 100).forEach(channel::commit));
+
+        Assertions.assertTrue(channel.dropped() > 3);
+
+        Assertions.assertEquals(100 + 3, channel.dropped() + channel.lag());
+
+        channel.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> channel.commit(0));
+
+    }
+
+    private static void publish(final Flow.Subscriber<Integer> subscriber, final int size) {
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(subscriber);
+            IntStream.range(0, size).forEach(publisher::submit);
+        }
+    }
+
+    private static final class Source implements Flow.Publisher<Integer> {
+
+        private Source(final int size) {
+            this.size = size;
+        }
+
+        private final int size;
+
+        private final AtomicInteger requested = new AtomicInteger();
+
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Integer> subscriber) {
+
+            final AtomicInteger emitted = new AtomicInteger();
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public synchronized void request(final long n) {
+
+                    requested.addAndGet((int) n);
+
+                    for (long i = 0; i < n && cancelled.getCount() > 0; i++) {
+
+                        final int next = emitted.getAndIncrement();
+
+                        if (next >= size) return;
+
+                        subscriber.onNext(next);
+
+                        if (next == size - 1) subscriber.onComplete();
+
+                    }
+
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.countDown();
+                }
+
+            });
+
+        }
+
+    }
+
+    private static final class Collector<T> implements Flow.Subscriber<T> {
+
+        private Collector(final long initial) {
+            this.initial = initial;
+        }
+
+        private final long initial;
+
+        private final List<T> contracts = new CopyOnWriteArrayList<>();
+
+        private final CompletableFuture<List<T>> completion = new CompletableFuture<>();
+
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initial > 0) subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(final T item) {
+            contracts.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(new ArrayList<>(contracts));
+        }
+
+    }
+
+}